@@ -0,0 +1,124 @@
+package com.fatec.back.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fatec.back.PiBackApplication;
+import com.fatec.back.domain.Caregiver.Caregiver;
+import com.fatec.back.domain.Have.Have;
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.Medication.Medication;
+import com.fatec.back.domain.Patient.Patient;
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.User.User;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Contexto da aplicação para os benchmarks que acessam o banco, sobre o H2 em memória do perfil
+ * {@code test} ({@code application-test.properties}), sem servidor web.
+ *
+ * <p>
+ * {@link #seed(ConfigurableApplicationContext, int)} cadastra um cuidador responsável por {@code patients}
+ * pacientes, cada um com uma prescrição vigente e {@link #HISTORIES_PER_PRESCRIPTION} históricos, de forma que
+ * as consultas e as respostas medidas tenham o tamanho de uma página típica.
+ * </p>
+ */
+final class EmbeddedContext {
+    static final int HISTORIES_PER_PRESCRIPTION = 10;
+
+    private EmbeddedContext() {
+    }
+
+    /**
+     * Inicia a aplicação com o perfil {@code test}.
+     */
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(PiBackApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.main.banner-mode=off",
+                            "spring.jpa.properties.hibernate.generate_statistics=false",
+                            "logging.level.root=ERROR")
+                .run();
+    }
+
+    /**
+     * Cadastra os dados dos benchmarks.
+     *
+     * @param context O contexto iniciado por {@link #start()}.
+     * @param patients Quantidade de pacientes do cuidador.
+     * @return Os registros cadastrados usados pelos benchmarks.
+     */
+    static Seed seed(ConfigurableApplicationContext context, int patients) {
+        EntityManager em = context.getBean(EntityManager.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        return transaction.execute(status -> {
+            Role role = new Role("admin", "Administrador");
+            em.persist(role);
+            User admin = new User("admin@vital.com", "hash", "Admin", role);
+            em.persist(admin);
+
+            User caregiverUser = new User("caregiver@vital.com", "hash", "Cuidador", role);
+            em.persist(caregiverUser);
+            Caregiver caregiver = new Caregiver("Filho");
+            caregiver.setUser(caregiverUser);
+            caregiver.setCreated_by(admin);
+            caregiver.setUpdated_by(admin);
+            em.persist(caregiver);
+
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i < patients; i++) {
+                User patientUser = new User("patient" + i + "@vital.com", "hash", "Paciente " + i, role);
+                em.persist(patientUser);
+                Patient patient = new Patient(LocalDate.of(1950, 1, 1), "Condição " + i);
+                patient.setUser(patientUser);
+                patient.setCreated_by(admin);
+                patient.setUpdated_by(caregiverUser);
+                em.persist(patient);
+
+                Have have = new Have(today.minusDays(30), today.plusDays(30), patient, caregiver);
+                have.setCreatedBy(caregiverUser);
+                have.setUpdatedBy(caregiverUser);
+                em.persist(have);
+
+                Medication medication = new Medication("Medicamento " + i, "Função " + i);
+                medication.setCreatedBy(admin);
+                medication.setUpdatedBy(admin);
+                em.persist(medication);
+
+                RelationMP relationMP = new RelationMP(1, 8, RelationMP.FrequencyUnit.HOURS, 90, medication, patient,
+                        today.minusDays(10), today.plusDays(20));
+                relationMP.setCreatedBy(caregiverUser);
+                relationMP.setUpdatedBy(caregiverUser);
+                em.persist(relationMP);
+
+                LocalDateTime takedAt = LocalDateTime.now().minusHours(8L * HISTORIES_PER_PRESCRIPTION);
+                for (int h = 0; h < HISTORIES_PER_PRESCRIPTION; h++) {
+                    History history = new History(true, takedAt.plusHours(8L * h));
+                    history.setRelationMP(relationMP);
+                    history.setCreatedBy(caregiverUser);
+                    history.setUpdatedBy(caregiverUser);
+                    em.persist(history);
+                }
+            }
+            return new Seed(admin, caregiver.getId());
+        });
+    }
+
+    /**
+     * Registros cadastrados por {@link EmbeddedContext#seed(ConfigurableApplicationContext, int)}.
+     *
+     * @param user Usuário usado na autenticação.
+     * @param caregiverId ID do cuidador com os pacientes.
+     */
+    record Seed(User user, Long caregiverId) {
+    }
+}
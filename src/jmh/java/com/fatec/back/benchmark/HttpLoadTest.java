@@ -0,0 +1,106 @@
+package com.fatec.back.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga HTTP em laço fechado, para comparar o modo de threads virtuais
+ * ({@code spring.threads.virtual.enabled}) com o pool de threads de plataforma do Tomcat.
+ *
+ * <p>
+ * Cada cliente (uma thread virtual) envia uma requisição, aguarda a resposta e envia a próxima, até o
+ * fim do tempo de medição. Ao final são exibidos a vazão, a quantidade de erros e os percentis de latência.
+ * Execução, com a aplicação em execução:
+ * </p>
+ * <pre>
+ * ./mvnw -Pjmh test-compile exec:exec -Dbenchmark.main=com.fatec.back.benchmark.HttpLoadTest \
+ *     -Djmh.args="http://localhost:8080/history 500 30 TOKEN"
+ * </pre>
+ * <p>
+ * Argumentos: URL, quantidade de clientes simultâneos (padrão 200), duração em segundos (padrão 30) e,
+ * opcionalmente, o token JWT enviado no cabeçalho {@code Authorization}. Os primeiros 5 segundos são
+ * descartados como aquecimento: as requisições enviadas neles não entram na latência nem nos erros.
+ * </p>
+ */
+public final class HttpLoadTest {
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+
+    private HttpLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args[0]);
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        String token = args.length > 3 ? args[3] : null;
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = builder.build();
+
+        AtomicLong errors = new AtomicLong();
+        long[][] samples = new long[clients][];
+        long start = System.nanoTime();
+        long measureFrom = start + WARMUP.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                int index = i;
+                executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    for (long sent = System.nanoTime(); sent < end; sent = System.nanoTime()) {
+                        boolean failed;
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            failed = response.statusCode() >= 400;
+                        } catch (Exception e) {
+                            failed = true;
+                        }
+                        long received = System.nanoTime();
+                        if (sent >= measureFrom && received <= end) {
+                            if (failed) {
+                                errors.incrementAndGet();
+                            }
+                            if (count == latencies.length) {
+                                latencies = Arrays.copyOf(latencies, count * 2);
+                            }
+                            latencies[count++] = received - sent;
+                        }
+                    }
+                    samples[index] = Arrays.copyOf(latencies, count);
+                    return null;
+                });
+            }
+        }
+
+        long[] all = Arrays.stream(samples).flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(all);
+
+        System.out.printf("url=%s clients=%d duration=%ds%n", uri, clients, duration.toSeconds());
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                all.length, errors.get(), all.length / (double) duration.toSeconds());
+        System.out.printf("p50=%.2fms p90=%.2fms p99=%.2fms p999=%.2fms max=%.2fms%n",
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+                percentile(all, 0.999), all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,89 @@
+package com.fatec.back.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fatec.back.domain.Caregiver.CaregiverDashboardDTO;
+import com.fatec.back.domain.History.HistoryResponseDTO;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
+import com.fatec.back.domain.RelationMP.RelationMPResponseDTO;
+import com.fatec.back.service.CaregiverService;
+import com.fatec.back.service.HistoryService;
+import com.fatec.back.service.RelationMPService;
+
+/**
+ * Benchmark da serialização em JSON das respostas dos controladores, com o {@link ObjectMapper}
+ * configurado pela aplicação. As respostas são carregadas uma única vez do banco (H2 em memória, ver
+ * {@link EmbeddedContext}), de forma que apenas a serialização é medida.
+ *
+ * Execução: {@code ./mvnw -Pjmh test-compile exec:exec -Djmh.args="JsonSerializationBenchmark"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+    private ConfigurableApplicationContext context;
+    private ObjectMapper mapper;
+    private CursorPage<HistoryResponseDTO> historyPage;
+    private CursorPage<RelationMPResponseDTO> relationMPPage;
+    private CaregiverDashboardDTO dashboard;
+
+    @Setup
+    public void setup() {
+        context = EmbeddedContext.start();
+        EmbeddedContext.Seed seed = EmbeddedContext.seed(context, PageQuery.DEFAULT_LIMIT);
+        mapper = context.getBean(ObjectMapper.class);
+
+        PageQuery firstPage = new PageQuery(null, PageQuery.DEFAULT_LIMIT, null, null, null);
+        historyPage = context.getBean(HistoryService.class).getHistoryPage(firstPage);
+        relationMPPage = context.getBean(RelationMPService.class).getRelationMPPage(firstPage);
+        dashboard = context.getBean(CaregiverService.class).getDashboard(seed.caregiverId()).orElseThrow();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Página de históricos ({@code GET /history}).
+     */
+    @Benchmark
+    public byte[] historyPage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(historyPage);
+    }
+
+    /**
+     * Página de prescrições ({@code GET /relation_mp}).
+     */
+    @Benchmark
+    public byte[] relationMPPage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(relationMPPage);
+    }
+
+    /**
+     * Painel do cuidador ({@code GET /caregiver/{id}/dashboard}).
+     */
+    @Benchmark
+    public byte[] caregiverDashboard() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(dashboard);
+    }
+}
@@ -0,0 +1,85 @@
+package com.fatec.back.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
+import com.fatec.back.domain.RelationMP.RelationMP.FrequencyUnit;
+import com.fatec.back.domain.RelationMP.RelationMPResponseDTO;
+import com.fatec.back.service.RelationMPService;
+
+/**
+ * Benchmark do {@link RelationMPService}: o cálculo da quantidade total de doses, feito a cada criação
+ * e alteração de prescrição, e a listagem paginada de prescrições sobre o banco (H2 em memória, ver
+ * {@link EmbeddedContext}).
+ *
+ * Execução: {@code ./mvnw -Pjmh test-compile exec:exec -Djmh.args="RelationMPServiceBenchmark"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RelationMPServiceBenchmark {
+    private ConfigurableApplicationContext context;
+    private RelationMPService relationMPService;
+    private PageQuery firstPage;
+
+    @Setup
+    public void setup() {
+        context = EmbeddedContext.start();
+        EmbeddedContext.seed(context, PageQuery.DEFAULT_LIMIT);
+        relationMPService = context.getBean(RelationMPService.class);
+        firstPage = new PageQuery(null, PageQuery.DEFAULT_LIMIT, null, null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Quantidade total de doses de uma prescrição de 90 dias.
+     */
+    @Benchmark
+    public int totalDosage(Prescription prescription) {
+        return RelationMPService.totalDosage(prescription.startDate, prescription.endDate,
+                prescription.frequencyUnit, 8, 1);
+    }
+
+    /**
+     * Primeira página da listagem de prescrições ({@code GET /relation_mp}).
+     */
+    @Benchmark
+    public CursorPage<RelationMPResponseDTO> relationMPPage() {
+        return relationMPService.getRelationMPPage(firstPage);
+    }
+
+    /**
+     * Período e unidade da frequência da prescrição usada no cálculo das doses.
+     */
+    @State(Scope.Thread)
+    public static class Prescription {
+        @Param({ "HOURS", "DAYS", "WEEKS" })
+        private FrequencyUnit frequencyUnit;
+
+        private final LocalDate startDate = LocalDate.of(2025, 1, 1);
+        private final LocalDate endDate = startDate.plusDays(89);
+    }
+}
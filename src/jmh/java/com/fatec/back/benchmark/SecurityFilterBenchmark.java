@@ -0,0 +1,91 @@
+package com.fatec.back.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fatec.back.security.PrincipalCache;
+import com.fatec.back.security.SecurityFilter;
+import com.fatec.back.service.TokenService;
+
+/**
+ * Benchmark do {@link SecurityFilter} de ponta a ponta: leitura do cabeçalho, validação do token,
+ * consulta à lista de revogação e carga do usuário, até a autenticação no {@link SecurityContextHolder}.
+ * <p>
+ * O caso {@code cachedPrincipal} mede o caminho comum, com o usuário no {@link PrincipalCache}; o caso
+ * {@code uncachedPrincipal} remove o usuário do cache a cada chamada, de forma que o usuário é carregado do banco
+ * (H2 em memória, ver {@link EmbeddedContext}).
+ * </p>
+ *
+ * Execução: {@code ./mvnw -Pjmh test-compile exec:exec -Djmh.args="SecurityFilterBenchmark"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityFilterBenchmark {
+    private ConfigurableApplicationContext context;
+    private SecurityFilter filter;
+    private PrincipalCache principalCache;
+    private String email;
+    private String authorization;
+
+    @Setup
+    public void setup() {
+        context = EmbeddedContext.start();
+        EmbeddedContext.Seed seed = EmbeddedContext.seed(context, 1);
+        filter = context.getBean(SecurityFilter.class);
+        principalCache = context.getBean(PrincipalCache.class);
+        email = seed.user().getEmail();
+        authorization = "Bearer " + context.getBean(TokenService.class).generateToken(seed.user());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Requisição autenticada com o usuário já em cache.
+     */
+    @Benchmark
+    public Authentication cachedPrincipal() throws Exception {
+        return authenticate();
+    }
+
+    /**
+     * Requisição autenticada com o usuário carregado do banco.
+     */
+    @Benchmark
+    public Authentication uncachedPrincipal() throws Exception {
+        principalCache.invalidate(email);
+        return authenticate();
+    }
+
+    private Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/history");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,95 @@
+package com.fatec.back.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.User.User;
+import com.fatec.back.service.TokenService;
+
+/**
+ * Benchmark da geração e da validação de tokens JWT.
+ * <p>
+ * Compara a validação antiga, que recriava o {@link Algorithm} e o {@link JWTVerifier} a cada chamada,
+ * com o verificador compartilhado e com o {@link TokenService#validateToken(String)}, que também usa
+ * o cache de tokens verificados.
+ * </p>
+ *
+ * Execução: {@code ./mvnw -Pjmh test-compile exec:exec -Djmh.args="TokenServiceBenchmark"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    private TokenService tokenService;
+    private JWTVerifier sharedVerifier;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        tokenService = new TokenService(SECRET, 10_000, false, Duration.ofHours(2), Duration.ofMinutes(15));
+        sharedVerifier = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer("auth-api").build();
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("benchmark@vital.com");
+        user.setRole(new Role("admin", "Administrador"));
+        token = tokenService.generateToken(user);
+    }
+
+    /**
+     * Geração de um token ({@code POST /auth/login}).
+     */
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    /**
+     * Validação como era feita antes: algoritmo e verificador criados a cada chamada.
+     */
+    @Benchmark
+    public String rebuildVerifierPerCall() {
+        return JWT.require(Algorithm.HMAC256(SECRET))
+                    .withIssuer("auth-api")
+                    .build()
+                    .verify(token)
+                    .getSubject();
+    }
+
+    /**
+     * Validação com o verificador pré-construído, sem cache.
+     */
+    @Benchmark
+    public String sharedVerifier() {
+        return sharedVerifier.verify(token).getSubject();
+    }
+
+    /**
+     * Validação pelo {@link TokenService}, com verificador compartilhado e cache de tokens verificados.
+     */
+    @Benchmark
+    public String tokenServiceCached() {
+        return tokenService.validateToken(token);
+    }
+}
@@ -2,6 +2,7 @@ package com.fatec.back;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.github.cdimascio.dotenv.Dotenv;
 
@@ -27,6 +28,7 @@ import io.github.cdimascio.dotenv.Dotenv;
  * </p>
  */
 @SpringBootApplication
+@EnableScheduling
 public class PiBackApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,39 @@
+package com.fatec.back.cache;
+
+import java.util.List;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * Nomes das regiões do cache de segundo nível do Hibernate, usados nas anotações
+ * {@code @Cache} das entidades e nas dicas de cache das consultas dos repositórios.
+ *
+ * <p>
+ * Cada região é criada pela {@link SecondLevelCacheConfiguration} com o tamanho e o tempo de expiração
+ * configurados em {@code api.cache.<região>.max-size} e {@code api.cache.<região>.ttl}.
+ * </p>
+ */
+public final class CacheRegions {
+    public static final String MEDICATION = "medication";
+    public static final String ROLE = "role";
+    public static final String PATIENT = "patient";
+    public static final String CAREGIVER = "caregiver";
+
+    /** Resultados das consultas de busca por ID e de páginas das entidades cacheadas. */
+    public static final String LOOKUP = "lookup";
+
+    /** Regiões com tamanho e expiração configuráveis. */
+    static final List<String> CONFIGURED = List.of(MEDICATION, ROLE, PATIENT, CAREGIVER, LOOKUP);
+
+    /** Região padrão dos resultados de consultas, usada pelas consultas cacheadas sem região informada. */
+    static final String DEFAULT_QUERY_RESULTS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    /**
+     * Região com o horário da última alteração de cada tabela, usada para descartar os resultados de
+     * consultas anteriores a ela. Não expira, para que um resultado nunca sobreviva à sua invalidação.
+     */
+    static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    private CacheRegions() {
+    }
+}
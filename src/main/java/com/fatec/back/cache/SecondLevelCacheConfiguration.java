@@ -0,0 +1,120 @@
+package com.fatec.back.cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Configuração do cache de segundo nível do Hibernate, mantido em memória pelo Caffeine (JCache).
+ *
+ * <p>
+ * As entidades lidas com muito mais frequência do que são alteradas ({@code Medication}, {@code Role},
+ * {@code Patient} e {@code Caregiver}) são cacheadas com a estratégia {@code READ_WRITE}: as alterações
+ * feitas pelo Hibernate atualizam o cache na confirmação da transação, e as demais instâncias só enxergam a
+ * alteração depois que a sua cópia expira. As buscas por ID e as páginas das mesmas entidades usam o cache
+ * de consultas (região {@link CacheRegions#LOOKUP}), descartado sempre que uma das tabelas consultadas é
+ * alterada. Gravações feitas fora do Hibernate (JDBC) nessas tabelas não atualizam o cache.
+ * </p>
+ *
+ * <p>
+ * Cada região tem um tamanho máximo ({@code api.cache.<região>.max-size}) e um tempo de expiração após a
+ * gravação ({@code api.cache.<região>.ttl}). Uma região usada sem ter sido configurada aqui impede a
+ * inicialização da aplicação. O cache pode ser desligado com {@code api.cache.enabled=false}.
+ * </p>
+ *
+ * <p>
+ * Os acertos e as falhas de cada região são publicados nas métricas {@code cache.gets} (tag {@code result}),
+ * {@code cache.puts}, {@code cache.removals} e {@code cache.evictions}, com a tag {@code cache} igual ao nome da
+ * região.
+ * </p>
+ *
+ * @see CacheRegions
+ */
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+    /**
+     * Cria o gerenciador de cache com as regiões configuradas. Cada contexto da aplicação tem o seu próprio
+     * gerenciador, para que contextos na mesma JVM (como nos testes) não compartilhem regiões.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : CacheRegions.CONFIGURED) {
+            cacheManager.createCache(region, configuration(
+                    environment.getProperty("api.cache." + region + ".max-size", Long.class, 10_000L),
+                    environment.getProperty("api.cache." + region + ".ttl", Duration.class, Duration.ofMinutes(10))));
+        }
+        cacheManager.createCache(CacheRegions.DEFAULT_QUERY_RESULTS, configuration(
+                environment.getProperty("api.cache." + CacheRegions.LOOKUP + ".max-size", Long.class, 10_000L),
+                environment.getProperty("api.cache." + CacheRegions.LOOKUP + ".ttl", Duration.class, Duration.ofMinutes(10))));
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, configuration(null, null));
+        return cacheManager;
+    }
+
+    /**
+     * Guarda os valores por referência: as entradas do Hibernate já são cópias desmontadas das entidades,
+     * e a cópia por serialização do JCache só adicionaria custo a cada leitura.
+     */
+    private static CaffeineConfiguration<Object, Object> configuration(Long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maxSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+
+    /**
+     * Habilita o cache de segundo nível e o cache de consultas do Hibernate com o gerenciador criado acima.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager,
+                                                                   @Value("${api.cache.enabled:true}") boolean enabled) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    /**
+     * Publica as estatísticas de cada região do cache.
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : hibernateCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region), Tags.of("cacheManager", "hibernate"));
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.fatec.back.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fatec.back.domain.Adherence.AdherenceDaily;
+import com.fatec.back.domain.Adherence.AdherenceReportDTO;
+import com.fatec.back.service.AdherenceService;
+
+/**
+ * Controlador REST responsável pela consulta da adesão ao tratamento, a partir dos consolidados
+ * diários ({@link AdherenceDaily}).
+ *
+ * Fornece endpoints para:
+ * <ul>
+ *   <li>Consultar a adesão de um paciente em um intervalo de dias</li>
+ *   <li>Consultar a adesão de uma prescrição em um intervalo de dias</li>
+ *   <li>Reconsolidar um intervalo de dias</li>
+ * </ul>
+ *
+ * Os intervalos são informados pelos parâmetros {@code from} e {@code to} (datas ISO, inclusivas).
+ * Sem eles, são considerados os últimos {@link AdherenceService#DEFAULT_RANGE_DAYS} dias.
+ *
+ * @see AdherenceDaily
+ * @see AdherenceService
+ */
+@RestController
+@RequestMapping("/adherence")
+public class AdherenceController {
+    @Autowired
+    private AdherenceService service;
+
+    /**
+     * Retorna a adesão de um paciente, somando todas as suas prescrições.
+     *
+     * @param patientId Identificador do paciente.
+     * @param from Primeiro dia do intervalo.
+     * @param to Último dia do intervalo (padrão: hoje).
+     * @return {@link AdherenceReportDTO} com status 200 OK, ou 400 Bad Request se o intervalo
+     *         for inválido ou exceder {@link AdherenceService#MAX_RANGE_DAYS} dias.
+     */
+    @GetMapping("/patient/{patientId}")
+    public ResponseEntity<AdherenceReportDTO> getByPatient(@PathVariable Long patientId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(AdherenceService.DEFAULT_RANGE_DAYS - 1L);
+        if (!AdherenceService.isValidRange(start, end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.getPatientAdherence(patientId, start, end));
+    }
+
+    /**
+     * Retorna a adesão de uma prescrição.
+     *
+     * @param relationMPId Identificador da prescrição.
+     * @param from Primeiro dia do intervalo.
+     * @param to Último dia do intervalo (padrão: hoje).
+     * @return {@link AdherenceReportDTO} com status 200 OK, ou 400 Bad Request se o intervalo
+     *         for inválido ou exceder {@link AdherenceService#MAX_RANGE_DAYS} dias.
+     */
+    @GetMapping("/relation_mp/{relationMPId}")
+    public ResponseEntity<AdherenceReportDTO> getByRelationMP(@PathVariable Long relationMPId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(AdherenceService.DEFAULT_RANGE_DAYS - 1L);
+        if (!AdherenceService.isValidRange(start, end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.getRelationMPAdherence(relationMPId, start, end));
+    }
+
+    /**
+     * Reconsolida um intervalo de dias de todas as prescrições vigentes, por exemplo para
+     * preencher os consolidados de históricos registrados antes da sua criação.
+     *
+     * @param from Primeiro dia do intervalo.
+     * @param to Último dia do intervalo.
+     * @return Status 204 No Content, ou 400 Bad Request se o intervalo for inválido ou exceder
+     *         {@link AdherenceService#MAX_RANGE_DAYS} dias.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!AdherenceService.isValidRange(from, to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        service.rebuild(from, to);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -8,32 +8,43 @@ import com.fatec.back.domain.Login.LoginResponseDTO;
 import com.fatec.back.domain.Role.Role;
 import com.fatec.back.domain.User.User;
 import com.fatec.back.domain.User.UserRequestDTO;
-import com.fatec.back.repository.RoleRepository;
+import com.fatec.back.logging.SamplingTurboFilter;
 import com.fatec.back.repository.UserRepository;
+import com.fatec.back.security.PasswordHashingExecutor;
+import com.fatec.back.security.RoleCache;
+import com.fatec.back.security.TokenRevocationList;
 import com.fatec.back.service.TokenService;
 
 import jakarta.validation.Valid;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 /**
  * Controlador responsável pela autenticação de usuários no sistema.
- * Este controlador fornece endpoints para login e registro de usuários.
+ * Este controlador fornece endpoints para login, logout e registro de usuários.
+ * As operações de hash de senha do login e do registro são executadas no {@link PasswordHashingExecutor},
+ * liberando a thread da requisição enquanto o BCrypt é calculado.
  */
     @RestController
     @RequestMapping("auth")
     public class AuthenticatonController {
+        private static final Logger log = LoggerFactory.getLogger(AuthenticatonController.class);
+
         @Autowired
         private UserRepository repository;
 
         @Autowired
-        private RoleRepository roleRepository;
+        private RoleCache roleCache;
 
         @Autowired
         private TokenService tokenService;
@@ -41,21 +52,47 @@ import org.springframework.web.bind.annotation.RequestBody;
         @Autowired
         private AuthenticationManager authenticationManager;
 
+        @Autowired
+        private TokenRevocationList revocationList;
+
+        @Autowired
+        private PasswordHashingExecutor passwordHashing;
+
         /**
          * Endpoint para login do usuário.
          * 
          * @param data Dados de login enviados pelo usuário, contendo email e senha.
          * @return Retorna um objeto LoginResponseDTO contendo o token de autenticação.
+         * @throws com.fatec.back.security.PasswordHashingSaturatedException Se o pool de hash de senhas estiver saturado (429).
          * @see LoginDTO
          */
         @PostMapping("/login")
-        public ResponseEntity<LoginResponseDTO> login(@RequestBody @Valid LoginDTO data) {
+        public CompletableFuture<ResponseEntity<LoginResponseDTO>> login(@RequestBody @Valid LoginDTO data) {
             var userPassword = new UsernamePasswordAuthenticationToken(data.email(), data.password());            
-            var auth = this.authenticationManager.authenticate(userPassword);
-            System.out.println(auth);
-            var token = tokenService.generateToken((User) auth.getPrincipal());
-            return ResponseEntity.ok(new LoginResponseDTO(token));
+            return passwordHashing.supply(() -> this.authenticationManager.authenticate(userPassword))
+                .thenApply(auth -> {
+                    User user = (User) auth.getPrincipal();
+                    log.info(SamplingTurboFilter.SAMPLED, "Login realizado: userId={}", user.getId());
+                    var token = tokenService.generateToken(user);
+                    return ResponseEntity.ok(new LoginResponseDTO(token));
+                });
+        }
 
+        /**
+         * Endpoint para logout do usuário. O token informado é revogado pelo seu {@code jti}
+         * e deixa de ser aceito até a sua expiração.
+         * 
+         * @param authorization Cabeçalho {@code Authorization} com o token a ser revogado.
+         * @return Retorna 204 se o token foi revogado, ou 401 se o token for inválido.
+         */
+        @PostMapping("/logout")
+        public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authorization) {
+            var jwt = tokenService.verify(authorization.replace("Bearer ", ""));
+            if (jwt == null) {
+                return ResponseEntity.status(401).build();
+            }
+            revocationList.revoke(jwt);
+            return ResponseEntity.noContent().build();
         }
 
         /**
@@ -65,24 +102,21 @@ import org.springframework.web.bind.annotation.RequestBody;
          *             email, nome, senha e role.
          * @return Retorna uma mensagem de sucesso ou erro, dependendo da operação.
          * @throws RuntimeException Se a role não for encontrada no banco de dados.
+         * @throws com.fatec.back.security.PasswordHashingSaturatedException Se o pool de hash de senhas estiver saturado (429).
          */
         @PostMapping("/register")
-        public ResponseEntity<String> register(@RequestBody @Valid UserRequestDTO data) {
+        public CompletableFuture<ResponseEntity<String>> register(@RequestBody @Valid UserRequestDTO data) {
             if (this.repository.findByEmail(data.email()) != null) {
-                return ResponseEntity.badRequest().body("Email já cadastrado.");
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Email já cadastrado."));
             }
 
-            // Criptografar a senha
-            String encryptedPassword = new BCryptPasswordEncoder().encode(data.password());
-
             // Buscar a role pelo ID
-            Role role = roleRepository.findById(data.role())
+            Role role = roleCache.findById(data.role())
                 .orElseThrow(() -> new RuntimeException("Role not found"));
 
             // Criar novo usuário
             User newUser = new User();
             newUser.setEmail(data.email());
-            newUser.setPassword(encryptedPassword);
             newUser.setName(data.name());
             newUser.setRole(role);
 
@@ -94,9 +128,13 @@ import org.springframework.web.bind.annotation.RequestBody;
                 });
             }
 
-            // Salvar no banco
-            repository.save(newUser);
-            return ResponseEntity.ok("Usuário registrado com sucesso.");
+            // Criptografar a senha e salvar no banco
+            return passwordHashing.encode(data.password())
+                .thenApply(encryptedPassword -> {
+                    newUser.setPassword(encryptedPassword);
+                    repository.save(newUser);
+                    return ResponseEntity.ok("Usuário registrado com sucesso.");
+                });
         }
 
 
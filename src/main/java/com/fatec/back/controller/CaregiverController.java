@@ -1,9 +1,10 @@
 package com.fatec.back.controller;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,7 +17,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fatec.back.domain.Caregiver.Caregiver;
+import com.fatec.back.domain.Caregiver.CaregiverDashboardDTO;
+import com.fatec.back.domain.Caregiver.CaregiverResponseDTO;
 import com.fatec.back.domain.Caregiver.CaregiverDTO;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.service.CaregiverService;
 
 /**
@@ -29,6 +34,7 @@ import com.fatec.back.service.CaregiverService;
  *   <li>Criar um novo relacionamento Have</li>
  *   <li>Atualizar um item Have existente</li>
  *   <li>Realizar exclusão lógica (soft delete)</li>
+ *   <li>Consultar o painel do cuidador</li>
  * </ul>
  * 
  * @author Você
@@ -39,17 +45,25 @@ import com.fatec.back.service.CaregiverService;
 @RestController
 @RequestMapping("/caregiver")
 public class CaregiverController {
+    private static final Logger log = LoggerFactory.getLogger(CaregiverController.class);
+
     @Autowired
     private CaregiverService service;
 
     /**
-     * Retorna todos os cuidadores cadastrados no sistema.
+     * Retorna os cuidadores cadastrados no sistema, paginados por cursor (keyset).
+     * <p>
+     * Aceita os parâmetros {@code cursor}, {@code limit}, {@code deleted},
+     * {@code createdFrom} e {@code createdTo}. Para buscar a próxima página,
+     * envie o {@code nextCursor} retornado como {@code cursor}.
+     * </p>
      *
-     * @return Lista de objetos {@link Caregiver} em formato de resposta HTTP 200 OK.
+     * @param query Parâmetros de paginação e filtros.
+     * @return Página de {@link Caregiver} com status HTTP 200 OK.
      */
     @GetMapping
-    public ResponseEntity<List<Caregiver>> getAll() {
-        return ResponseEntity.ok(service.getAllCaregivers());
+    public ResponseEntity<CursorPage<CaregiverResponseDTO>> getAll(PageQuery query) {
+        return ResponseEntity.ok(service.getCaregiverPage(query));
     }
 
     /**
@@ -59,12 +73,26 @@ public class CaregiverController {
      * @return O cuidador encontrado com status 200 OK, ou 404 Not Found se não existir.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Caregiver> getById(@PathVariable Long id) {
-        Optional<Caregiver> dto = service.getCaregiverById(id);
+    public ResponseEntity<CaregiverResponseDTO> getById(@PathVariable Long id) {
+        Optional<CaregiverResponseDTO> dto = service.getCaregiverById(id);
         return dto.map(ResponseEntity::ok)
                          .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Retorna o painel do cuidador: os pacientes com vínculo ativo, as suas prescrições ativas
+     * e o histórico mais recente de cada prescrição, em uma única resposta.
+     *
+     * @param id Identificador do cuidador.
+     * @return {@link CaregiverDashboardDTO} com status 200 OK, ou 404 Not Found se o cuidador não existir.
+     */
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<CaregiverDashboardDTO> getDashboard(@PathVariable Long id) {
+        return service.getDashboard(id)
+                      .map(ResponseEntity::ok)
+                      .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Cria um novo cuidador com base nos dados fornecidos.
      *
@@ -74,10 +102,10 @@ public class CaregiverController {
      * @see CaregiverDTO
      */
     @PostMapping
-    public ResponseEntity<Caregiver> create(@RequestBody CaregiverDTO dto) {
-        System.out.println(dto);
+    public ResponseEntity<CaregiverResponseDTO> create(@RequestBody CaregiverDTO dto) {
         Caregiver saved = service.createCaregiver(dto);
-        return ResponseEntity.ok(saved);
+        log.debug("Cuidador criado: id={}, userId={}", saved.getId(), dto.userId());
+        return ResponseEntity.ok(CaregiverResponseDTO.from(saved));
     }
 
     /**
@@ -90,9 +118,10 @@ public class CaregiverController {
      * @see CaregiverDTO
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<Caregiver> update(@PathVariable Long id, @RequestBody CaregiverDTO body) {
+    public ResponseEntity<CaregiverResponseDTO> update(@PathVariable Long id, @RequestBody CaregiverDTO body) {
         Optional<Caregiver> updated = service.updateCaregiver(id, body);
-        return updated.map(ResponseEntity::ok)
+        return updated.map(CaregiverResponseDTO::from)
+                      .map(ResponseEntity::ok)
                       .orElse(ResponseEntity.notFound().build());
     }
 
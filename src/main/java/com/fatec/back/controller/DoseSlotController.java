@@ -0,0 +1,78 @@
+package com.fatec.back.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fatec.back.domain.DoseSlot.DoseReminderDTO;
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+import com.fatec.back.service.DoseReminderService;
+import com.fatec.back.service.DoseScheduleService;
+
+/**
+ * Controlador REST responsável pela consulta dos horários de dose ({@link DoseSlot}).
+ *
+ * Fornece endpoints para:
+ * <ul>
+ *   <li>Listar as próximas doses de um paciente</li>
+ *   <li>Receber os lembretes de dose de um paciente ou de um cuidador por Server-Sent Events</li>
+ * </ul>
+ *
+ * @see DoseSlot
+ * @see DoseScheduleService
+ * @see DoseReminderService
+ */
+@RestController
+@RequestMapping("/dose_slot")
+public class DoseSlotController {
+    @Autowired
+    private DoseScheduleService service;
+
+    @Autowired
+    private DoseReminderService reminderService;
+
+    /**
+     * Retorna as próximas doses de um paciente, a partir do momento atual.
+     *
+     * @param patientId Identificador do paciente.
+     * @param limit Quantidade de doses desejada (padrão 10, máximo 100).
+     * @return Lista de {@link DoseSlot} ordenada pelo horário previsto, com status 200 OK.
+     */
+    @GetMapping("/patient/{patientId}")
+    public ResponseEntity<List<DoseSlot>> getUpcoming(@PathVariable Long patientId,
+                                                      @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.getUpcomingDoses(patientId, limit));
+    }
+
+    /**
+     * Abre um stream com os lembretes de dose de um paciente ({@link DoseReminderDTO}), enviados como
+     * eventos {@code dose-due} e {@code dose-missed}.
+     *
+     * @param patientId Identificador do paciente.
+     * @return O stream de eventos, encerrado após {@code api.reminder.timeout}.
+     */
+    @GetMapping(path = "/patient/{patientId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPatient(@PathVariable Long patientId) {
+        return reminderService.subscribePatient(patientId);
+    }
+
+    /**
+     * Abre um stream com os lembretes de dose ({@link DoseReminderDTO}) de todos os pacientes com vínculo ativo
+     * com o cuidador no momento da conexão.
+     *
+     * @param caregiverId Identificador do cuidador.
+     * @return O stream de eventos, encerrado após {@code api.reminder.timeout}.
+     */
+    @GetMapping(path = "/caregiver/{caregiverId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCaregiver(@PathVariable Long caregiverId) {
+        return reminderService.subscribeCaregiver(caregiverId);
+    }
+}
@@ -1,9 +1,10 @@
 package com.fatec.back.controller;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,7 +17,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fatec.back.domain.Have.Have;
+import com.fatec.back.domain.Have.HaveResponseDTO;
 import com.fatec.back.domain.Have.HaveDTO;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.service.HaveService;
 
 /**
@@ -38,17 +42,25 @@ import com.fatec.back.service.HaveService;
 @RestController
 @RequestMapping("/have")
 public class HaveController {
+    private static final Logger log = LoggerFactory.getLogger(HaveController.class);
+
     @Autowired
     private HaveService service;
 
-     /**
-     * Retorna todos os registros do tipo {@link Have}.
+    /**
+     * Retorna os registros do tipo {@link Have}, paginados por cursor (keyset).
+     * <p>
+     * Aceita os parâmetros {@code cursor}, {@code limit}, {@code deleted},
+     * {@code createdFrom} e {@code createdTo}. Para buscar a próxima página,
+     * envie o {@code nextCursor} retornado como {@code cursor}.
+     * </p>
      *
-     * @return Lista de objetos {@link Have} com status HTTP 200 OK.
+     * @param query Parâmetros de paginação e filtros.
+     * @return Página de {@link Have} com status HTTP 200 OK.
      */
     @GetMapping
-    public ResponseEntity<List<Have>> getAll() {
-        return ResponseEntity.ok(service.getAllHaves());
+    public ResponseEntity<CursorPage<HaveResponseDTO>> getAll(PageQuery query) {
+        return ResponseEntity.ok(service.getHavePage(query));
     }
 
     /**
@@ -58,8 +70,8 @@ public class HaveController {
      * @return Objeto {@link Have} com status 200 OK se encontrado, ou 404 Not Found caso não exista.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Have> getById(@PathVariable Long id) {
-        Optional<Have> dto = service.getHaveById(id);
+    public ResponseEntity<HaveResponseDTO> getById(@PathVariable Long id) {
+        Optional<HaveResponseDTO> dto = service.getHaveById(id);
         return dto.map(ResponseEntity::ok)
                          .orElse(ResponseEntity.notFound().build());
     }
@@ -73,10 +85,11 @@ public class HaveController {
      * @see HaveDTO
      */
     @PostMapping
-    public ResponseEntity<Have> create(@RequestBody HaveDTO dto) {
-        System.out.println(dto);
+    public ResponseEntity<HaveResponseDTO> create(@RequestBody HaveDTO dto) {
         Have saved = service.createHave(dto);
-        return ResponseEntity.ok(saved);
+        log.debug("Vínculo criado: id={}, patientId={}, caregiverId={}, userId={}",
+                saved.getId(), dto.patient(), dto.caregiver(), dto.userId());
+        return ResponseEntity.ok(HaveResponseDTO.from(saved));
     }
 
     /**
@@ -89,9 +102,10 @@ public class HaveController {
      * @see HaveDTO
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<Have> update(@PathVariable Long id, @RequestBody HaveDTO body) {
+    public ResponseEntity<HaveResponseDTO> update(@PathVariable Long id, @RequestBody HaveDTO body) {
         Optional<Have> updated = service.updateHave(id, body);
-        return updated.map(ResponseEntity::ok)
+        return updated.map(HaveResponseDTO::from)
+                      .map(ResponseEntity::ok)
                       .orElse(ResponseEntity.notFound().build());
     }
 
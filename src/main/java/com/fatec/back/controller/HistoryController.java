@@ -1,10 +1,15 @@
 package com.fatec.back.controller;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,12 +18,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.History.HistoryResponseDTO;
+import com.fatec.back.domain.History.HistoryBatchResultDTO;
 import com.fatec.back.domain.History.HistoryDTO;
+import com.fatec.back.domain.History.HistoryExportFormat;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
+import com.fatec.back.logging.SamplingTurboFilter;
+import com.fatec.back.service.HistoryArchiveService;
+import com.fatec.back.service.HistoryExportService;
+import com.fatec.back.service.HistoryJournal;
 import com.fatec.back.service.HistoryService;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 /**
  * Controlador REST responsável pelas operações da entidade {@link History}.
  * 
@@ -27,8 +44,11 @@ import com.fatec.back.service.HistoryService;
  *   <li>Listar todos os históricos</li>
  *   <li>Buscar histórico por ID</li>
  *   <li>Criar um novo histórico</li>
+ *   <li>Criar históricos em lote</li>
  *   <li>Atualizar um histórico existente</li>
  *   <li>Realizar exclusão lógica (soft delete)</li>
+ *   <li>Listar e buscar os históricos arquivados</li>
+ *   <li>Exportar o histórico completo de um paciente em NDJSON ou CSV</li>
  * </ul>
  * 
  * @author Você
@@ -39,17 +59,34 @@ import com.fatec.back.service.HistoryService;
 @RestController
 @RequestMapping("/history")
 public class HistoryController {
+    private static final Logger log = LoggerFactory.getLogger(HistoryController.class);
+
     @Autowired
     private HistoryService service;
 
+    @Autowired
+    private HistoryJournal journal;
+
+    @Autowired
+    private HistoryArchiveService archiveService;
+
+    @Autowired
+    private HistoryExportService exportService;
+
     /**
-     * Retorna todos os registros da entidade {@link History}.
+     * Retorna os registros da entidade {@link History}, paginados por cursor (keyset).
+     * <p>
+     * Aceita os parâmetros {@code cursor}, {@code limit}, {@code deleted},
+     * {@code createdFrom} e {@code createdTo}. Para buscar a próxima página,
+     * envie o {@code nextCursor} retornado como {@code cursor}.
+     * </p>
      *
-     * @return Lista de históricos com status HTTP 200 OK.
-    */
+     * @param query Parâmetros de paginação e filtros.
+     * @return Página de {@link History} com status HTTP 200 OK.
+     */
     @GetMapping
-    public ResponseEntity<List<History>> getAll() {
-        return ResponseEntity.ok(service.getAllHistories());
+    public ResponseEntity<CursorPage<HistoryResponseDTO>> getAll(PageQuery query) {
+        return ResponseEntity.ok(service.getHistoryPage(query));
     }
 
      /**
@@ -59,23 +96,111 @@ public class HistoryController {
      * @return Histórico correspondente com status 200 OK, ou 404 Not Found se não encontrado.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<History> getById(@PathVariable Long id) {
-        Optional<History> dto = service.getHistoryById(id);
+    public ResponseEntity<HistoryResponseDTO> getById(@PathVariable Long id) {
+        Optional<HistoryResponseDTO> dto = service.getHistoryById(id);
         return dto.map(ResponseEntity::ok)
                          .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Retorna os históricos arquivados, paginados por cursor (keyset), com os mesmos
+     * parâmetros de {@link #getAll(PageQuery)}.
+     *
+     * @param query Parâmetros de paginação e filtros.
+     * @return Página de históricos arquivados com status HTTP 200 OK.
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<CursorPage<HistoryResponseDTO>> getArchived(PageQuery query) {
+        return ResponseEntity.ok(archiveService.getArchivedHistoryPage(query));
+    }
+
+    /**
+     * Busca um histórico arquivado pelo ID original.
+     *
+     * @param id Identificador do histórico.
+     * @return Histórico arquivado com status 200 OK, ou 404 Not Found se não encontrado.
+     */
+    @GetMapping("/archive/{id}")
+    public ResponseEntity<HistoryResponseDTO> getArchivedById(@PathVariable Long id) {
+        return archiveService.getArchivedHistoryById(id).map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Exporta o histórico de medicação completo de um paciente, incluindo os históricos arquivados e os
+     * excluídos logicamente, escrevendo cada histórico diretamente na resposta à medida que é lido do banco.
+     *
+     * @param patientId Identificador do paciente.
+     * @param format Formato da exportação: {@code ndjson} (padrão) ou {@code csv}.
+     * @param response Resposta onde os históricos são escritos, como anexo.
+     * @throws IOException Se a escrita na resposta falhar.
+     */
+    @GetMapping("/patient/{patientId}/export")
+    public void export(@PathVariable Long patientId, @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        Optional<HistoryExportFormat> exportFormat = HistoryExportFormat.from(format);
+        if (exportFormat.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        response.setContentType(exportFormat.get().contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("history-patient-" + patientId + "." + exportFormat.get().extension())
+                .build()
+                .toString());
+        long rows = exportService.exportPatientHistory(patientId, exportFormat.get(), response.getOutputStream());
+        log.info("Histórico exportado: patientId={}, format={}, rows={}", patientId, exportFormat.get(), rows);
+    }
+
     /**
      * Cria um novo histórico com base nos dados recebidos.
+     * <p>
+     * Com o modo de gravação adiada ({@code api.history.write-behind.enabled}), o histórico é gravado no
+     * {@link HistoryJournal} e gravado no banco em segundo plano; a resposta não tem corpo. O usuário e a
+     * relação são verificados antes da gravação no journal, para que uma confirmação aceita não seja
+     * recusada depois.
+     * </p>
      *
      * @param dto Objeto {@link HistoryDTO} com os dados do novo histórico.
-     * @return Histórico criado com status 200 OK.
+     * @return Histórico criado com status 200 OK; no modo de gravação adiada, 202 Accepted,
+     *         400 Bad Request se {@code taked}, {@code relationMP} ou {@code userId} não forem informados,
+     *         ou 404 Not Found se o usuário ou a relação não existirem.
      */
     @PostMapping
-    public ResponseEntity<History> create(@RequestBody HistoryDTO dto) {
-        System.out.println(dto);
+    public ResponseEntity<HistoryResponseDTO> create(@RequestBody HistoryDTO dto) {
+        if (journal.isEnabled()) {
+            if (dto.taked() == null || dto.relationMP() == null || dto.userId() == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            if (!service.referencesExist(dto)) {
+                return ResponseEntity.notFound().build();
+            }
+            journal.append(dto);
+            log.info(SamplingTurboFilter.SAMPLED, "Histórico registrado no journal: relationMPId={}, taked={}",
+                    dto.relationMP(), dto.taked());
+            return ResponseEntity.accepted().build();
+        }
         History saved = service.createHistory(dto);
-        return ResponseEntity.ok(saved);
+        log.info(SamplingTurboFilter.SAMPLED, "Histórico registrado: id={}, relationMPId={}, taked={}",
+                saved.getId(), dto.relationMP(), dto.taked());
+        return ResponseEntity.ok(HistoryResponseDTO.from(saved));
+    }
+
+    /**
+     * Cria vários históricos em uma única requisição, como as confirmações de tomada
+     * acumuladas por um dispositivo que ficou offline.
+     *
+     * @param dtos Lista de {@link HistoryDTO} com os dados dos históricos.
+     * @return O resultado de cada item com status 200 OK, ou 400 Bad Request se a lista
+     *         estiver vazia ou exceder {@link HistoryService#MAX_BATCH_SIZE} itens.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<HistoryBatchResultDTO>> createBatch(@RequestBody List<HistoryDTO> dtos) {
+        if (dtos == null || dtos.isEmpty() || dtos.size() > HistoryService.MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.createHistories(dtos));
     }
 
     /**
@@ -86,9 +211,10 @@ public class HistoryController {
      * @return Histórico atualizado com status 200 OK, ou 404 Not Found se não existir.
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<History> update(@PathVariable Long id, @RequestBody HistoryDTO body) {
+    public ResponseEntity<HistoryResponseDTO> update(@PathVariable Long id, @RequestBody HistoryDTO body) {
         Optional<History> updated = service.updateHistory(id, body);
-        return updated.map(ResponseEntity::ok)
+        return updated.map(HistoryResponseDTO::from)
+                      .map(ResponseEntity::ok)
                       .orElse(ResponseEntity.notFound().build());
     }
 
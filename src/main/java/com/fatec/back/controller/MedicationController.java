@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,10 +15,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fatec.back.domain.Medication.Medication;
+import com.fatec.back.domain.Medication.MedicationResponseDTO;
 import com.fatec.back.domain.Medication.MedicationDTO;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.service.MedicationService;
 
 
@@ -26,6 +32,7 @@ import com.fatec.back.service.MedicationService;
  * Fornece endpoints para:
  * <ul>
  *   <li>Listar todos os medicamentos</li>
+ *   <li>Buscar medicamentos por nome ou função</li>
  *   <li>Buscar medicamento por ID</li>
  *   <li>Criar um novo medicamento</li>
  *   <li>Atualizar um medicamento existente</li>
@@ -40,17 +47,39 @@ import com.fatec.back.service.MedicationService;
 @RestController
 @RequestMapping("/medication")
 public class MedicationController {
+    private static final Logger log = LoggerFactory.getLogger(MedicationController.class);
+
     @Autowired
     private MedicationService service;
 
     /**
-     * Retorna todos os registros da entidade {@link Medication}.
+     * Retorna os registros da entidade {@link Medication}, paginados por cursor (keyset).
+     * <p>
+     * Aceita os parâmetros {@code cursor}, {@code limit}, {@code deleted},
+     * {@code createdFrom} e {@code createdTo}. Para buscar a próxima página,
+     * envie o {@code nextCursor} retornado como {@code cursor}.
+     * </p>
      *
-     * @return Lista de medicamentos com status HTTP 200 OK.
+     * @param query Parâmetros de paginação e filtros.
+     * @return Página de {@link Medication} com status HTTP 200 OK.
      */
     @GetMapping
-    public ResponseEntity<List<Medication>> getAll() {
-        return ResponseEntity.ok(service.getAllMedications());
+    public ResponseEntity<CursorPage<MedicationResponseDTO>> getAll(PageQuery query) {
+        return ResponseEntity.ok(service.getMedicationPage(query));
+    }
+
+    /**
+     * Busca medicamentos pelo nome ou pela função, para o preenchimento automático.
+     * A busca é feita no catálogo em memória, sem consultar o banco.
+     *
+     * @param q Termo de busca; com menos de três caracteres, é buscado como prefixo de palavra.
+     * @param limit Quantidade de resultados desejada (padrão 10, máximo 50).
+     * @return Lista de {@link MedicationResponseDTO} do mais ao menos relevante, com status 200 OK.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<MedicationResponseDTO>> search(@RequestParam String q,
+                                                              @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.searchMedications(q, limit));
     }
 
     /**
@@ -60,8 +89,8 @@ public class MedicationController {
      * @return Medicamento correspondente com status 200 OK, ou 404 Not Found se não encontrado.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Medication> getById(@PathVariable Long id) {
-        Optional<Medication> dto = service.getMedicationById(id);
+    public ResponseEntity<MedicationResponseDTO> getById(@PathVariable Long id) {
+        Optional<MedicationResponseDTO> dto = service.getMedicationById(id);
         return dto.map(ResponseEntity::ok)
                          .orElse(ResponseEntity.notFound().build());
     }
@@ -73,10 +102,10 @@ public class MedicationController {
      * @return Medicamento criado com status 200 OK.
      */
     @PostMapping
-    public ResponseEntity<Medication> create(@RequestBody MedicationDTO dto) {
-        System.out.println(dto);
+    public ResponseEntity<MedicationResponseDTO> create(@RequestBody MedicationDTO dto) {
         Medication saved = service.createMedication(dto);
-        return ResponseEntity.ok(saved);
+        log.debug("Medicamento criado: id={}, userId={}", saved.getId(), dto.userId());
+        return ResponseEntity.ok(MedicationResponseDTO.from(saved));
     }
 
      /**
@@ -87,9 +116,10 @@ public class MedicationController {
      * @return Medicamento atualizado com status 200 OK, ou 404 Not Found se não existir.
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<Medication> update(@PathVariable Long id, @RequestBody MedicationDTO body) {
+    public ResponseEntity<MedicationResponseDTO> update(@PathVariable Long id, @RequestBody MedicationDTO body) {
         Optional<Medication> updated = service.updateMedication(id, body);
-        return updated.map(ResponseEntity::ok)
+        return updated.map(MedicationResponseDTO::from)
+                      .map(ResponseEntity::ok)
                       .orElse(ResponseEntity.notFound().build());
     }
 
@@ -0,0 +1,69 @@
+package com.fatec.back.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fatec.back.domain.MissedDose.MissedDose;
+import com.fatec.back.domain.MissedDose.MissedDoseResponseDTO;
+import com.fatec.back.service.MissedDoseService;
+
+/**
+ * Controlador REST responsável pela consulta das doses perdidas ({@link MissedDose}).
+ *
+ * Fornece endpoints para:
+ * <ul>
+ *   <li>Listar as doses perdidas de um paciente</li>
+ *   <li>Listar as doses perdidas dos pacientes vinculados a um cuidador</li>
+ * </ul>
+ *
+ * As doses são retornadas da mais recente para a mais antiga, a partir do parâmetro {@code since}
+ * (data/hora ISO, padrão: as últimas 24 horas).
+ *
+ * @see MissedDose
+ * @see MissedDoseService
+ */
+@RestController
+@RequestMapping("/missed_dose")
+public class MissedDoseController {
+    @Autowired
+    private MissedDoseService service;
+
+    /**
+     * Retorna as doses perdidas de um paciente.
+     *
+     * @param patientId Identificador do paciente.
+     * @param since Data/hora mínima das doses.
+     * @param limit Quantidade de doses desejada (padrão 20, máximo 100).
+     * @return Lista de {@link MissedDoseResponseDTO} com status 200 OK.
+     */
+    @GetMapping("/patient/{patientId}")
+    public ResponseEntity<List<MissedDoseResponseDTO>> getByPatient(@PathVariable Long patientId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.getByPatient(patientId, since != null ? since : LocalDateTime.now().minusDays(1), limit));
+    }
+
+    /**
+     * Retorna as doses perdidas dos pacientes com vínculo ativo com o cuidador.
+     *
+     * @param caregiverId Identificador do cuidador.
+     * @param since Data/hora mínima das doses.
+     * @param limit Quantidade de doses desejada (padrão 20, máximo 100).
+     * @return Lista de {@link MissedDoseResponseDTO} com status 200 OK.
+     */
+    @GetMapping("/caregiver/{caregiverId}")
+    public ResponseEntity<List<MissedDoseResponseDTO>> getByCaregiver(@PathVariable Long caregiverId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.getByCaregiver(caregiverId, since != null ? since : LocalDateTime.now().minusDays(1), limit));
+    }
+}
@@ -1,9 +1,10 @@
 package com.fatec.back.controller;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,7 +16,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.Patient.Patient;
+import com.fatec.back.domain.Patient.PatientResponseDTO;
 import com.fatec.back.domain.Patient.PatientDTO;
 import com.fatec.back.service.PatientService;
 
@@ -39,17 +43,25 @@ import com.fatec.back.service.PatientService;
 @RestController
 @RequestMapping("/patient")
 public class PatientController {
+    private static final Logger log = LoggerFactory.getLogger(PatientController.class);
+
     @Autowired
     private PatientService service;
 
-     /**
-     * Retorna todos os pacientes cadastrados.
+    /**
+     * Retorna os pacientes cadastrados, paginados por cursor (keyset).
+     * <p>
+     * Aceita os parâmetros {@code cursor}, {@code limit}, {@code deleted},
+     * {@code createdFrom} e {@code createdTo}. Para buscar a próxima página,
+     * envie o {@code nextCursor} retornado como {@code cursor}.
+     * </p>
      *
-     * @return Lista de {@link Patient} com status 200 OK.
+     * @param query Parâmetros de paginação e filtros.
+     * @return Página de {@link Patient} com status HTTP 200 OK.
      */
     @GetMapping
-    public ResponseEntity<List<Patient>> getAll() {
-        return ResponseEntity.ok(service.getAllPatients());
+    public ResponseEntity<CursorPage<PatientResponseDTO>> getAll(PageQuery query) {
+        return ResponseEntity.ok(service.getPatientPage(query));
     }
 
     /**
@@ -59,8 +71,8 @@ public class PatientController {
      * @return {@link Patient} com status 200 OK, ou 404 Not Found se não encontrado.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Patient> getById(@PathVariable Long id) {
-        Optional<Patient> dto = service.getPatientById(id);
+    public ResponseEntity<PatientResponseDTO> getById(@PathVariable Long id) {
+        Optional<PatientResponseDTO> dto = service.getPatientById(id);
         return dto.map(ResponseEntity::ok)
                          .orElse(ResponseEntity.notFound().build());
     }
@@ -72,10 +84,10 @@ public class PatientController {
      * @return Paciente criado com status 200 OK.
      */
     @PostMapping
-    public ResponseEntity<Patient> create(@RequestBody PatientDTO dto) {
-        System.out.println(dto);
+    public ResponseEntity<PatientResponseDTO> create(@RequestBody PatientDTO dto) {
         Patient saved = service.createPatient(dto);
-        return ResponseEntity.ok(saved);
+        log.debug("Paciente criado: id={}, userId={}", saved.getId(), dto.userId());
+        return ResponseEntity.ok(PatientResponseDTO.from(saved));
     }
 
     /**
@@ -86,9 +98,10 @@ public class PatientController {
      * @return Paciente atualizado com status 200 OK, ou 404 Not Found se não existir.
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<Patient> update(@PathVariable Long id, @RequestBody PatientDTO body) {
+    public ResponseEntity<PatientResponseDTO> update(@PathVariable Long id, @RequestBody PatientDTO body) {
         Optional<Patient> updated = service.updatePatient(id, body);
-        return updated.map(ResponseEntity::ok)
+        return updated.map(PatientResponseDTO::from)
+                      .map(ResponseEntity::ok)
                       .orElse(ResponseEntity.notFound().build());
     }
 
@@ -1,10 +1,17 @@
 package com.fatec.back.controller;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,10 +20,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.domain.RelationMP.RelationMPResponseDTO;
 import com.fatec.back.domain.RelationMP.RelationMPDTO;
+import com.fatec.back.domain.RelationMP.RelationMPImportResultDTO;
 import com.fatec.back.service.RelationMPService;
 
 /**
@@ -27,6 +40,7 @@ import com.fatec.back.service.RelationMPService;
  *   <li>Listar todas as relações</li>
  *   <li>Obter uma relação específica por ID</li>
  *   <li>Criar uma nova relação</li>
+ *   <li>Importar relações em lote, em JSON ou CSV</li>
  *   <li>Atualizar uma relação existente</li>
  *   <li>Realizar exclusão lógica (soft delete) de uma relação</li>
  * </ul>
@@ -39,17 +53,25 @@ import com.fatec.back.service.RelationMPService;
 @RestController
 @RequestMapping("/relation_mp")
 public class RelationMPController {
+    private static final Logger log = LoggerFactory.getLogger(RelationMPController.class);
+
     @Autowired
     private RelationMPService service;
 
     /**
-     * Retorna todas as relações entre medicamentos e pacientes.
+     * Retorna as relações entre medicamentos e pacientes, paginadas por cursor (keyset).
+     * <p>
+     * Aceita os parâmetros {@code cursor}, {@code limit}, {@code deleted},
+     * {@code createdFrom} e {@code createdTo}. Para buscar a próxima página,
+     * envie o {@code nextCursor} retornado como {@code cursor}.
+     * </p>
      *
-     * @return Lista de {@link RelationMP} com status 200 OK.
+     * @param query Parâmetros de paginação e filtros.
+     * @return Página de {@link RelationMP} com status HTTP 200 OK.
      */
     @GetMapping
-    public ResponseEntity<List<RelationMP>> getAll() {
-        return ResponseEntity.ok(service.getAllRelationMPs());
+    public ResponseEntity<CursorPage<RelationMPResponseDTO>> getAll(PageQuery query) {
+        return ResponseEntity.ok(service.getRelationMPPage(query));
     }
 
     /**
@@ -59,8 +81,8 @@ public class RelationMPController {
      * @return Objeto {@link RelationMP} com status 200 OK, ou 404 Not Found se não existir.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<RelationMP> getById(@PathVariable Long id) {
-        Optional<RelationMP> dto = service.getRelationMPById(id);
+    public ResponseEntity<RelationMPResponseDTO> getById(@PathVariable Long id) {
+        Optional<RelationMPResponseDTO> dto = service.getRelationMPById(id);
         return dto.map(ResponseEntity::ok)
                          .orElse(ResponseEntity.notFound().build());
     }
@@ -72,10 +94,61 @@ public class RelationMPController {
      * @return Relação criada com status 200 OK.
      */
     @PostMapping
-    public ResponseEntity<RelationMP> create(@RequestBody RelationMPDTO dto) {
-        System.out.println(dto);
+    public ResponseEntity<RelationMPResponseDTO> create(@RequestBody RelationMPDTO dto) {
         RelationMP saved = service.createRelationMP(dto);
-        return ResponseEntity.ok(saved);
+        log.debug("Prescrição criada: id={}, patientId={}, medicationId={}, userId={}",
+                saved.getId(), dto.patient(), dto.medication(), dto.userId());
+        return ResponseEntity.ok(RelationMPResponseDTO.from(saved));
+    }
+
+    /**
+     * Importa várias relações entre medicamento e paciente em uma única requisição, de forma atômica.
+     *
+     * @param dtos Lista de {@link RelationMPDTO} com os dados das relações.
+     * @return O resultado de cada item com status 200 OK se todas as relações forem criadas; 400 Bad Request
+     *         com o erro de cada item recusado, sem criar nenhuma relação, ou sem corpo se a lista estiver vazia
+     *         ou exceder {@link RelationMPService#MAX_IMPORT_SIZE} itens.
+     */
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<RelationMPImportResultDTO>> importJson(@RequestBody List<RelationMPDTO> dtos) {
+        if (dtos == null || dtos.isEmpty() || dtos.size() > RelationMPService.MAX_IMPORT_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return importResponse(service.importRelationMPs(dtos));
+    }
+
+    /**
+     * Importa relações entre medicamento e paciente a partir de um arquivo CSV enviado no campo {@code file},
+     * com cabeçalho {@code dosage,frequencyValue,frequencyUnit,medication,patient,startDate,endDate,userId}.
+     *
+     * @param file Arquivo CSV, codificado em UTF-8.
+     * @return O resultado de cada linha de dados, como em {@link #importJson(List)}; 400 Bad Request sem corpo
+     *         se o cabeçalho for inválido ou o arquivo não tiver linhas de dados ou exceder o limite.
+     * @throws IOException Se a leitura do arquivo falhar.
+     */
+    @PostMapping(path = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<RelationMPImportResultDTO>> importCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        List<RelationMPImportResultDTO> results;
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            results = service.importRelationMPsCsv(reader);
+        } catch (IllegalArgumentException e) {
+            log.debug("Importação de prescrições recusada: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        if (results.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return importResponse(results);
+    }
+
+    private ResponseEntity<List<RelationMPImportResultDTO>> importResponse(List<RelationMPImportResultDTO> results) {
+        long rejected = results.stream().filter(result -> result.error() != null).count();
+        if (rejected > 0) {
+            log.info("Importação de prescrições recusada: items={}, rejected={}", results.size(), rejected);
+            return ResponseEntity.badRequest().body(results);
+        }
+        log.info("Prescrições importadas: items={}", results.size());
+        return ResponseEntity.ok(results);
     }
 
     /**
@@ -86,9 +159,10 @@ public class RelationMPController {
      * @return Relação atualizada com status 200 OK, ou 404 Not Found se não for encontrada.
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<RelationMP> update(@PathVariable Long id, @RequestBody RelationMPDTO body) {
+    public ResponseEntity<RelationMPResponseDTO> update(@PathVariable Long id, @RequestBody RelationMPDTO body) {
         Optional<RelationMP> updated = service.updateRelationMP(id, body);
-        return updated.map(ResponseEntity::ok)
+        return updated.map(RelationMPResponseDTO::from)
+                      .map(ResponseEntity::ok)
                       .orElse(ResponseEntity.notFound().build());
     }
 
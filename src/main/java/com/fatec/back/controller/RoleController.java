@@ -1,13 +1,15 @@
 package com.fatec.back.controller;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.Role.RoleResponseDTO;
 import com.fatec.back.domain.Role.RoleDTO;
 import com.fatec.back.service.RoleService;
 
@@ -36,13 +38,19 @@ public class RoleController {
     private RoleService service;
 
     /**
-     * Retorna todos os papéis do sistema.
+     * Retorna os papéis do sistema, paginados por cursor (keyset).
+     * <p>
+     * Aceita os parâmetros {@code cursor}, {@code limit}, {@code deleted},
+     * {@code createdFrom} e {@code createdTo}. Para buscar a próxima página,
+     * envie o {@code nextCursor} retornado como {@code cursor}.
+     * </p>
      *
-     * @return Lista de {@link Role} com status 200 OK.
+     * @param query Parâmetros de paginação e filtros.
+     * @return Página de {@link Role} com status HTTP 200 OK.
      */
     @GetMapping
-    public ResponseEntity<List<Role>> getAll() {
-        return ResponseEntity.ok(service.getAllRoles());
+    public ResponseEntity<CursorPage<RoleResponseDTO>> getAll(PageQuery query) {
+        return ResponseEntity.ok(service.getRolePage(query));
     }
 
     /**
@@ -52,8 +60,8 @@ public class RoleController {
      * @return Objeto {@link Role} com status 200 OK, ou 404 Not Found se não existir.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Role> getById(@PathVariable Long id) {
-        Optional<Role> medication = service.getRoleById(id);
+    public ResponseEntity<RoleResponseDTO> getById(@PathVariable Long id) {
+        Optional<RoleResponseDTO> medication = service.getRoleById(id);
         return medication.map(ResponseEntity::ok)
                          .orElse(ResponseEntity.notFound().build());
     }
@@ -65,9 +73,9 @@ public class RoleController {
      * @return Papel criado com status 200 OK.
      */
     @PostMapping
-    public ResponseEntity<Role> create(@RequestBody RoleDTO role) {
+    public ResponseEntity<RoleResponseDTO> create(@RequestBody RoleDTO role) {
         Role saved = service.createRole(role);
-        return ResponseEntity.ok(saved);
+        return ResponseEntity.ok(RoleResponseDTO.from(saved));
     }
 
     /**
@@ -78,9 +86,10 @@ public class RoleController {
      * @return Papel atualizado com status 200 OK, ou 404 Not Found se não for encontrado.
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<Role> update(@PathVariable Long id, @RequestBody RoleDTO body) {
+    public ResponseEntity<RoleResponseDTO> update(@PathVariable Long id, @RequestBody RoleDTO body) {
         Optional<Role> updated = service.updateRole(id, body);
-        return updated.map(ResponseEntity::ok)
+        return updated.map(RoleResponseDTO::from)
+                    .map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
     }
 
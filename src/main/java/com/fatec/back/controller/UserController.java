@@ -1,6 +1,5 @@
 package com.fatec.back.controller;
 
-import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -17,7 +16,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.User.User;
+import com.fatec.back.domain.User.UserResponseDTO;
 import com.fatec.back.service.UserService;
 
 /**
@@ -43,13 +45,19 @@ public class UserController {
     private UserService service;
 
     /**
-     * Retorna todos os usuários cadastrados.
+     * Retorna os usuários cadastrados, paginados por cursor (keyset).
+     * <p>
+     * Aceita os parâmetros {@code cursor}, {@code limit}, {@code deleted},
+     * {@code createdFrom} e {@code createdTo}. Para buscar a próxima página,
+     * envie o {@code nextCursor} retornado como {@code cursor}.
+     * </p>
      *
-     * @return Lista de {@link User} com status 200 OK.
+     * @param query Parâmetros de paginação e filtros.
+     * @return Página de {@link User} com status HTTP 200 OK.
      */
     @GetMapping
-    public ResponseEntity<List<User>> getAll() {
-        return ResponseEntity.ok(service.getAllUsers());
+    public ResponseEntity<CursorPage<UserResponseDTO>> getAll(PageQuery query) {
+        return ResponseEntity.ok(service.getUserPage(query));
     }
 
     /**
@@ -59,8 +67,8 @@ public class UserController {
      * @return Objeto {@link User} com status 200 OK, ou 404 Not Found se não existir.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<User> getById(@PathVariable Long id) {
-        Optional<User> user = service.getUserById(id);
+    public ResponseEntity<UserResponseDTO> getById(@PathVariable Long id) {
+        Optional<UserResponseDTO> user = service.getUserById(id);
         return user.map(ResponseEntity::ok)
                    .orElse(ResponseEntity.notFound().build());
     }
@@ -74,10 +82,10 @@ public class UserController {
      *         ou 500 Internal Server Error em caso de erro interno.
      */
     @PatchMapping("/{id}")
-    public ResponseEntity<User> partialUpdate(@PathVariable Long id, @RequestBody Map<String, Object> updates) {
+    public ResponseEntity<UserResponseDTO> partialUpdate(@PathVariable Long id, @RequestBody Map<String, Object> updates) {
         try {
             User updatedUser = service.updateUSer(id, updates);
-            return ResponseEntity.ok(updatedUser);
+            return ResponseEntity.ok(UserResponseDTO.from(updatedUser));
         } catch (NoSuchElementException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         } catch (RuntimeException e) {
@@ -93,11 +101,12 @@ public class UserController {
      * @return Usuário com senha atualizada, ou 404 Not Found se não for encontrado.
      */
     @PutMapping("password/{id}")
-    public ResponseEntity<User> updatePassword(@PathVariable Long id, @RequestBody Map<String, Object> body) {
+    public ResponseEntity<UserResponseDTO> updatePassword(@PathVariable Long id, @RequestBody Map<String, Object> body) {
         String newPassword = (String) body.get("password");
         Long updatedBy = Long.valueOf(body.get("updated_by").toString());
         Optional<User> updatedUser = service.updatePassword(id, newPassword, updatedBy);
-        return updatedUser.map(ResponseEntity::ok)
+        return updatedUser.map(UserResponseDTO::from)
+                        .map(ResponseEntity::ok)
                         .orElse(ResponseEntity.notFound().build());
     }
 
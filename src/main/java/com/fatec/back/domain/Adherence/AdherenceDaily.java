@@ -0,0 +1,80 @@
+package com.fatec.back.domain.Adherence;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fatec.back.domain.RelationMP.RelationMP;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade que representa o consolidado diário de adesão de uma prescrição ({@link RelationMP}).
+ * <p>
+ * Cada registro guarda, para um dia, a quantidade de doses previstas pela frequência da prescrição
+ * e a quantidade de históricos com {@code taked = true} naquele dia. Os registros são mantidos de
+ * forma incremental pelo {@code AdherenceService} a cada gravação de histórico, de forma que os
+ * relatórios de adesão leem um registro por dia, sem percorrer os históricos.
+ * </p>
+ *
+ * Campos:
+ * <ul>
+ *     <li>{@code id} - Identificador único do consolidado.</li>
+ *     <li>{@code relationMPId} - ID da prescrição consolidada.</li>
+ *     <li>{@code patientId} - ID do paciente da prescrição.</li>
+ *     <li>{@code day} - Dia consolidado.</li>
+ *     <li>{@code expected} - Quantidade de doses previstas no dia.</li>
+ *     <li>{@code taken} - Quantidade de doses registradas como tomadas no dia.</li>
+ *     <li>{@code updatedAt} - Data e hora da última atualização do consolidado.</li>
+ * </ul>
+ *
+ * @see RelationMP
+ */
+@Entity
+@Table(name = "adherence_daily", uniqueConstraints = @UniqueConstraint(name = "uq_adherence_daily_relation_mp_day", columnNames = {"id_relation_mp", "rollup_day"}))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdherenceDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_adherence_daily")
+    private Long id;
+
+    @Column(name = "id_relation_mp", nullable = false)
+    private Long relationMPId;
+
+    @Column(name = "id_patient", nullable = false)
+    private Long patientId;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private Integer expected;
+
+    @Column(nullable = false)
+    private Integer taken;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public AdherenceDaily(RelationMP relationMP, LocalDate day, int expected, int taken) {
+        this.relationMPId = relationMP.getId();
+        this.patientId = relationMP.getPatient().getId();
+        this.day = day;
+        this.expected = expected;
+        this.taken = taken;
+    }
+}
@@ -0,0 +1,29 @@
+package com.fatec.back.domain.Adherence;
+
+import java.time.LocalDate;
+
+/**
+ * Adesão de um dia: doses previstas, doses tomadas e a taxa de adesão.
+ *
+ * @param day Dia consolidado.
+ * @param expected Quantidade de doses previstas.
+ * @param taken Quantidade de doses registradas como tomadas.
+ * @param rate Razão entre doses tomadas e previstas, ou {@code null} se nenhuma dose estava prevista.
+ */
+public record AdherenceDayDTO(LocalDate day, long expected, long taken, Double rate) {
+
+    public AdherenceDayDTO(LocalDate day, Long expected, Long taken) {
+        this(day, expected, taken, AdherenceDayDTO.rate(expected, taken));
+    }
+
+    /**
+     * Calcula a taxa de adesão.
+     *
+     * @param expected Quantidade de doses previstas.
+     * @param taken Quantidade de doses tomadas.
+     * @return A razão entre doses tomadas e previstas, ou {@code null} se {@code expected} for zero.
+     */
+    public static Double rate(long expected, long taken) {
+        return expected > 0 ? (double) taken / expected : null;
+    }
+}
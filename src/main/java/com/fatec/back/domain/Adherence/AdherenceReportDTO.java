@@ -0,0 +1,36 @@
+package com.fatec.back.domain.Adherence;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Relatório de adesão em um intervalo de dias, com os totais do período e o detalhamento diário.
+ *
+ * @param from Primeiro dia do intervalo (inclusivo).
+ * @param to Último dia do intervalo (inclusivo).
+ * @param expected Total de doses previstas no período.
+ * @param taken Total de doses registradas como tomadas no período.
+ * @param rate Taxa de adesão do período, ou {@code null} se nenhuma dose estava prevista.
+ * @param days Adesão de cada dia com doses previstas ou tomadas, em ordem crescente.
+ */
+public record AdherenceReportDTO(LocalDate from, LocalDate to, long expected, long taken, Double rate,
+        List<AdherenceDayDTO> days) {
+
+    /**
+     * Monta o relatório a partir da adesão de cada dia, somando os totais do período.
+     *
+     * @param from Primeiro dia do intervalo.
+     * @param to Último dia do intervalo.
+     * @param days Adesão de cada dia.
+     * @return O relatório do período.
+     */
+    public static AdherenceReportDTO of(LocalDate from, LocalDate to, List<AdherenceDayDTO> days) {
+        long expected = 0;
+        long taken = 0;
+        for (AdherenceDayDTO day : days) {
+            expected += day.expected();
+            taken += day.taken();
+        }
+        return new AdherenceReportDTO(from, to, expected, taken, AdherenceDayDTO.rate(expected, taken), days);
+    }
+}
@@ -1,5 +1,10 @@
 package com.fatec.back.domain.Caregiver;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fatec.back.cache.CacheRegions;
 import com.fatec.back.domain.User.User;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -9,6 +14,8 @@ import lombok.AllArgsConstructor;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -40,10 +47,17 @@ import org.hibernate.annotations.UpdateTimestamp;
  *     <li>{@code created_by} e {@code updated_by} - Relacionamento com {@link User}, indicando os responsáveis pela criação e atualização do registro.</li>
  * </ul>
  *
+ * <p>
+ * As instâncias são mantidas no cache de segundo nível do Hibernate (região {@link CacheRegions#CAREGIVER}).
+ * </p>
+ *
  * @see User
  */
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "caregiver")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CAREGIVER)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -53,7 +67,7 @@ public class Caregiver {
     @Column(name = "id_caregiver")
     private Long id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @MapsId
     @JoinColumn(name = "id_caregiver")
     private User user;
@@ -69,12 +83,16 @@ public class Caregiver {
     @Column(name = "updated_at")
     private LocalDateTime updated_at;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", updatable = false)
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
     private User created_by;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "updated_by")
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
     private User updated_by;
 
     @Column(nullable = false)
@@ -0,0 +1,13 @@
+package com.fatec.back.domain.Caregiver;
+
+import java.util.List;
+
+/**
+ * Painel do cuidador: os pacientes com vínculo ativo, as suas prescrições ativas e o
+ * histórico mais recente de cada prescrição.
+ *
+ * @param caregiverId ID do cuidador.
+ * @param patients Pacientes vinculados, ordenados pelo nome.
+ */
+public record CaregiverDashboardDTO(Long caregiverId, List<CaregiverDashboardPatientDTO> patients) {
+}
@@ -0,0 +1,18 @@
+package com.fatec.back.domain.Caregiver;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Paciente vinculado ao cuidador no painel, com as suas prescrições ativas.
+ *
+ * @param patientId ID do paciente.
+ * @param name Nome do paciente.
+ * @param birthday Data de nascimento do paciente.
+ * @param patientCondition Condição médica do paciente.
+ * @param linkedSince Data de início do vínculo entre o cuidador e o paciente.
+ * @param prescriptions Prescrições ativas do paciente, ordenadas pelo ID.
+ */
+public record CaregiverDashboardPatientDTO(Long patientId, String name, LocalDate birthday, String patientCondition,
+        LocalDate linkedSince, List<CaregiverDashboardPrescriptionDTO> prescriptions) {
+}
@@ -0,0 +1,24 @@
+package com.fatec.back.domain.Caregiver;
+
+import java.time.LocalDate;
+
+import com.fatec.back.domain.History.HistoryResponseDTO;
+import com.fatec.back.domain.RelationMP.RelationMP;
+
+/**
+ * Prescrição ativa de um paciente no painel do cuidador, com o registro de histórico mais recente.
+ *
+ * @param relationMPId ID da prescrição.
+ * @param medicationId ID do medicamento.
+ * @param medicationName Nome do medicamento.
+ * @param dosage Quantidade de medicamento por dose.
+ * @param frequencyValue Intervalo entre doses.
+ * @param frequencyUnit Unidade do intervalo entre doses.
+ * @param startDate Início da prescrição.
+ * @param endDate Término da prescrição.
+ * @param lastHistory Histórico mais recente da prescrição, ou {@code null} se não houver.
+ */
+public record CaregiverDashboardPrescriptionDTO(Long relationMPId, Long medicationId, String medicationName, Integer dosage,
+        Integer frequencyValue, RelationMP.FrequencyUnit frequencyUnit, LocalDate startDate, LocalDate endDate,
+        HistoryResponseDTO lastHistory) {
+}
@@ -0,0 +1,28 @@
+package com.fatec.back.domain.Caregiver;
+
+import java.time.LocalDate;
+
+import com.fatec.back.domain.RelationMP.RelationMP;
+
+/**
+ * Linha da consulta do painel do cuidador: um paciente vinculado e uma de suas prescrições ativas.
+ * Pacientes sem prescrições ativas aparecem em uma única linha, com os campos da prescrição nulos.
+ *
+ * @param patientId ID do paciente.
+ * @param patientName Nome do paciente.
+ * @param birthday Data de nascimento do paciente.
+ * @param patientCondition Condição médica do paciente.
+ * @param linkedSince Data de início do vínculo entre o cuidador e o paciente.
+ * @param relationMPId ID da prescrição, ou {@code null}.
+ * @param medicationId ID do medicamento da prescrição.
+ * @param medicationName Nome do medicamento da prescrição.
+ * @param dosage Quantidade de medicamento por dose.
+ * @param frequencyValue Intervalo entre doses.
+ * @param frequencyUnit Unidade do intervalo entre doses.
+ * @param startDate Início da prescrição.
+ * @param endDate Término da prescrição.
+ */
+public record CaregiverDashboardRowDTO(Long patientId, String patientName, LocalDate birthday, String patientCondition,
+        LocalDate linkedSince, Long relationMPId, Long medicationId, String medicationName, Integer dosage,
+        Integer frequencyValue, RelationMP.FrequencyUnit frequencyUnit, LocalDate startDate, LocalDate endDate) {
+}
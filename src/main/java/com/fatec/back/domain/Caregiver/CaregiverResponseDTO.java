@@ -0,0 +1,37 @@
+package com.fatec.back.domain.Caregiver;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dados de um {@link Caregiver} retornados pela API.
+ * <p>
+ * O nome e o e-mail vêm do usuário associado ao cuidador, sem os demais dados do usuário.
+ * </p>
+ *
+ * @param id ID do cuidador (igual ao ID do seu usuário).
+ * @param name Nome do cuidador.
+ * @param email E-mail do cuidador.
+ * @param relation Relação do cuidador com o paciente.
+ * @param createdAt Data e hora de criação do registro.
+ * @param updatedAt Data e hora da última atualização do registro.
+ * @param createdBy ID do usuário que criou o registro.
+ * @param updatedBy ID do usuário que realizou a última atualização.
+ * @param deleted Indica se o registro foi excluído logicamente.
+ */
+public record CaregiverResponseDTO(Long id, String name, String email, String relation,
+        LocalDateTime createdAt, LocalDateTime updatedAt, Long createdBy, Long updatedBy, boolean deleted) {
+
+    /**
+     * Cria a resposta a partir da entidade, nas operações de escrita.
+     *
+     * @param caregiver A entidade salva.
+     * @return Os dados da entidade retornados pela API.
+     */
+    public static CaregiverResponseDTO from(Caregiver caregiver) {
+        return new CaregiverResponseDTO(caregiver.getId(), caregiver.getUser().getName(), caregiver.getUser().getEmail(),
+                caregiver.getRelation(),
+                caregiver.getCreated_at(), caregiver.getUpdated_at(),
+                caregiver.getCreated_by() != null ? caregiver.getCreated_by().getId() : null,
+                caregiver.getUpdated_by() != null ? caregiver.getUpdated_by().getId() : null, caregiver.isDeleted());
+    }
+}
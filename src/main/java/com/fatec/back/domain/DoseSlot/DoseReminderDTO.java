@@ -0,0 +1,31 @@
+package com.fatec.back.domain.DoseSlot;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) de um lembrete de dose, enviado pelos streams de eventos ({@code text/event-stream})
+ * de pacientes e cuidadores.
+ * <p>
+ * O tipo do lembrete também é usado como nome do evento: {@link #DUE} quando o horário da dose chega, e
+ * {@link #MISSED} quando o prazo de tolerância passa sem que a dose tenha sido registrada como tomada.
+ * </p>
+ *
+ * @param type Tipo do lembrete ({@link #DUE} ou {@link #MISSED}).
+ * @param doseSlotId ID do horário de dose.
+ * @param relationMPId ID da prescrição.
+ * @param patientId ID do paciente.
+ * @param medicationId ID do medicamento.
+ * @param medicationName Nome do medicamento.
+ * @param dosage Quantidade de medicamento da dose.
+ * @param dueAt Data e hora prevista para a dose.
+ */
+public record DoseReminderDTO(String type, Long doseSlotId, Long relationMPId, Long patientId, Long medicationId,
+        String medicationName, Integer dosage, LocalDateTime dueAt) {
+    public static final String DUE = "dose-due";
+    public static final String MISSED = "dose-missed";
+
+    public static DoseReminderDTO of(String type, DoseSlot slot, String medicationName) {
+        return new DoseReminderDTO(type, slot.getId(), slot.getRelationMPId(), slot.getPatientId(),
+                slot.getMedicationId(), medicationName, slot.getDosage(), slot.getDueAt());
+    }
+}
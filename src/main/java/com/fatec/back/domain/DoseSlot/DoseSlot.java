@@ -0,0 +1,81 @@
+package com.fatec.back.domain.DoseSlot;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.fatec.back.domain.RelationMP.RelationMP;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade que representa um horário de dose materializado a partir de uma prescrição ({@link RelationMP}).
+ * <p>
+ * Os horários são gerados de forma incremental, em janelas deslizantes, pelo
+ * {@code DoseScheduleService}. Os IDs do paciente e do medicamento, assim como a dosagem,
+ * são copiados da prescrição para que a consulta das próximas doses de um paciente seja
+ * uma leitura por intervalo em um único índice, sem junções.
+ * </p>
+ *
+ * Campos:
+ * <ul>
+ *     <li>{@code id} - Identificador único do horário de dose.</li>
+ *     <li>{@code relationMPId} - ID da prescrição que originou o horário.</li>
+ *     <li>{@code patientId} - ID do paciente que deve tomar a dose.</li>
+ *     <li>{@code medicationId} - ID do medicamento a ser administrado.</li>
+ *     <li>{@code dosage} - Quantidade de medicamento da dose.</li>
+ *     <li>{@code dueAt} - Data e hora prevista para a dose.</li>
+ *     <li>{@code createdAt} - Data e hora em que o horário foi materializado.</li>
+ * </ul>
+ *
+ * @see RelationMP
+ */
+@Entity
+@Table(name = "dose_slot")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DoseSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_dose_slot")
+    private Long id;
+
+    @Column(name = "id_relation_mp", nullable = false)
+    private Long relationMPId;
+
+    @Column(name = "id_patient", nullable = false)
+    private Long patientId;
+
+    @Column(name = "id_medication", nullable = false)
+    private Long medicationId;
+
+    @Column(nullable = false)
+    private Integer dosage;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public DoseSlot(RelationMP relationMP, LocalDateTime dueAt) {
+        this.relationMPId = relationMP.getId();
+        this.patientId = relationMP.getPatient().getId();
+        this.medicationId = relationMP.getMedication().getId();
+        this.dosage = relationMP.getDosage();
+        this.dueAt = dueAt;
+    }
+}
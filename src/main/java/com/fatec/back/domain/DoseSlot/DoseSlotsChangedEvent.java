@@ -0,0 +1,11 @@
+package com.fatec.back.domain.DoseSlot;
+
+/**
+ * Evento publicado quando os horários de dose futuros de uma prescrição são recalculados
+ * (criação, alteração ou exclusão lógica da prescrição).
+ *
+ * @param relationMPId ID da prescrição.
+ * @param patientId ID do paciente da prescrição.
+ */
+public record DoseSlotsChangedEvent(Long relationMPId, Long patientId) {
+}
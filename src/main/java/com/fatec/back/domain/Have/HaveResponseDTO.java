@@ -0,0 +1,42 @@
+package com.fatec.back.domain.Have;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Dados de um {@link Have} retornados pela API.
+ * <p>
+ * O paciente e o cuidador são representados pelo ID e pelo nome.
+ * </p>
+ *
+ * @param id ID do vínculo.
+ * @param startDate Data de início do vínculo.
+ * @param endDate Data de término do vínculo.
+ * @param patientId ID do paciente.
+ * @param patientName Nome do paciente.
+ * @param caregiverId ID do cuidador.
+ * @param caregiverName Nome do cuidador.
+ * @param createdAt Data e hora de criação do registro.
+ * @param updatedAt Data e hora da última atualização do registro.
+ * @param createdBy ID do usuário que criou o registro.
+ * @param updatedBy ID do usuário que realizou a última atualização.
+ * @param deleted Indica se o registro foi excluído logicamente.
+ */
+public record HaveResponseDTO(Long id, LocalDate startDate, LocalDate endDate, Long patientId, String patientName, Long caregiverId, String caregiverName,
+        LocalDateTime createdAt, LocalDateTime updatedAt, Long createdBy, Long updatedBy, boolean deleted) {
+
+    /**
+     * Cria a resposta a partir da entidade, nas operações de escrita.
+     *
+     * @param have A entidade salva.
+     * @return Os dados da entidade retornados pela API.
+     */
+    public static HaveResponseDTO from(Have have) {
+        return new HaveResponseDTO(have.getId(), have.getStartDate(), have.getEndDate(),
+                have.getPatient().getId(), have.getPatient().getUser().getName(),
+                have.getCaregiver().getId(), have.getCaregiver().getUser().getName(),
+                have.getCreatedAt(), have.getUpdatedAt(),
+                have.getCreatedBy() != null ? have.getCreatedBy().getId() : null,
+                have.getUpdatedBy() != null ? have.getUpdatedBy().getId() : null, have.isDeleted());
+    }
+}
@@ -5,11 +5,19 @@ import java.time.LocalDateTime;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.fatec.back.domain.RelationMP.RelationMP;
 import com.fatec.back.domain.User.User;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -39,6 +47,7 @@ import lombok.Setter;
  *     <li>{@code createdBy} - Usuário responsável pela criação deste histórico de administração.</li>
  *     <li>{@code updatedBy} - Usuário responsável pela última atualização deste histórico.</li>
  *     <li>{@code deleted} - Flag indicando se o registro foi excluído (soft delete).</li>
+ *     <li>{@code journalKey} - Chave do registro no journal de históricos, quando gravado pelo {@code HistoryJournal}.</li>
  * </ul>
  *
  * Relacionamentos:
@@ -46,12 +55,14 @@ import lombok.Setter;
  *     <li>{@code relationMP} - Relacionamento com a entidade {@link RelationMP}, indicando a associação entre o medicamento e o paciente.</li>
  *     <li>{@code createdBy} e {@code updatedBy} - Relacionamento com a entidade {@link User}, indicando os usuários responsáveis pela criação e atualização do histórico.</li>
  * </ul>
+ * A tabela é particionada e não tem chaves estrangeiras; as referências são verificadas pelo {@code HistoryArchiver}.
  *
  * @see RelationMP
  * @see User
  */
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "history")
 @Getter
 @Setter
@@ -70,8 +81,8 @@ public class History {
     @Column(nullable = true)
     private LocalDateTime takedAt;
 
-    @ManyToOne
-    @JoinColumn(name = "id_relation_mp", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_relation_mp", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private RelationMP relationMP;
 
     @CreationTimestamp
@@ -82,17 +93,25 @@ public class History {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    @ManyToOne
-    @JoinColumn(name = "created_by", updatable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", updatable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
     private User createdBy;
 
-    @ManyToOne
-    @JoinColumn(name = "updated_by")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "updated_by", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
     private User updatedBy;
 
     @Column(nullable = false)
     private boolean deleted = false;
 
+    @JsonIgnore
+    @Column(name = "journal_key", length = 36, updatable = false)
+    private String journalKey;
+
     public History(Boolean taked, LocalDateTime takedAt) {
         this.taked = taked;
         this.takedAt = takedAt;
@@ -0,0 +1,75 @@
+package com.fatec.back.domain.History;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidade que representa um histórico arquivado, movido da tabela {@code history} pelo {@code HistoryArchiver}.
+ * <p>
+ * A tabela {@code history_archive} guarda uma cópia das colunas do {@link History}, com o mesmo ID, sem chaves
+ * estrangeiras e com as páginas comprimidas. Os registros são somente leitura e são consultados por um endpoint
+ * próprio, separado das consultas dos históricos ativos.
+ * </p>
+ *
+ * Campos:
+ * <ul>
+ *     <li>{@code id} - ID original do histórico.</li>
+ *     <li>{@code taked} - Indica se o medicamento foi administrado.</li>
+ *     <li>{@code takedAt} - Data e hora da administração, se aplicável.</li>
+ *     <li>{@code relationMPId} - ID da prescrição do histórico.</li>
+ *     <li>{@code createdAt} e {@code updatedAt} - Datas de criação e da última atualização do histórico.</li>
+ *     <li>{@code createdById} e {@code updatedById} - IDs dos usuários responsáveis pela criação e pela última atualização.</li>
+ *     <li>{@code deleted} - Flag de exclusão lógica no momento do arquivamento.</li>
+ *     <li>{@code archivedAt} - Data e hora do arquivamento.</li>
+ * </ul>
+ *
+ * @see History
+ */
+@Entity
+@Immutable
+@Table(name = "history_archive")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryArchive {
+
+    @Id
+    @Column(name = "id_history")
+    private Long id;
+
+    @Column(nullable = false)
+    private boolean taked;
+
+    @Column(name = "taked_at")
+    private LocalDateTime takedAt;
+
+    @Column(name = "id_relation_mp", nullable = false)
+    private Long relationMPId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "created_by")
+    private Long createdById;
+
+    @Column(name = "updated_by")
+    private Long updatedById;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,23 @@
+package com.fatec.back.domain.History;
+
+/**
+ * Data Transfer Object (DTO) com o resultado de um item da inclusão em lote de históricos.
+ * <p>
+ * Cada item enviado para {@code POST /history/batch} gera um {@code HistoryBatchResultDTO},
+ * na mesma posição da lista recebida, indicando o ID do histórico criado ou o motivo da recusa.
+ * </p>
+ *
+ * @param index Posição do item na lista enviada.
+ * @param id ID do histórico criado, ou {@code null} se o item foi recusado.
+ * @param error Mensagem de erro do item, ou {@code null} se o item foi criado.
+ */
+public record HistoryBatchResultDTO(int index, Long id, String error) {
+
+    public static HistoryBatchResultDTO created(int index, Long id) {
+        return new HistoryBatchResultDTO(index, id, null);
+    }
+
+    public static HistoryBatchResultDTO rejected(int index, String error) {
+        return new HistoryBatchResultDTO(index, null, error);
+    }
+}
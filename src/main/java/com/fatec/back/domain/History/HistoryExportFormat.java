@@ -0,0 +1,45 @@
+package com.fatec.back.domain.History;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Formatos de exportação do histórico de medicação de um paciente.
+ *
+ * <ul>
+ *     <li>{@code NDJSON} - Um objeto JSON por linha, no formato do {@link HistoryResponseDTO}.</li>
+ *     <li>{@code CSV} - Uma linha de cabeçalho e uma linha por histórico, separadas por vírgula.</li>
+ * </ul>
+ */
+public enum HistoryExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    HistoryExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Busca o formato pelo nome, sem diferenciar maiúsculas e minúsculas.
+     *
+     * @param value Nome do formato ({@code ndjson} ou {@code csv}).
+     * @return Um {@link Optional} contendo o formato encontrado.
+     */
+    public static Optional<HistoryExportFormat> from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
@@ -0,0 +1,45 @@
+package com.fatec.back.domain.History;
+
+import java.time.LocalDateTime;
+
+import com.fatec.back.domain.RelationMP.RelationMP;
+
+/**
+ * Dados de um {@link History} retornados pela API.
+ * <p>
+ * A prescrição é representada pelo seu ID, acompanhado do medicamento e do paciente,
+ * suficientes para exibir o histórico sem consultar a prescrição.
+ * </p>
+ *
+ * @param id ID do histórico.
+ * @param taked Indica se o medicamento foi administrado.
+ * @param takedAt Data e hora da administração.
+ * @param relationMPId ID da prescrição.
+ * @param medicationId ID do medicamento.
+ * @param medicationName Nome do medicamento.
+ * @param patientId ID do paciente.
+ * @param createdAt Data e hora de criação do registro.
+ * @param updatedAt Data e hora da última atualização do registro.
+ * @param createdBy ID do usuário que criou o registro.
+ * @param updatedBy ID do usuário que realizou a última atualização.
+ * @param deleted Indica se o registro foi excluído logicamente.
+ */
+public record HistoryResponseDTO(Long id, boolean taked, LocalDateTime takedAt, Long relationMPId, Long medicationId, String medicationName, Long patientId,
+        LocalDateTime createdAt, LocalDateTime updatedAt, Long createdBy, Long updatedBy, boolean deleted) {
+
+    /**
+     * Cria a resposta a partir da entidade, nas operações de escrita.
+     *
+     * @param history A entidade salva.
+     * @return Os dados da entidade retornados pela API.
+     */
+    public static HistoryResponseDTO from(History history) {
+        RelationMP relationMP = history.getRelationMP();
+        return new HistoryResponseDTO(history.getId(), history.isTaked(), history.getTakedAt(),
+                relationMP.getId(), relationMP.getMedication().getId(), relationMP.getMedication().getName(),
+                relationMP.getPatient().getId(),
+                history.getCreatedAt(), history.getUpdatedAt(),
+                history.getCreatedBy() != null ? history.getCreatedBy().getId() : null,
+                history.getUpdatedBy() != null ? history.getUpdatedBy().getId() : null, history.isDeleted());
+    }
+}
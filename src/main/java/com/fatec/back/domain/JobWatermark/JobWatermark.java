@@ -0,0 +1,59 @@
+package com.fatec.back.domain.JobWatermark;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade que guarda a posição (<i>watermark</i>) de uma tarefa que percorre uma tabela de forma incremental.
+ * <p>
+ * A posição é a chave {@code (lastDueAt, lastId)} do último registro processado, de forma que cada execução
+ * continua a partir dela pelo índice, sem reler os registros já processados. A linha também serve de lock
+ * entre as instâncias da aplicação: cada bloco processado a bloqueia apenas durante a sua transação.
+ * </p>
+ *
+ * Campos:
+ * <ul>
+ *     <li>{@code name} - Nome da tarefa.</li>
+ *     <li>{@code lastDueAt} - Data e hora do último registro processado.</li>
+ *     <li>{@code lastId} - ID do último registro processado, para desempate.</li>
+ *     <li>{@code updatedAt} - Data e hora da última atualização da posição.</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "job_watermark")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobWatermark {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "last_due_at", nullable = false)
+    private LocalDateTime lastDueAt;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public JobWatermark(String name, LocalDateTime lastDueAt) {
+        this.name = name;
+        this.lastDueAt = lastDueAt;
+        this.lastId = 0L;
+    }
+}
@@ -2,15 +2,24 @@ package com.fatec.back.domain.Medication;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fatec.back.cache.CacheRegions;
 import com.fatec.back.domain.Caregiver.Caregiver;
 import com.fatec.back.domain.Patient.Patient;
 import com.fatec.back.domain.User.User;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -48,10 +57,22 @@ import lombok.Setter;
  *     <li>{@code createdBy} e {@code updatedBy} - Relacionamentos com a entidade {@link User}, representando os usuários responsáveis pelas operações de criação e atualização, respectivamente.</li>
  * </ul>
  *
+ * <p>
+ * As instâncias são mantidas no cache de segundo nível do Hibernate (região {@link CacheRegions#MEDICATION}),
+ * que atende às cargas da entidade por ID e pelas associações (como a prescrição). As leituras da API são
+ * atendidas por outra camada, o {@code MedicationCatalog}, com os dados de resposta. As duas camadas são locais a
+ * cada instância: as gravações feitas pelo {@code MedicationService} atualizam ambas na própria instância, e as
+ * feitas por outras instâncias são vistas depois da expiração da entrada ({@code api.cache.medication.ttl}) e da
+ * recarga do catálogo ({@code api.medication.catalog.refresh-interval}), configuradas com o mesmo intervalo.
+ * </p>
+ *
  * @see User
  */
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "medication")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MEDICATION)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -76,12 +97,16 @@ public class Medication {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", updatable = false)
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
     private User createdBy;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "updated_by")
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
     private User updatedBy;
 
     @Column(nullable = false)
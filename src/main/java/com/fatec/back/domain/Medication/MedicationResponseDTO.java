@@ -0,0 +1,32 @@
+package com.fatec.back.domain.Medication;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dados de um {@link Medication} retornados pela API.
+ *
+ * @param id ID do medicamento.
+ * @param name Nome do medicamento.
+ * @param medicationFunction Função do medicamento.
+ * @param createdAt Data e hora de criação do registro.
+ * @param updatedAt Data e hora da última atualização do registro.
+ * @param createdBy ID do usuário que criou o registro.
+ * @param updatedBy ID do usuário que realizou a última atualização.
+ * @param deleted Indica se o registro foi excluído logicamente.
+ */
+public record MedicationResponseDTO(Long id, String name, String medicationFunction,
+        LocalDateTime createdAt, LocalDateTime updatedAt, Long createdBy, Long updatedBy, boolean deleted) {
+
+    /**
+     * Cria a resposta a partir da entidade, nas operações de escrita.
+     *
+     * @param medication A entidade salva.
+     * @return Os dados da entidade retornados pela API.
+     */
+    public static MedicationResponseDTO from(Medication medication) {
+        return new MedicationResponseDTO(medication.getId(), medication.getName(), medication.getMedicationFunction(),
+                medication.getCreatedAt(), medication.getUpdatedAt(),
+                medication.getCreatedBy() != null ? medication.getCreatedBy().getId() : null,
+                medication.getUpdatedBy() != null ? medication.getUpdatedBy().getId() : null, medication.isDeleted());
+    }
+}
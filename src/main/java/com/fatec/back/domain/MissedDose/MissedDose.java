@@ -0,0 +1,86 @@
+package com.fatec.back.domain.MissedDose;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade que representa uma dose perdida: um horário de dose ({@link DoseSlot}) vencido sem histórico de tomada.
+ * <p>
+ * Os registros são gravados pelo {@code MissedDoseService}, que percorre os horários de dose vencidos de forma
+ * incremental. Os dados do horário são copiados para que as doses perdidas de um paciente sejam lidas por
+ * intervalo em um único índice, e para que o registro não dependa da permanência do horário de dose.
+ * </p>
+ *
+ * Campos:
+ * <ul>
+ *     <li>{@code id} - Identificador único da dose perdida.</li>
+ *     <li>{@code doseSlotId} - ID do horário de dose perdido.</li>
+ *     <li>{@code relationMPId} - ID da prescrição do horário.</li>
+ *     <li>{@code patientId} - ID do paciente que deveria tomar a dose.</li>
+ *     <li>{@code medicationId} - ID do medicamento da dose.</li>
+ *     <li>{@code dosage} - Quantidade de medicamento da dose.</li>
+ *     <li>{@code dueAt} - Data e hora prevista para a dose.</li>
+ *     <li>{@code createdAt} - Data e hora em que a dose perdida foi detectada.</li>
+ * </ul>
+ *
+ * @see DoseSlot
+ */
+@Entity
+@Table(name = "missed_dose", uniqueConstraints = @UniqueConstraint(name = "uq_missed_dose_dose_slot", columnNames = "id_dose_slot"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MissedDose {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_missed_dose")
+    private Long id;
+
+    @Column(name = "id_dose_slot", nullable = false)
+    private Long doseSlotId;
+
+    @Column(name = "id_relation_mp", nullable = false)
+    private Long relationMPId;
+
+    @Column(name = "id_patient", nullable = false)
+    private Long patientId;
+
+    @Column(name = "id_medication", nullable = false)
+    private Long medicationId;
+
+    @Column(nullable = false)
+    private Integer dosage;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public MissedDose(DoseSlot slot) {
+        this.doseSlotId = slot.getId();
+        this.relationMPId = slot.getRelationMPId();
+        this.patientId = slot.getPatientId();
+        this.medicationId = slot.getMedicationId();
+        this.dosage = slot.getDosage();
+        this.dueAt = slot.getDueAt();
+    }
+}
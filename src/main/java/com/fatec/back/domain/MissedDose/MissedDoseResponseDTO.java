@@ -0,0 +1,21 @@
+package com.fatec.back.domain.MissedDose;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) de resposta de uma dose perdida, com os nomes do paciente e do medicamento.
+ *
+ * @param id ID da dose perdida.
+ * @param doseSlotId ID do horário de dose perdido.
+ * @param relationMPId ID da prescrição.
+ * @param patientId ID do paciente.
+ * @param patientName Nome do paciente.
+ * @param medicationId ID do medicamento.
+ * @param medicationName Nome do medicamento.
+ * @param dosage Quantidade de medicamento da dose.
+ * @param dueAt Data e hora prevista para a dose.
+ * @param createdAt Data e hora em que a dose perdida foi detectada.
+ */
+public record MissedDoseResponseDTO(Long id, Long doseSlotId, Long relationMPId, Long patientId, String patientName,
+        Long medicationId, String medicationName, Integer dosage, LocalDateTime dueAt, LocalDateTime createdAt) {
+}
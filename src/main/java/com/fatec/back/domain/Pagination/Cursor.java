@@ -0,0 +1,52 @@
+package com.fatec.back.domain.Pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codificador do cursor opaco utilizado na paginação por chave (keyset).
+ * <p>
+ * O cursor carrega apenas o último ID retornado na página anterior. Ele é
+ * codificado em Base64 (URL-safe) para que o cliente o trate como um valor
+ * opaco e apenas o devolva na próxima requisição.
+ * </p>
+ *
+ * @see PageQuery
+ * @see CursorPage
+ */
+public final class Cursor {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private Cursor() {
+    }
+
+    /**
+     * Codifica o ID informado em um cursor opaco.
+     *
+     * @param id Último ID retornado na página.
+     * @return O cursor codificado.
+     */
+    public static String encode(Long id) {
+        return ENCODER.encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor gerado por {@link #encode(Long)}.
+     *
+     * @param cursor Cursor recebido do cliente.
+     * @return O ID a partir do qual a próxima página deve começar.
+     * @throws InvalidCursorException Se o cursor não puder ser decodificado.
+     */
+    public static long decode(String cursor) {
+        try {
+            long id = Long.parseLong(new String(DECODER.decode(cursor), StandardCharsets.UTF_8));
+            if (id < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.fatec.back.domain.Pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados de uma listagem paginada por chave (keyset).
+ *
+ * @param <T> Tipo dos itens da página.
+ * @param items Itens da página, ordenados pelo ID.
+ * @param nextCursor Cursor para buscar a próxima página, ou {@code null} se esta for a última.
+ * @param size Quantidade de itens retornados.
+ *
+ * @see PageQuery
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, int size) {
+
+    /**
+     * Monta a página a partir das linhas retornadas pelo repositório.
+     * As linhas devem ter sido buscadas com {@link PageQuery#fetchLimit()}, ou seja,
+     * com um registro a mais que o tamanho da página.
+     *
+     * @param rows Linhas retornadas pela consulta.
+     * @param query Parâmetros da consulta.
+     * @param idOf Função que extrai o ID de cada item.
+     * @return A página montada.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, PageQuery query, Function<T, Long> idOf) {
+        int pageSize = query.pageSize();
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null, rows.size());
+        }
+        List<T> items = rows.subList(0, pageSize);
+        String next = Cursor.encode(idOf.apply(items.get(pageSize - 1)));
+        return new CursorPage<>(items, next, pageSize);
+    }
+}
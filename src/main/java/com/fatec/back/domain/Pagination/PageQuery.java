@@ -0,0 +1,68 @@
+package com.fatec.back.domain.Pagination;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Parâmetros de consulta para a listagem paginada por chave (keyset) dos recursos.
+ * <p>
+ * O {@code PageQuery} é preenchido a partir dos parâmetros da query string nos endpoints
+ * de listagem. A paginação é feita pelo ID do registro, de forma que o custo de cada
+ * página depende apenas do tamanho da página e não do tamanho da tabela.
+ * </p>
+ *
+ * @param cursor Cursor opaco retornado na página anterior (ausente na primeira página).
+ * @param limit Quantidade de registros por página, limitada a {@link #MAX_LIMIT}.
+ * @param deleted Filtra pelo indicador de exclusão lógica (ausente para não filtrar).
+ * @param createdFrom Data/hora de criação mínima (inclusiva).
+ * @param createdTo Data/hora de criação máxima (exclusiva).
+ *
+ * @see CursorPage
+ * @see Cursor
+ */
+public record PageQuery(
+        String cursor,
+        Integer limit,
+        Boolean deleted,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    /**
+     * Retorna o tamanho efetivo da página, aplicando o valor padrão e o limite máximo.
+     *
+     * @return O tamanho da página.
+     */
+    public int pageSize() {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Retorna o ID a partir do qual a página começa (exclusivo).
+     *
+     * @return O ID decodificado do cursor, ou {@code 0} na primeira página.
+     */
+    public long afterId() {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        return Cursor.decode(cursor);
+    }
+
+    /**
+     * Limite usado na consulta ao banco: um registro a mais que o tamanho da página,
+     * para saber se existe uma próxima página sem precisar de um {@code COUNT}.
+     *
+     * @return O {@link Limit} da consulta.
+     */
+    public Limit fetchLimit() {
+        return Limit.of(pageSize() + 1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.fatec.back.domain.Patient;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Dados de um {@link Patient} retornados pela API.
+ * <p>
+ * O nome e o e-mail vêm do usuário associado ao paciente, sem os demais dados do usuário.
+ * </p>
+ *
+ * @param id ID do paciente (igual ao ID do seu usuário).
+ * @param name Nome do paciente.
+ * @param email E-mail do paciente.
+ * @param birthday Data de nascimento do paciente.
+ * @param patientCondition Condição de saúde do paciente.
+ * @param createdAt Data e hora de criação do registro.
+ * @param updatedAt Data e hora da última atualização do registro.
+ * @param createdBy ID do usuário que criou o registro.
+ * @param updatedBy ID do usuário que realizou a última atualização.
+ * @param deleted Indica se o registro foi excluído logicamente.
+ */
+public record PatientResponseDTO(Long id, String name, String email, LocalDate birthday, String patientCondition,
+        LocalDateTime createdAt, LocalDateTime updatedAt, Long createdBy, Long updatedBy, boolean deleted) {
+
+    /**
+     * Cria a resposta a partir da entidade, nas operações de escrita.
+     *
+     * @param patient A entidade salva.
+     * @return Os dados da entidade retornados pela API.
+     */
+    public static PatientResponseDTO from(Patient patient) {
+        return new PatientResponseDTO(patient.getId(), patient.getUser().getName(), patient.getUser().getEmail(),
+                patient.getBirthday(), patient.getPatientCondition(),
+                patient.getCreated_at(), patient.getUpdated_at(),
+                patient.getCreated_by() != null ? patient.getCreated_by().getId() : null,
+                patient.getUpdated_by() != null ? patient.getUpdated_by().getId() : null, patient.isDeleted());
+    }
+}
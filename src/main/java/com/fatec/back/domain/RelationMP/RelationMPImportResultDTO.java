@@ -0,0 +1,28 @@
+package com.fatec.back.domain.RelationMP;
+
+/**
+ * Data Transfer Object (DTO) com o resultado de um item da importação de prescrições.
+ * <p>
+ * Cada item enviado para {@code POST /relation_mp/import} gera um {@code RelationMPImportResultDTO},
+ * na mesma posição da lista recebida (ou da linha de dados do CSV), indicando o ID da prescrição criada
+ * ou o motivo da recusa. A importação é atômica: se algum item for recusado, nenhum é criado.
+ * </p>
+ *
+ * @param index Posição do item na lista enviada.
+ * @param id ID da prescrição criada, ou {@code null} se a importação foi recusada.
+ * @param error Mensagem de erro do item, ou {@code null} se o item é válido.
+ */
+public record RelationMPImportResultDTO(int index, Long id, String error) {
+
+    public static RelationMPImportResultDTO created(int index, Long id) {
+        return new RelationMPImportResultDTO(index, id, null);
+    }
+
+    public static RelationMPImportResultDTO valid(int index) {
+        return new RelationMPImportResultDTO(index, null, null);
+    }
+
+    public static RelationMPImportResultDTO rejected(int index, String error) {
+        return new RelationMPImportResultDTO(index, null, error);
+    }
+}
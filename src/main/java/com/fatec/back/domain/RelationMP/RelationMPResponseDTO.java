@@ -0,0 +1,49 @@
+package com.fatec.back.domain.RelationMP;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Dados de um {@link RelationMP} retornados pela API.
+ * <p>
+ * O medicamento e o paciente são representados pelo ID e pelo nome.
+ * </p>
+ *
+ * @param id ID da prescrição.
+ * @param dosage Quantidade de medicamento por dose.
+ * @param frequencyValue Intervalo entre as doses.
+ * @param frequencyUnit Unidade do intervalo entre as doses.
+ * @param totalDosage Quantidade total de doses.
+ * @param medicationId ID do medicamento.
+ * @param medicationName Nome do medicamento.
+ * @param patientId ID do paciente.
+ * @param patientName Nome do paciente.
+ * @param startDate Data de início do tratamento.
+ * @param endDate Data de término do tratamento.
+ * @param createdAt Data e hora de criação do registro.
+ * @param updatedAt Data e hora da última atualização do registro.
+ * @param createdBy ID do usuário que criou o registro.
+ * @param updatedBy ID do usuário que realizou a última atualização.
+ * @param deleted Indica se o registro foi excluído logicamente.
+ */
+public record RelationMPResponseDTO(Long id, Integer dosage, Integer frequencyValue, RelationMP.FrequencyUnit frequencyUnit, Integer totalDosage,
+        Long medicationId, String medicationName, Long patientId, String patientName, LocalDate startDate, LocalDate endDate,
+        LocalDateTime createdAt, LocalDateTime updatedAt, Long createdBy, Long updatedBy, boolean deleted) {
+
+    /**
+     * Cria a resposta a partir da entidade, nas operações de escrita.
+     *
+     * @param relationMP A entidade salva.
+     * @return Os dados da entidade retornados pela API.
+     */
+    public static RelationMPResponseDTO from(RelationMP relationMP) {
+        return new RelationMPResponseDTO(relationMP.getId(), relationMP.getDosage(), relationMP.getFrequencyValue(),
+                relationMP.getFrequencyUnit(), relationMP.getTotalDosage(),
+                relationMP.getMedication().getId(), relationMP.getMedication().getName(),
+                relationMP.getPatient().getId(), relationMP.getPatient().getUser().getName(),
+                relationMP.getStartDate(), relationMP.getEndDate(),
+                relationMP.getCreatedAt(), relationMP.getUpdatedAt(),
+                relationMP.getCreatedBy() != null ? relationMP.getCreatedBy().getId() : null,
+                relationMP.getUpdatedBy() != null ? relationMP.getUpdatedBy().getId() : null, relationMP.isDeleted());
+    }
+}
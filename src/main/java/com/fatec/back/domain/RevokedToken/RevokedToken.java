@@ -0,0 +1,59 @@
+package com.fatec.back.domain.RevokedToken;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade que representa um token JWT revogado individualmente, por exemplo no logout.
+ * <p>
+ * Os registros são gravados pela {@code TokenRevocationList} e lidos por todas as instâncias da aplicação, de
+ * forma que um token revogado em uma instância deixa de ser aceito nas demais e após a reinicialização. Cada
+ * registro só é necessário até a expiração do token, quando é removido.
+ * </p>
+ *
+ * Campos:
+ * <ul>
+ *     <li>{@code jti} - Identificador único do token (claim {@code jti}).</li>
+ *     <li>{@code userId} - ID do usuário do token, quando presente.</li>
+ *     <li>{@code expiresAt} - Data e hora de expiração do token (claim {@code exp}).</li>
+ *     <li>{@code createdAt} - Data e hora da revogação.</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "revoked_token")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "id_user")
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public RevokedToken(String jti, Long userId, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+}
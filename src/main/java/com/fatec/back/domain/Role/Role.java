@@ -2,11 +2,16 @@ package com.fatec.back.domain.Role;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fatec.back.cache.CacheRegions;
 import com.fatec.back.domain.User.User;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -42,10 +47,22 @@ import lombok.Setter;
  *     <li>Esta classe pode ser associada com a classe {@link User} para definir o papel de cada usuário no sistema.</li>
  * </ul>
  *
+ * <p>
+ * As instâncias são mantidas no cache de segundo nível do Hibernate (região {@link CacheRegions#ROLE}), que
+ * atende às cargas da entidade e às consultas do {@code RoleService}. O cadastro de usuários e a troca de papel
+ * usam outra camada, o {@code RoleCache}. As duas camadas são locais a cada instância: as gravações feitas pelo
+ * {@code RoleService} atualizam o cache de segundo nível e invalidam o {@code RoleCache} na própria instância, e as
+ * feitas por outras instâncias são vistas depois da expiração da entrada ({@code api.cache.role.ttl}) e da recarga
+ * do {@code RoleCache} ({@code api.security.role-cache.refresh-interval}), configuradas com o mesmo intervalo.
+ * </p>
+ *
  * @see User
  */
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "role")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLE)
 @Getter
 @Setter
 @AllArgsConstructor
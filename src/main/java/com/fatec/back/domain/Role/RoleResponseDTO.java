@@ -0,0 +1,27 @@
+package com.fatec.back.domain.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dados de um {@link Role} retornados pela API.
+ *
+ * @param id ID do papel.
+ * @param name Nome do papel.
+ * @param description Descrição do papel.
+ * @param createdAt Data e hora de criação do papel.
+ * @param updatedAt Data e hora da última atualização do papel.
+ * @param deleted Indica se o papel foi excluído logicamente.
+ */
+public record RoleResponseDTO(Long id, String name, String description, LocalDateTime createdAt, LocalDateTime updatedAt, boolean deleted) {
+
+    /**
+     * Cria a resposta a partir da entidade, nas operações de escrita.
+     *
+     * @param role A entidade salva.
+     * @return Os dados da entidade retornados pela API.
+     */
+    public static RoleResponseDTO from(Role role) {
+        return new RoleResponseDTO(role.getId(), role.getName(), role.getDescription(),
+                role.getCreated_at(), role.getUpdated_at(), role.isDeleted());
+    }
+}
@@ -2,15 +2,18 @@ package com.fatec.back.domain.User;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.List;
 
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.fatec.back.domain.Role.Role;
+import com.fatec.back.security.RoleAuthorities;
 
 import jakarta.persistence.*;
 import lombok.*;
@@ -37,6 +40,7 @@ import lombok.*;
  *     <li>{@code createdBy} - Usuário que criou o registro desse usuário.</li>
  *     <li>{@code updatedBy} - Usuário que realizou a última atualização do registro desse usuário.</li>
  *     <li>{@code deleted} - Flag que indica se o usuário foi logicamente excluído (soft delete).</li>
+ *     <li>{@code tokenVersion} - Versão dos tokens do usuário. Tokens emitidos com versão anterior são considerados revogados.</li>
  * </ul>
  *
  * Métodos:
@@ -58,6 +62,7 @@ import lombok.*;
  * @see UserDetails
  */
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "user")
 @Getter
 @Setter
@@ -79,7 +84,7 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private String name;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "role_id", referencedColumnName = "id_role")
     private Role role;
 
@@ -91,17 +96,24 @@ public class User implements UserDetails {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
     private User createdBy;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "updated_by")
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
     private User updatedBy;
 
     @Column(nullable = false)
     private boolean deleted = false;
 
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion = 0;
+
     public User(String email, String password, String name, Role role) {
         this.email = email;
         this.password = password;
@@ -111,7 +123,7 @@ public class User implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + this.role.getName().toUpperCase()));
+        return RoleAuthorities.of(this.role.getName());
     }
 
     @Override
@@ -0,0 +1,39 @@
+package com.fatec.back.domain.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dados de um {@link User} retornados pela API.
+ * <p>
+ * Não inclui a senha do usuário. O papel é representado pelo ID e pelo nome, e os usuários
+ * de auditoria apenas pelos seus IDs.
+ * </p>
+ *
+ * @param id ID do usuário.
+ * @param email E-mail do usuário.
+ * @param name Nome do usuário.
+ * @param roleId ID do papel do usuário.
+ * @param roleName Nome do papel do usuário.
+ * @param createdAt Data e hora de criação do registro.
+ * @param updatedAt Data e hora da última atualização do registro.
+ * @param createdBy ID do usuário que criou o registro.
+ * @param updatedBy ID do usuário que realizou a última atualização.
+ * @param deleted Indica se o registro foi excluído logicamente.
+ */
+public record UserResponseDTO(Long id, String email, String name, Long roleId, String roleName,
+        LocalDateTime createdAt, LocalDateTime updatedAt, Long createdBy, Long updatedBy, boolean deleted) {
+
+    /**
+     * Cria a resposta a partir da entidade, nas operações de escrita.
+     *
+     * @param user A entidade salva.
+     * @return Os dados da entidade retornados pela API.
+     */
+    public static UserResponseDTO from(User user) {
+        return new UserResponseDTO(user.getId(), user.getEmail(), user.getName(),
+                user.getRole().getId(), user.getRole().getName(),
+                user.getCreatedAt(), user.getUpdatedAt(),
+                user.getCreatedBy() != null ? user.getCreatedBy().getId() : null,
+                user.getUpdatedBy() != null ? user.getUpdatedBy().getId() : null, user.isDeleted());
+    }
+}
@@ -0,0 +1,44 @@
+package com.fatec.back.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Amostragem dos eventos de log de alto volume, configurada no {@code logback-spring.xml}.
+ *
+ * <p>
+ * Eventos registrados com o marcador {@link #SAMPLED} (por exemplo, cada login ou cada dose registrada) são
+ * gravados apenas uma vez a cada {@code rate} ocorrências da mesma mensagem ({@code api.logging.sample-rate}).
+ * Eventos de nível {@code WARN} ou superior, e os que não têm o marcador, são sempre gravados.
+ * </p>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private final ConcurrentHashMap<String, AtomicLong> occurrences = new ConcurrentHashMap<>();
+    private int rate = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || format == null || rate <= 1 || level.isGreaterOrEqual(Level.WARN) || !marker.contains(SAMPLED)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!logger.isEnabledFor(level)) {
+            return FilterReply.NEUTRAL;
+        }
+        long occurrence = occurrences.computeIfAbsent(format, key -> new AtomicLong()).getAndIncrement();
+        return occurrence % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fatec.back.metrics;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Calcula o valor da tag {@code entity} das métricas, para que as métricas de endpoints, serviços e
+ * repositórios de uma mesma entidade possam ser agrupadas.
+ *
+ * <p>
+ * O valor segue o formato dos caminhos da API: {@code /relation_mp/{id}}, {@code RelationMPService} e
+ * {@code RelationMPRepository} resultam em {@code relation_mp}.
+ * </p>
+ */
+public final class EntityTags {
+    public static final String KEY = "entity";
+    public static final String NONE = "none";
+    private static final Pattern WORD_BOUNDARY = Pattern.compile("(?<=[a-z0-9])(?=[A-Z])");
+
+    private EntityTags() {
+    }
+
+    /**
+     * Retorna a entidade de um padrão de URI, a partir do seu primeiro segmento.
+     *
+     * @param pattern O padrão de URI do endpoint (por exemplo, {@code /history/{id}}).
+     * @return A entidade, ou {@link #NONE} se o padrão não for conhecido.
+     */
+    public static String fromPath(String pattern) {
+        if (pattern == null || pattern.length() < 2 || pattern.charAt(0) != '/') {
+            return NONE;
+        }
+        int end = pattern.indexOf('/', 1);
+        return pattern.substring(1, end > 0 ? end : pattern.length());
+    }
+
+    /**
+     * Retorna a entidade de uma classe de serviço ou de repositório, sem o sufixo informado.
+     *
+     * @param type A classe ou interface.
+     * @param suffix O sufixo a ser removido do nome (por exemplo, {@code Repository}).
+     * @return A entidade em minúsculas, com as palavras separadas por {@code _}.
+     */
+    public static String fromType(Class<?> type, String suffix) {
+        String name = type.getSimpleName();
+        if (name.endsWith(suffix) && name.length() > suffix.length()) {
+            name = name.substring(0, name.length() - suffix.length());
+        }
+        return WORD_BOUNDARY.matcher(name).replaceAll("_").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,77 @@
+package com.fatec.back.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Configuração das métricas da aplicação (Micrometer), expostas em {@code /actuator/prometheus}.
+ *
+ * <p>
+ * Além das métricas publicadas pelo Spring Boot, adiciona a tag {@code entity} ({@link EntityTags}) às métricas
+ * dos endpoints ({@code http.server.requests}) e dos repositórios ({@code spring.data.repository.invocations}),
+ * e registra o {@link StatementCounter} no Hibernate. Os serviços são medidos pelo timer {@code app.service},
+ * declarado com {@code @Timed} em cada classe.
+ * </p>
+ *
+ * <p>Métricas principais:</p>
+ * <ul>
+ *     <li>{@code http.server.requests} - Tempo de resposta de cada endpoint.</li>
+ *     <li>{@code app.service} - Tempo de execução de cada método de serviço.</li>
+ *     <li>{@code spring.data.repository.invocations} - Tempo de execução de cada método de repositório.</li>
+ *     <li>{@code jpa.statements} - Comandos SQL executados por requisição ({@link StatementMetricsFilter}).</li>
+ *     <li>{@code jpa.statements.executed} - Comandos SQL executados, por tipo ({@link StatementCounter}).</li>
+ *     <li>{@code hikaricp.connections.*} - Ocupação do pool de conexões.</li>
+ * </ul>
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    /**
+     * Adiciona a tag {@code entity} às métricas dos endpoints, a partir do padrão de URI.
+     */
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context)
+                        .and(KeyValue.of(EntityTags.KEY, EntityTags.fromPath(context.getPathPattern())));
+            }
+        };
+    }
+
+    /**
+     * Adiciona a tag {@code entity} às métricas dos repositórios, a partir do nome da interface.
+     */
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        return new DefaultRepositoryTagsProvider() {
+            @Override
+            public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+                return Tags.of(super.repositoryTags(invocation))
+                        .and(EntityTags.KEY, EntityTags.fromType(invocation.getRepositoryInterface(), "Repository"));
+            }
+        };
+    }
+
+    /**
+     * Registra o {@link StatementCounter} como inspetor de comandos SQL do Hibernate.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+}
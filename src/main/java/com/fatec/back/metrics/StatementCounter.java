@@ -0,0 +1,84 @@
+package com.fatec.back.metrics;
+
+import java.util.Locale;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate.
+ *
+ * <p>
+ * Registrado como {@link StatementInspector} da fábrica de sessões (ver {@link MetricsConfiguration}), publica
+ * o contador {@code jpa.statements.executed}, com a tag {@code type} ({@code select}, {@code insert},
+ * {@code update}, {@code delete} ou {@code other}). Além disso, mantém a contagem da requisição em andamento na
+ * thread atual, entre {@link #begin()} e {@link #end()}, usada pelo {@link StatementMetricsFilter}.
+ * </p>
+ *
+ * <p>
+ * Os comandos executados diretamente com {@code JdbcTemplate} (as gravações em lote) não passam pelo Hibernate e
+ * não são contados.
+ * </p>
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+    private static final long serialVersionUID = 1L;
+    private static final String[] TYPES = { "select", "insert", "update", "delete", "other" };
+
+    private final transient Counter[] counters = new Counter[TYPES.length];
+    private final transient ThreadLocal<int[]> current = new ThreadLocal<>();
+
+    public StatementCounter(MeterRegistry registry) {
+        for (int i = 0; i < TYPES.length; i++) {
+            counters[i] = Counter.builder("jpa.statements.executed")
+                    .description("Comandos SQL preparados pelo Hibernate")
+                    .tag("type", TYPES[i])
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        counters[type(sql)].increment();
+        int[] count = current.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Inicia a contagem dos comandos executados pela thread atual.
+     */
+    public void begin() {
+        current.set(new int[1]);
+    }
+
+    /**
+     * Encerra a contagem da thread atual.
+     *
+     * @return A quantidade de comandos executados desde {@link #begin()}.
+     */
+    public int end() {
+        int[] count = current.get();
+        current.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    private static int type(String sql) {
+        String start = sql.stripLeading();
+        if (start.length() < 6) {
+            return TYPES.length - 1;
+        }
+        String keyword = start.substring(0, 6).toLowerCase(Locale.ROOT);
+        for (int i = 0; i < TYPES.length - 1; i++) {
+            if (keyword.equals(TYPES[i])) {
+                return i;
+            }
+        }
+        return TYPES.length - 1;
+    }
+}
@@ -0,0 +1,61 @@
+package com.fatec.back.metrics;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Registra a quantidade de comandos SQL executados em cada requisição HTTP.
+ *
+ * <p>
+ * Publica a distribuição {@code jpa.statements}, com as tags {@code method}, {@code uri} (o padrão do endpoint,
+ * como em {@code http.server.requests}) e {@code entity}. O filtro é executado antes da cadeia do Spring Security,
+ * de forma que a carga do usuário autenticado também é contada. Um aumento na média de um endpoint indica
+ * consultas adicionais (N+1).
+ * </p>
+ *
+ * @see StatementCounter
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class StatementMetricsFilter extends OncePerRequestFilter {
+    private final StatementCounter statementCounter;
+    private final MeterRegistry registry;
+
+    public StatementMetricsFilter(StatementCounter statementCounter, MeterRegistry registry) {
+        this.statementCounter = statementCounter;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("jpa.statements")
+                    .description("Comandos SQL executados por requisição")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .tag(EntityTags.KEY, EntityTags.fromPath(uri))
+                    .register(registry)
+                    .record(statements);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.fatec.back.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fatec.back.domain.Adherence.AdherenceDaily;
+import com.fatec.back.domain.Adherence.AdherenceDayDTO;
+
+/**
+ * Repositório de dados para a entidade {@link AdherenceDaily}.
+ * <p>
+ * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
+ * para a entidade {@link AdherenceDaily}, além das consultas por intervalo usadas pelos relatórios de adesão.
+ * A gravação dos consolidados é fornecida pelo fragmento {@link AdherenceDailyUpsertRepository}.
+ * </p>
+ * 
+ * @see AdherenceDaily
+ * @see JpaRepository
+ * @see AdherenceDailyUpsertRepository
+ */
+public interface AdherenceDailyRepository extends JpaRepository<AdherenceDaily, Long>, AdherenceDailyUpsertRepository {
+
+    /**
+     * Soma, por dia, os consolidados de todas as prescrições de um paciente no intervalo informado.
+     * A consulta é atendida pelo índice {@code (id_patient, rollup_day)}.
+     *
+     * @param patientId ID do paciente.
+     * @param from Primeiro dia do intervalo (inclusivo).
+     * @param to Último dia do intervalo (inclusivo).
+     * @return A adesão de cada dia, em ordem crescente.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.Adherence.AdherenceDayDTO(a.day, SUM(a.expected), SUM(a.taken))
+            FROM AdherenceDaily a
+            WHERE a.patientId = :patientId
+              AND a.day BETWEEN :from AND :to
+            GROUP BY a.day
+            ORDER BY a.day ASC
+            """)
+    List<AdherenceDayDTO> findPatientDays(@Param("patientId") Long patientId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * Busca os consolidados de uma prescrição no intervalo informado.
+     * A consulta é atendida pela chave única {@code (id_relation_mp, rollup_day)}.
+     *
+     * @param relationMPId ID da prescrição.
+     * @param from Primeiro dia do intervalo (inclusivo).
+     * @param to Último dia do intervalo (inclusivo).
+     * @return A adesão de cada dia, em ordem crescente.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.Adherence.AdherenceDayDTO(a.day, CAST(a.expected AS Long), CAST(a.taken AS Long))
+            FROM AdherenceDaily a
+            WHERE a.relationMPId = :relationMPId
+              AND a.day BETWEEN :from AND :to
+            ORDER BY a.day ASC
+            """)
+    List<AdherenceDayDTO> findRelationMPDays(@Param("relationMPId") Long relationMPId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * Busca os dias que já têm consolidado de uma prescrição.
+     *
+     * @param relationMPId ID da prescrição.
+     * @return Os dias consolidados da prescrição.
+     */
+    @Query("SELECT a.day FROM AdherenceDaily a WHERE a.relationMPId = :relationMPId")
+    List<LocalDate> findDaysByRelationMP(@Param("relationMPId") Long relationMPId);
+}
@@ -0,0 +1,26 @@
+package com.fatec.back.repository;
+
+import java.util.List;
+
+import com.fatec.back.domain.Adherence.AdherenceDaily;
+
+/**
+ * Fragmento do {@link AdherenceDailyRepository} para gravação dos consolidados de adesão.
+ * <p>
+ * Um mesmo dia de uma prescrição pode ser consolidado por gravações de histórico concorrentes.
+ * Por isso a gravação é feita com {@code INSERT ... ON DUPLICATE KEY UPDATE} sobre a chave única
+ * {@code (id_relation_mp, rollup_day)}, diretamente via JDBC.
+ * </p>
+ *
+ * @see AdherenceDailyUpsertRepositoryImpl
+ */
+public interface AdherenceDailyUpsertRepository {
+
+    /**
+     * Insere os consolidados informados ou, se o dia da prescrição já existir, substitui
+     * as quantidades de doses previstas e tomadas, usando inserts JDBC em lote.
+     *
+     * @param rows Consolidados a serem gravados.
+     */
+    void upsertAll(List<AdherenceDaily> rows);
+}
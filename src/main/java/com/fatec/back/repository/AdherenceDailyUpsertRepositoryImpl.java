@@ -0,0 +1,53 @@
+package com.fatec.back.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fatec.back.domain.Adherence.AdherenceDaily;
+
+/**
+ * Implementação JDBC do fragmento {@link AdherenceDailyUpsertRepository}.
+ */
+class AdherenceDailyUpsertRepositoryImpl implements AdherenceDailyUpsertRepository {
+    private static final String UPSERT_SQL = """
+            INSERT INTO adherence_daily (id_relation_mp, id_patient, rollup_day, expected, taken, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id_patient = VALUES(id_patient), expected = VALUES(expected), taken = VALUES(taken), updated_at = VALUES(updated_at)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<AdherenceDaily> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AdherenceDaily row = rows.get(i);
+                ps.setLong(1, row.getRelationMPId());
+                ps.setLong(2, row.getPatientId());
+                ps.setDate(3, Date.valueOf(row.getDay()));
+                ps.setInt(4, row.getExpected());
+                ps.setInt(5, row.getTaken());
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+}
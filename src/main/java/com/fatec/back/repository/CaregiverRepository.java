@@ -1,19 +1,96 @@
 package com.fatec.back.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.fatec.back.cache.CacheRegions;
 import com.fatec.back.domain.Caregiver.Caregiver;
+import com.fatec.back.domain.Caregiver.CaregiverResponseDTO;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositório de dados para a entidade {@link Caregiver}.
  * <p>
  * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
  * para a entidade {@link Caregiver}, além de outras operações específicas que podem ser definidas conforme necessário.
+ * As consultas de página e de busca por ID usam o cache de consultas do Hibernate (região
+ * {@link CacheRegions#LOOKUP}), descartado sempre que uma das tabelas consultadas é alterada.
  * </p>
  * 
  * @see Caregiver
  * @see JpaRepository
  */
 public interface CaregiverRepository extends JpaRepository<Caregiver, Long> {
-    
+
+    /**
+     * Busca um registro pelo ID, carregando o usuário do cuidador e o seu papel na mesma consulta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo o registro encontrado.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"user", "user.role"})
+    Optional<Caregiver> findById(Long id);
+
+    /**
+     * Busca uma página de registros a partir do ID informado (paginação por chave),
+     * selecionando apenas as colunas retornadas pela API e
+     * aplicando os filtros opcionais de exclusão lógica e intervalo de criação.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param deleted Valor do indicador de exclusão lógica, ou {@code null} para não filtrar.
+     * @param createdFrom Data/hora de criação mínima (inclusiva), ou {@code null}.
+     * @param createdTo Data/hora de criação máxima (exclusiva), ou {@code null}.
+     * @param limit Quantidade máxima de registros retornados.
+     * @return Os dados dos registros encontrados, ordenados pelo ID, com o nome e o e-mail do usuário do cuidador.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LOOKUP) })
+    @Query("""
+            SELECT new com.fatec.back.domain.Caregiver.CaregiverResponseDTO(
+                c.id, cu.name, cu.email, c.relation,
+                c.created_at, c.updated_at, c.created_by.id, c.updated_by.id, c.deleted)
+            FROM Caregiver c
+            JOIN c.user cu
+            WHERE c.id > :afterId
+              AND (:deleted IS NULL OR c.deleted = :deleted)
+              AND (:createdFrom IS NULL OR c.created_at >= :createdFrom)
+              AND (:createdTo IS NULL OR c.created_at < :createdTo)
+            ORDER BY c.id ASC
+            """)
+    List<CaregiverResponseDTO> findPage(@Param("afterId") long afterId,
+            @Param("deleted") Boolean deleted,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    /**
+     * Busca os dados de um registro retornados pela API, selecionando apenas as colunas da resposta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo os dados do registro encontrado.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LOOKUP) })
+    @Query("""
+            SELECT new com.fatec.back.domain.Caregiver.CaregiverResponseDTO(
+                c.id, cu.name, cu.email, c.relation,
+                c.created_at, c.updated_at, c.created_by.id, c.updated_by.id, c.deleted)
+            FROM Caregiver c
+            JOIN c.user cu
+            WHERE c.id = :id
+            """)
+    Optional<CaregiverResponseDTO> findResponseById(@Param("id") Long id);
 }
@@ -0,0 +1,26 @@
+package com.fatec.back.repository;
+
+import java.util.List;
+
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+
+/**
+ * Fragmento do {@link DoseSlotRepository} para inclusão de horários de dose em lote.
+ * <p>
+ * A entidade {@link DoseSlot} usa ID gerado pelo banco ({@code IDENTITY}), o que impede o
+ * Hibernate de agrupar os inserts. Por isso a inclusão em lote é feita diretamente via JDBC.
+ * </p>
+ *
+ * @see DoseSlotBatchRepositoryImpl
+ */
+public interface DoseSlotBatchRepository {
+
+    /**
+     * Insere os horários de dose informados usando inserts JDBC em lote, ignorando os que já existem
+     * (mesma prescrição e horário), por exemplo os materializados por um recálculo concorrente da prescrição.
+     *
+     * @param slots Horários de dose a serem inseridos.
+     * @return A quantidade de horários inseridos.
+     */
+    int insertMissing(List<DoseSlot> slots);
+}
@@ -0,0 +1,62 @@
+package com.fatec.back.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+
+/**
+ * Implementação JDBC do fragmento {@link DoseSlotBatchRepository}.
+ * <p>
+ * Os registros são enviados em um único {@code executeBatch}. Com a propriedade
+ * {@code rewriteBatchedStatements} do driver MySQL habilitada, o lote é reescrito
+ * em um {@code INSERT} com múltiplas linhas. Os horários que violariam a chave única
+ * {@code uq_dose_slot_relation_mp_due_at} são ignorados com {@code INSERT IGNORE}.
+ * </p>
+ */
+class DoseSlotBatchRepositoryImpl implements DoseSlotBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO dose_slot (id_relation_mp, id_patient, id_medication, dosage, due_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertMissing(List<DoseSlot> slots) {
+        if (slots.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DoseSlot slot = slots.get(i);
+                ps.setLong(1, slot.getRelationMPId());
+                ps.setLong(2, slot.getPatientId());
+                ps.setLong(3, slot.getMedicationId());
+                ps.setInt(4, slot.getDosage());
+                ps.setTimestamp(5, Timestamp.valueOf(slot.getDueAt()));
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return slots.size();
+            }
+        });
+        int inserted = 0;
+        for (int count : counts) {
+            inserted += Math.max(count, 0);
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,114 @@
+package com.fatec.back.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+
+/**
+ * Repositório de dados para a entidade {@link DoseSlot}.
+ * <p>
+ * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
+ * para a entidade {@link DoseSlot}, além das consultas usadas pela materialização incremental dos horários de dose.
+ * A inclusão em lote que ignora horários já existentes é fornecida pelo fragmento {@link DoseSlotBatchRepository}.
+ * </p>
+ * 
+ * @see DoseSlot
+ * @see JpaRepository
+ * @see DoseSlotBatchRepository
+ */
+public interface DoseSlotRepository extends JpaRepository<DoseSlot, Long>, DoseSlotBatchRepository {
+
+    /**
+     * Busca as próximas doses de um paciente a partir da data/hora informada.
+     * A consulta é atendida pelo índice {@code (id_patient, due_at)}.
+     *
+     * @param patientId ID do paciente.
+     * @param from Data/hora mínima das doses (inclusiva).
+     * @param limit Quantidade máxima de doses retornadas.
+     * @return As próximas doses, ordenadas pelo horário previsto.
+     */
+    List<DoseSlot> findByPatientIdAndDueAtGreaterThanEqualOrderByDueAtAsc(Long patientId, LocalDateTime from, Limit limit);
+
+    /**
+     * Busca as doses dos pacientes informados em um intervalo, usado para carregar os lembretes
+     * dos pacientes com streams abertos. A consulta é atendida pelo índice {@code (id_patient, due_at)}.
+     *
+     * @param patientIds IDs dos pacientes.
+     * @param from Data/hora mínima das doses (inclusiva).
+     * @param to Data/hora máxima das doses (exclusiva).
+     * @return As doses encontradas.
+     */
+    List<DoseSlot> findByPatientIdInAndDueAtGreaterThanEqualAndDueAtLessThan(Collection<Long> patientIds,
+            LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Busca as doses das prescrições informadas em um intervalo, usado para recarregar os lembretes de
+     * prescrições recalculadas. A consulta é atendida pela chave única {@code (id_relation_mp, due_at)}.
+     *
+     * @param relationMPIds IDs das prescrições.
+     * @param from Data/hora mínima das doses (inclusiva).
+     * @param to Data/hora máxima das doses (exclusiva).
+     * @return As doses encontradas.
+     */
+    List<DoseSlot> findByRelationMPIdInAndDueAtGreaterThanEqualAndDueAtLessThan(Collection<Long> relationMPIds,
+            LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Busca as doses vencidas após a posição informada (paginação por chave {@code (dueAt, id)}),
+     * usado pela detecção incremental de doses perdidas. A consulta é atendida pelo índice {@code (due_at)}.
+     *
+     * @param afterDueAt Data/hora da última dose processada.
+     * @param afterId ID da última dose processada, para desempate.
+     * @param until Data/hora máxima das doses (exclusiva).
+     * @param limit Quantidade máxima de doses retornadas.
+     * @return As doses encontradas, ordenadas por {@code (dueAt, id)}.
+     */
+    @Query("""
+            SELECT s FROM DoseSlot s
+            WHERE (s.dueAt > :afterDueAt OR (s.dueAt = :afterDueAt AND s.id > :afterId))
+              AND s.dueAt < :until
+            ORDER BY s.dueAt ASC, s.id ASC
+            """)
+    List<DoseSlot> findDueAfter(@Param("afterDueAt") LocalDateTime afterDueAt,
+            @Param("afterId") long afterId,
+            @Param("until") LocalDateTime until,
+            Limit limit);
+
+    /**
+     * Retorna o horário da última dose já materializada para a prescrição.
+     *
+     * @param relationMPId ID da prescrição.
+     * @return O horário da última dose materializada, se existir.
+     */
+    @Query("SELECT MAX(s.dueAt) FROM DoseSlot s WHERE s.relationMPId = :relationMPId")
+    Optional<LocalDateTime> findLastDueAt(@Param("relationMPId") Long relationMPId);
+
+    /**
+     * Retorna o horário da última dose materializada para cada prescrição informada.
+     *
+     * @param relationMPIds IDs das prescrições.
+     * @return Pares {@code [relationMPId, maxDueAt]} das prescrições que possuem doses materializadas.
+     */
+    @Query("SELECT s.relationMPId, MAX(s.dueAt) FROM DoseSlot s WHERE s.relationMPId IN :relationMPIds GROUP BY s.relationMPId")
+    List<Object[]> findLastDueAtByRelationMP(@Param("relationMPIds") Collection<Long> relationMPIds);
+
+    /**
+     * Remove as doses de uma prescrição a partir da data/hora informada.
+     *
+     * @param relationMPId ID da prescrição.
+     * @param from Data/hora a partir da qual as doses são removidas (inclusiva).
+     * @return A quantidade de doses removidas.
+     */
+    @Modifying
+    @Query("DELETE FROM DoseSlot s WHERE s.relationMPId = :relationMPId AND s.dueAt >= :from")
+    int deleteFrom(@Param("relationMPId") Long relationMPId, @Param("from") LocalDateTime from);
+}
@@ -1,8 +1,19 @@
 package com.fatec.back.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.fatec.back.domain.Caregiver.CaregiverDashboardRowDTO;
 import com.fatec.back.domain.Have.Have;
+import com.fatec.back.domain.Have.HaveResponseDTO;
 
 /**
  * Repositório de dados para a entidade {@link Have}.
@@ -15,5 +26,117 @@ import com.fatec.back.domain.Have.Have;
  * @see JpaRepository
  */
 public interface HaveRepository extends JpaRepository<Have, Long>{
-    
+
+    /**
+     * Busca um registro pelo ID, carregando o paciente e o cuidador, com os seus usuários na mesma consulta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo o registro encontrado.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"patient", "patient.user", "patient.user.role", "caregiver", "caregiver.user", "caregiver.user.role"})
+    Optional<Have> findById(Long id);
+
+    /**
+     * Busca uma página de registros a partir do ID informado (paginação por chave),
+     * selecionando apenas as colunas retornadas pela API e
+     * aplicando os filtros opcionais de exclusão lógica e intervalo de criação.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param deleted Valor do indicador de exclusão lógica, ou {@code null} para não filtrar.
+     * @param createdFrom Data/hora de criação mínima (inclusiva), ou {@code null}.
+     * @param createdTo Data/hora de criação máxima (exclusiva), ou {@code null}.
+     * @param limit Quantidade máxima de registros retornados.
+     * @return Os dados dos registros encontrados, ordenados pelo ID, com os nomes do paciente e do cuidador.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.Have.HaveResponseDTO(
+                h.id, h.startDate, h.endDate, p.id, pu.name, c.id, cu.name,
+                h.createdAt, h.updatedAt, h.createdBy.id, h.updatedBy.id, h.deleted)
+            FROM Have h
+            JOIN h.patient p
+            JOIN p.user pu
+            JOIN h.caregiver c
+            JOIN c.user cu
+            WHERE h.id > :afterId
+              AND (:deleted IS NULL OR h.deleted = :deleted)
+              AND (:createdFrom IS NULL OR h.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR h.createdAt < :createdTo)
+            ORDER BY h.id ASC
+            """)
+    List<HaveResponseDTO> findPage(@Param("afterId") long afterId,
+            @Param("deleted") Boolean deleted,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    /**
+     * Busca os dados de um registro retornados pela API, selecionando apenas as colunas da resposta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo os dados do registro encontrado.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.Have.HaveResponseDTO(
+                h.id, h.startDate, h.endDate, p.id, pu.name, c.id, cu.name,
+                h.createdAt, h.updatedAt, h.createdBy.id, h.updatedBy.id, h.deleted)
+            FROM Have h
+            JOIN h.patient p
+            JOIN p.user pu
+            JOIN h.caregiver c
+            JOIN c.user cu
+            WHERE h.id = :id
+            """)
+    Optional<HaveResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Busca, em uma única consulta, os pacientes com vínculo ativo com o cuidador e as suas prescrições ativas
+     * (já iniciadas e ainda não encerradas).
+     * Os vínculos são filtrados pelo índice {@code (id_caregiver, deleted)} e as prescrições pelo índice
+     * {@code (id_patient, deleted, end_date)}.
+     *
+     * @param caregiverId ID do cuidador.
+     * @param today Data de referência para considerar o vínculo e as prescrições ativos.
+     * @return Uma linha por prescrição ativa (ou uma linha sem prescrição para pacientes sem nenhuma),
+     *         ordenadas pelo nome do paciente e pelo ID da prescrição.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.Caregiver.CaregiverDashboardRowDTO(
+                p.id, pu.name, p.birthday, p.patientCondition, hv.startDate,
+                r.id, m.id, m.name, r.dosage, r.frequencyValue, r.frequencyUnit, r.startDate, r.endDate)
+            FROM Have hv
+            JOIN hv.patient p
+            JOIN p.user pu
+            LEFT JOIN RelationMP r ON r.patient = p AND r.deleted = false
+                AND r.startDate <= :today AND r.endDate >= :today
+            LEFT JOIN r.medication m
+            WHERE hv.caregiver.id = :caregiverId
+              AND hv.deleted = false
+              AND hv.startDate <= :today
+              AND (hv.endDate IS NULL OR hv.endDate >= :today)
+              AND p.deleted = false
+            ORDER BY pu.name ASC, p.id ASC, r.id ASC
+            """)
+    List<CaregiverDashboardRowDTO> findDashboardRows(@Param("caregiverId") Long caregiverId,
+            @Param("today") LocalDate today);
+
+    /**
+     * Busca os IDs dos pacientes com vínculo ativo com o cuidador.
+     * Os vínculos são filtrados pelo índice {@code (id_caregiver, deleted)}.
+     *
+     * @param caregiverId ID do cuidador.
+     * @param today Data de referência para considerar o vínculo ativo.
+     * @return Os IDs dos pacientes, sem repetição.
+     */
+    @Query("""
+            SELECT DISTINCT p.id
+            FROM Have hv
+            JOIN hv.patient p
+            WHERE hv.caregiver.id = :caregiverId
+              AND hv.deleted = false
+              AND hv.startDate <= :today
+              AND (hv.endDate IS NULL OR hv.endDate >= :today)
+              AND p.deleted = false
+            """)
+    List<Long> findActivePatientIds(@Param("caregiverId") Long caregiverId, @Param("today") LocalDate today);
 }
@@ -0,0 +1,97 @@
+package com.fatec.back.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fatec.back.domain.History.HistoryArchive;
+import com.fatec.back.domain.History.HistoryResponseDTO;
+
+/**
+ * Repositório de dados para a entidade {@link HistoryArchive}.
+ * <p>
+ * Esta interface estende {@link JpaRepository}, fornecendo as consultas dos históricos arquivados, no mesmo
+ * formato das consultas dos históricos ativos, e a cópia dos históricos para a tabela de arquivo.
+ * </p>
+ * 
+ * @see HistoryArchive
+ * @see JpaRepository
+ */
+public interface HistoryArchiveRepository extends JpaRepository<HistoryArchive, Long> {
+
+    /**
+     * Busca uma página de históricos arquivados a partir do ID informado (paginação por chave),
+     * aplicando os filtros opcionais de exclusão lógica e intervalo de criação.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param deleted Valor do indicador de exclusão lógica, ou {@code null} para não filtrar.
+     * @param createdFrom Data/hora de criação mínima (inclusiva), ou {@code null}.
+     * @param createdTo Data/hora de criação máxima (exclusiva), ou {@code null}.
+     * @param limit Quantidade máxima de registros retornados.
+     * @return Os dados dos históricos encontrados, ordenados pelo ID, com o medicamento e o paciente da prescrição.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.History.HistoryResponseDTO(
+                a.id, a.taked, a.takedAt, r.id, m.id, m.name, r.patient.id,
+                a.createdAt, a.updatedAt, a.createdById, a.updatedById, a.deleted)
+            FROM HistoryArchive a
+            JOIN RelationMP r ON r.id = a.relationMPId
+            JOIN r.medication m
+            WHERE a.id > :afterId
+              AND (:deleted IS NULL OR a.deleted = :deleted)
+              AND (:createdFrom IS NULL OR a.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR a.createdAt < :createdTo)
+            ORDER BY a.id ASC
+            """)
+    List<HistoryResponseDTO> findPage(@Param("afterId") long afterId,
+            @Param("deleted") Boolean deleted,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    /**
+     * Busca os dados de um histórico arquivado, no formato retornado pela API.
+     *
+     * @param id ID do histórico.
+     * @return Um {@link Optional} contendo os dados do histórico encontrado.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.History.HistoryResponseDTO(
+                a.id, a.taked, a.takedAt, r.id, m.id, m.name, r.patient.id,
+                a.createdAt, a.updatedAt, a.createdById, a.updatedById, a.deleted)
+            FROM HistoryArchive a
+            JOIN RelationMP r ON r.id = a.relationMPId
+            JOIN r.medication m
+            WHERE a.id = :id
+            """)
+    Optional<HistoryResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Copia os históricos informados para a tabela de arquivo, ignorando os que já foram copiados
+     * (uma execução anterior interrompida entre a cópia e a remoção da partição).
+     *
+     * @param ids IDs dos históricos.
+     * @param archivedAt Data/hora do arquivamento.
+     * @return A quantidade de históricos copiados.
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO HistoryArchive (id, taked, takedAt, relationMPId, createdAt, updatedAt,
+                createdById, updatedById, deleted, archivedAt)
+            SELECT h.id, h.taked, h.takedAt, h.relationMP.id, h.createdAt, h.updatedAt,
+                cb.id, ub.id, h.deleted, :archivedAt
+            FROM History h
+            LEFT JOIN h.createdBy cb
+            LEFT JOIN h.updatedBy ub
+            WHERE h.id IN :ids
+              AND NOT EXISTS (SELECT 1 FROM HistoryArchive a WHERE a.id = h.id)
+            """)
+    int copyFromHistory(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,27 @@
+package com.fatec.back.repository;
+
+import java.util.List;
+
+import com.fatec.back.domain.History.History;
+
+/**
+ * Fragmento do {@link HistoryRepository} para inclusão de históricos em lote.
+ * <p>
+ * A entidade {@link History} usa ID gerado pelo banco ({@code IDENTITY}), o que impede o
+ * Hibernate de agrupar os inserts. Por isso a inclusão em lote é feita diretamente via JDBC.
+ * </p>
+ *
+ * @see HistoryBatchRepositoryImpl
+ */
+public interface HistoryBatchRepository {
+
+    /**
+     * Insere os históricos informados usando inserts JDBC em lote.
+     * Apenas os IDs de {@code relationMP}, {@code createdBy} e {@code updatedBy} são lidos,
+     * portanto referências obtidas com {@code getReferenceById} são suficientes.
+     *
+     * @param histories Históricos a serem inseridos.
+     * @return Os IDs gerados, na mesma ordem dos históricos.
+     */
+    List<Long> insertAll(List<History> histories);
+}
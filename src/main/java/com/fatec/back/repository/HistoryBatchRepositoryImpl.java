@@ -0,0 +1,80 @@
+package com.fatec.back.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.fatec.back.domain.History.History;
+
+/**
+ * Implementação JDBC do fragmento {@link HistoryBatchRepository}.
+ * <p>
+ * Os registros são enviados em um único {@code executeBatch}. Com a propriedade
+ * {@code rewriteBatchedStatements} do driver MySQL habilitada, o lote é reescrito
+ * em um {@code INSERT} com múltiplas linhas.
+ * </p>
+ */
+class HistoryBatchRepositoryImpl implements HistoryBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO history (id_relation_mp, taked, taked_at, created_at, updated_at, created_by, updated_by, deleted,
+                journal_key)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<History> histories) {
+        if (histories.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        History history = histories.get(i);
+                        ps.setLong(1, history.getRelationMP().getId());
+                        ps.setBoolean(2, history.isTaked());
+                        if (history.getTakedAt() != null) {
+                            ps.setTimestamp(3, Timestamp.valueOf(history.getTakedAt()));
+                        } else {
+                            ps.setNull(3, Types.TIMESTAMP);
+                        }
+                        ps.setTimestamp(4, now);
+                        ps.setTimestamp(5, now);
+                        ps.setLong(6, history.getCreatedBy().getId());
+                        ps.setLong(7, history.getUpdatedBy().getId());
+                        ps.setBoolean(8, history.isDeleted());
+                        ps.setString(9, history.getJournalKey());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return histories.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(histories.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,38 @@
+package com.fatec.back.repository;
+
+import java.util.stream.Stream;
+
+import com.fatec.back.domain.History.HistoryResponseDTO;
+
+/**
+ * Fragmento do {@link HistoryRepository} com as leituras em {@link Stream} da exportação do histórico.
+ * <p>
+ * O tamanho de busca ({@code api.history.export.fetch-size}) é aplicado apenas a estas consultas. No MySQL, o valor
+ * {@link Integer#MIN_VALUE} faz o driver entregar as linhas uma a uma conforme chegam do servidor, sem carregar o
+ * resultado inteiro em memória e sem cursor no servidor. Enquanto o {@link Stream} estiver aberto, a conexão não
+ * executa outros comandos; por isso cada {@link Stream} deve ser consumido e fechado antes da próxima consulta,
+ * dentro de uma transação.
+ * </p>
+ *
+ * @see HistoryExportRepositoryImpl
+ */
+public interface HistoryExportRepository {
+
+    /**
+     * Percorre todos os históricos das prescrições de um paciente, incluindo os excluídos logicamente,
+     * selecionando apenas as colunas da resposta.
+     *
+     * @param patientId ID do paciente.
+     * @return Os dados dos históricos, ordenados pelo ID.
+     */
+    Stream<HistoryResponseDTO> streamByPatient(Long patientId);
+
+    /**
+     * Percorre todos os históricos arquivados das prescrições de um paciente, no mesmo formato de
+     * {@link #streamByPatient(Long)}.
+     *
+     * @param patientId ID do paciente.
+     * @return Os dados dos históricos arquivados, ordenados pelo ID.
+     */
+    Stream<HistoryResponseDTO> streamArchivedByPatient(Long patientId);
+}
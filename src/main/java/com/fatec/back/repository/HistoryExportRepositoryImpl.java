@@ -0,0 +1,61 @@
+package com.fatec.back.repository;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import com.fatec.back.domain.History.HistoryResponseDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementação JPQL do fragmento {@link HistoryExportRepository}, com o tamanho de busca configurado em
+ * {@code api.history.export.fetch-size}.
+ */
+class HistoryExportRepositoryImpl implements HistoryExportRepository {
+    private static final String ACTIVE_JPQL = """
+            SELECT new com.fatec.back.domain.History.HistoryResponseDTO(
+                h.id, h.taked, h.takedAt, r.id, m.id, m.name, r.patient.id,
+                h.createdAt, h.updatedAt, h.createdBy.id, h.updatedBy.id, h.deleted)
+            FROM History h
+            JOIN h.relationMP r
+            JOIN r.medication m
+            WHERE r.patient.id = :patientId
+            ORDER BY h.id ASC
+            """;
+    private static final String ARCHIVED_JPQL = """
+            SELECT new com.fatec.back.domain.History.HistoryResponseDTO(
+                a.id, a.taked, a.takedAt, r.id, m.id, m.name, r.patient.id,
+                a.createdAt, a.updatedAt, a.createdById, a.updatedById, a.deleted)
+            FROM HistoryArchive a
+            JOIN RelationMP r ON r.id = a.relationMPId
+            JOIN r.medication m
+            WHERE r.patient.id = :patientId
+            ORDER BY a.id ASC
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${api.history.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Override
+    public Stream<HistoryResponseDTO> streamByPatient(Long patientId) {
+        return stream(ACTIVE_JPQL, patientId);
+    }
+
+    @Override
+    public Stream<HistoryResponseDTO> streamArchivedByPatient(Long patientId) {
+        return stream(ARCHIVED_JPQL, patientId);
+    }
+
+    private Stream<HistoryResponseDTO> stream(String jpql, Long patientId) {
+        return entityManager.createQuery(jpql, HistoryResponseDTO.class)
+                .setParameter("patientId", patientId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
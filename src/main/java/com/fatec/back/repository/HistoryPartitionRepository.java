@@ -0,0 +1,52 @@
+package com.fatec.back.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Fragmento do {@link HistoryRepository} para a manutenção das partições da tabela {@code history}.
+ * <p>
+ * Em MySQL, a tabela é particionada por mês de {@code created_at} ({@code PARTITION BY RANGE}), com uma
+ * partição final {@code p_future} sem limite superior. As partições são alteradas por comandos DDL,
+ * executados diretamente via JDBC.
+ * </p>
+ *
+ * @see HistoryPartitionRepositoryImpl
+ */
+public interface HistoryPartitionRepository {
+
+    /**
+     * Partição da tabela {@code history}.
+     *
+     * @param name Nome da partição.
+     * @param lessThan Limite superior (exclusivo) de {@code created_at}, ou {@code null} para {@code p_future}.
+     */
+    record Partition(String name, LocalDateTime lessThan) {
+    }
+
+    /**
+     * Lista as partições da tabela, em ordem.
+     *
+     * @return As partições, ou uma lista vazia se a tabela não for particionada.
+     */
+    List<Partition> findPartitions();
+
+    /**
+     * Cria uma partição antes de {@code p_future}, dividindo-a.
+     *
+     * @param name Nome da nova partição.
+     * @param lessThan Limite superior (exclusivo) da nova partição.
+     * @throws org.springframework.dao.CannotAcquireLockException Se a espera pelo bloqueio da tabela se esgotar.
+     */
+    void addPartition(String name, LocalDateTime lessThan);
+
+    /**
+     * Remove uma partição já copiada para a tabela {@code history_archive}. Com as tabelas bloqueadas, copia
+     * novamente os registros da partição alterados ou incluídos desde a cópia e só então remove a partição, de
+     * forma que nenhuma alteração feita durante a cópia em blocos é perdida.
+     *
+     * @param name Nome da partição.
+     * @throws org.springframework.dao.CannotAcquireLockException Se a espera pelo bloqueio da tabela se esgotar.
+     */
+    void dropArchivedPartition(String name);
+}
@@ -0,0 +1,135 @@
+package com.fatec.back.repository;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Implementação JDBC (MySQL) do fragmento {@link HistoryPartitionRepository}.
+ * <p>
+ * Os limites das partições são expressos em {@code UNIX_TIMESTAMP(created_at)}, já que {@code created_at} é uma
+ * coluna {@code TIMESTAMP}, e são convertidos com {@code FROM_UNIXTIME}, no fuso horário da sessão, da mesma
+ * forma que na criação. Os nomes das partições são gerados pela aplicação e validados antes de compor o DDL.
+ * </p>
+ * <p>
+ * A remoção de uma partição arquivada é feita em uma única conexão, entre {@code LOCK TABLES} e
+ * {@code UNLOCK TABLES}: enquanto a diferença entre a partição e o arquivo é copiada e a partição é removida, nenhum
+ * histórico pode ser gravado. A diferença se limita aos registros alterados durante a cópia em blocos, de forma que
+ * o bloqueio é curto.
+ * </p>
+ * <p>
+ * Os comandos que alteram as partições esperam o bloqueio da tabela por no máximo
+ * {@code api.history.partitions.lock-wait-timeout} ({@code lock_wait_timeout} da sessão). Enquanto um deles espera,
+ * as demais consultas à tabela ficam na fila atrás dele; com o limite, uma transação longa (como a exportação do
+ * histórico de um paciente) atrasa a manutenção das partições, e não as requisições. Esgotado o tempo, é lançada uma
+ * {@link org.springframework.dao.CannotAcquireLockException}.
+ * </p>
+ */
+class HistoryPartitionRepositoryImpl implements HistoryPartitionRepository {
+    private static final Pattern PARTITION_NAME = Pattern.compile("p_?[a-z0-9]+");
+    private static final String FUTURE = "p_future";
+    private static final String SELECT_SQL = """
+            SELECT PARTITION_NAME,
+                   CASE WHEN PARTITION_DESCRIPTION = 'MAXVALUE' THEN NULL
+                        ELSE FROM_UNIXTIME(PARTITION_DESCRIPTION) END
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'history'
+              AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+    private static final String LOCK_SQL =
+            "LOCK TABLES history WRITE, history AS h READ, history_archive WRITE, history_archive AS a READ";
+    private static final String RESYNC_SQL = """
+            REPLACE INTO history_archive (id_history, id_relation_mp, taked, taked_at, created_at, updated_at,
+                created_by, updated_by, deleted, archived_at)
+            SELECT h.id_history, h.id_relation_mp, h.taked, h.taked_at, h.created_at, h.updated_at,
+                h.created_by, h.updated_by, h.deleted, CURRENT_TIMESTAMP
+            FROM history PARTITION (%s) AS h
+            WHERE NOT EXISTS (
+                SELECT 1 FROM history_archive AS a
+                WHERE a.id_history = h.id_history
+                  AND a.id_relation_mp = h.id_relation_mp
+                  AND a.taked = h.taked
+                  AND a.taked_at <=> h.taked_at
+                  AND a.updated_at <=> h.updated_at
+                  AND a.created_by <=> h.created_by
+                  AND a.updated_by <=> h.updated_by
+                  AND a.deleted = h.deleted)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${api.history.partitions.lock-wait-timeout:PT5S}")
+    private Duration lockWaitTimeout;
+
+    @Override
+    public List<Partition> findPartitions() {
+        return jdbcTemplate.query(SELECT_SQL, (rs, i) -> {
+            Timestamp lessThan = rs.getTimestamp(2);
+            return new Partition(rs.getString(1), lessThan != null ? lessThan.toLocalDateTime() : null);
+        });
+    }
+
+    @Override
+    public void addPartition(String name, LocalDateTime lessThan) {
+        String sql = "ALTER TABLE history REORGANIZE PARTITION " + FUTURE + " INTO ("
+                + "PARTITION " + checked(name) + " VALUES LESS THAN (UNIX_TIMESTAMP('" + Timestamp.valueOf(lessThan) + "')), "
+                + "PARTITION " + FUTURE + " VALUES LESS THAN MAXVALUE)";
+        withLockWaitTimeout(statement -> statement.executeUpdate(sql));
+    }
+
+    @Override
+    public void dropArchivedPartition(String name) {
+        String partition = checked(name);
+        withLockWaitTimeout(statement -> {
+            statement.execute(LOCK_SQL);
+            try {
+                statement.executeUpdate(RESYNC_SQL.formatted(partition));
+                statement.executeUpdate("ALTER TABLE history DROP PARTITION " + partition);
+            } finally {
+                statement.execute("UNLOCK TABLES");
+            }
+        });
+    }
+
+    /**
+     * Executa os comandos em uma única conexão, com o tempo de espera por bloqueios limitado, e restaura o
+     * valor padrão da sessão antes de devolver a conexão ao pool.
+     */
+    private void withLockWaitTimeout(StatementAction action) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION lock_wait_timeout = " + Math.max(1, lockWaitTimeout.toSeconds()));
+                try {
+                    action.execute(statement);
+                } finally {
+                    statement.execute("SET SESSION lock_wait_timeout = DEFAULT");
+                }
+            }
+            return null;
+        });
+    }
+
+    @FunctionalInterface
+    private interface StatementAction {
+        void execute(Statement statement) throws SQLException;
+    }
+
+    private static String checked(String name) {
+        if (!PARTITION_NAME.matcher(name).matches() || FUTURE.equals(name)) {
+            throw new IllegalArgumentException("Nome de partição inválido: " + name);
+        }
+        return name;
+    }
+}
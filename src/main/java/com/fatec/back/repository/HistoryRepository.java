@@ -1,18 +1,218 @@
 package com.fatec.back.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.History.HistoryResponseDTO;
+
 /**
  * Repositório de dados para a entidade {@link History}.
  * <p>
  * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
  * para a entidade {@link History}, além de outras operações específicas que podem ser definidas conforme necessário.
+ * A inclusão em lote é fornecida pelo fragmento {@link HistoryBatchRepository}, a manutenção das partições
+ * da tabela pelo fragmento {@link HistoryPartitionRepository} e as leituras da exportação pelo fragmento
+ * {@link HistoryExportRepository}.
  * </p>
  * 
  * @see History
  * @see JpaRepository
+ * @see HistoryBatchRepository
+ * @see HistoryPartitionRepository
+ * @see HistoryExportRepository
  */
-public interface HistoryRepository extends JpaRepository<History, Long> {
-    
+public interface HistoryRepository extends JpaRepository<History, Long>, HistoryBatchRepository, HistoryPartitionRepository,
+        HistoryExportRepository {
+
+    /**
+     * Busca um registro pelo ID, carregando a prescrição, com o medicamento e o paciente na mesma consulta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo o registro encontrado.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"relationMP", "relationMP.medication", "relationMP.patient", "relationMP.patient.user", "relationMP.patient.user.role"})
+    Optional<History> findById(Long id);
+
+    /**
+     * Busca uma página de registros a partir do ID informado (paginação por chave),
+     * selecionando apenas as colunas retornadas pela API e
+     * aplicando os filtros opcionais de exclusão lógica e intervalo de criação.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param deleted Valor do indicador de exclusão lógica, ou {@code null} para não filtrar.
+     * @param createdFrom Data/hora de criação mínima (inclusiva), ou {@code null}.
+     * @param createdTo Data/hora de criação máxima (exclusiva), ou {@code null}.
+     * @param limit Quantidade máxima de registros retornados.
+     * @return Os dados dos registros encontrados, ordenados pelo ID, com o medicamento e o paciente da prescrição.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.History.HistoryResponseDTO(
+                h.id, h.taked, h.takedAt, r.id, m.id, m.name, r.patient.id,
+                h.createdAt, h.updatedAt, h.createdBy.id, h.updatedBy.id, h.deleted)
+            FROM History h
+            JOIN h.relationMP r
+            JOIN r.medication m
+            WHERE h.id > :afterId
+              AND (:deleted IS NULL OR h.deleted = :deleted)
+              AND (:createdFrom IS NULL OR h.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR h.createdAt < :createdTo)
+            ORDER BY h.id ASC
+            """)
+    List<HistoryResponseDTO> findPage(@Param("afterId") long afterId,
+            @Param("deleted") Boolean deleted,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    /**
+     * Busca os dados de um registro retornados pela API, selecionando apenas as colunas da resposta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo os dados do registro encontrado.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.History.HistoryResponseDTO(
+                h.id, h.taked, h.takedAt, r.id, m.id, m.name, r.patient.id,
+                h.createdAt, h.updatedAt, h.createdBy.id, h.updatedBy.id, h.deleted)
+            FROM History h
+            JOIN h.relationMP r
+            JOIN r.medication m
+            WHERE h.id = :id
+            """)
+    Optional<HistoryResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Conta, por prescrição e por dia de {@code takedAt}, os registros não excluídos com {@code taked = true}.
+     * A consulta é atendida pelo índice {@code (id_relation_mp, taked_at)}.
+     *
+     * @param relationMPIds IDs das prescrições.
+     * @param from Data/hora mínima de {@code takedAt} (inclusiva).
+     * @param to Data/hora máxima de {@code takedAt} (exclusiva).
+     * @return Triplas {@code [relationMPId, dia, quantidade]} dos dias com doses tomadas.
+     */
+    @Query("""
+            SELECT h.relationMP.id, CAST(h.takedAt AS LocalDate), COUNT(h)
+            FROM History h
+            WHERE h.relationMP.id IN :relationMPIds
+              AND h.taked = true
+              AND h.deleted = false
+              AND h.takedAt >= :from
+              AND h.takedAt < :to
+            GROUP BY h.relationMP.id, CAST(h.takedAt AS LocalDate)
+            """)
+    List<Object[]> countTakenByDay(@Param("relationMPIds") Collection<Long> relationMPIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Busca os horários de {@code takedAt} dos registros não excluídos com {@code taked = true} das prescrições
+     * informadas, usado para verificar em lote se doses vencidas foram tomadas.
+     * A consulta é atendida pelo índice {@code (id_relation_mp, taked_at)}.
+     *
+     * @param relationMPIds IDs das prescrições.
+     * @param from Data/hora mínima de {@code takedAt} (inclusiva).
+     * @param to Data/hora máxima de {@code takedAt} (exclusiva).
+     * @return Pares {@code [relationMPId, takedAt]} das doses tomadas no intervalo.
+     */
+    @Query("""
+            SELECT h.relationMP.id, h.takedAt
+            FROM History h
+            WHERE h.relationMP.id IN :relationMPIds
+              AND h.taked = true
+              AND h.deleted = false
+              AND h.takedAt >= :from
+              AND h.takedAt < :to
+            """)
+    List<Object[]> findTakenAt(@Param("relationMPIds") Collection<Long> relationMPIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Busca o registro não excluído mais recente (pelo {@code takedAt}) de cada prescrição informada.
+     * O máximo de cada prescrição é obtido pelo índice {@code (id_relation_mp, taked_at)}.
+     *
+     * @param relationMPIds IDs das prescrições.
+     * @return Os registros mais recentes; em caso de empate no {@code takedAt}, todos os empatados.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.History.HistoryResponseDTO(
+                h.id, h.taked, h.takedAt, r.id, m.id, m.name, r.patient.id,
+                h.createdAt, h.updatedAt, h.createdBy.id, h.updatedBy.id, h.deleted)
+            FROM History h
+            JOIN h.relationMP r
+            JOIN r.medication m
+            WHERE r.id IN :relationMPIds
+              AND h.deleted = false
+              AND h.takedAt = (
+                  SELECT MAX(l.takedAt) FROM History l
+                  WHERE l.relationMP.id = r.id AND l.deleted = false)
+            ORDER BY h.id ASC
+            """)
+    List<HistoryResponseDTO> findLatestByRelationMP(@Param("relationMPIds") Collection<Long> relationMPIds);
+
+    /**
+     * Retorna, dentre as chaves de registros do journal de históricos informadas, aquelas que já foram
+     * gravadas no banco. Usado na recuperação do journal para não gravar duas vezes um registro gravado
+     * antes de uma parada inesperada.
+     *
+     * @param keys Chaves dos registros do journal.
+     * @return As chaves já gravadas.
+     */
+    @Query("SELECT h.journalKey FROM History h WHERE h.journalKey IN :keys")
+    Set<String> findExistingJournalKeys(@Param("keys") Collection<String> keys);
+
+    /**
+     * Busca os IDs dos históricos criados antes da data/hora informada, a partir do ID informado
+     * (paginação por chave), usado pelo arquivamento. Em MySQL, a consulta lê apenas as partições
+     * anteriores à data/hora.
+     *
+     * @param before Data/hora de criação máxima (exclusiva).
+     * @param afterId ID a partir do qual a busca começa (exclusivo).
+     * @param limit Quantidade máxima de IDs retornados.
+     * @return Os IDs encontrados, em ordem crescente.
+     */
+    @Query("SELECT h.id FROM History h WHERE h.createdAt < :before AND h.id > :afterId ORDER BY h.id ASC")
+    List<Long> findIdsCreatedBefore(@Param("before") LocalDateTime before, @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Conta os históricos criados no intervalo informado que referenciam uma prescrição ou um usuário
+     * inexistente. Substitui a verificação das chaves estrangeiras da tabela, removidas pelo particionamento;
+     * em MySQL, a consulta lê apenas as partições do intervalo.
+     *
+     * @param from Data/hora de criação mínima (inclusiva).
+     * @param until Data/hora de criação máxima (exclusiva).
+     * @return A quantidade de históricos com alguma referência inexistente.
+     */
+    @Query("""
+            SELECT COUNT(h)
+            FROM History h
+            WHERE h.createdAt >= :from
+              AND h.createdAt < :until
+              AND (NOT EXISTS (SELECT 1 FROM RelationMP r WHERE r.id = h.relationMP.id)
+                   OR (h.createdBy IS NOT NULL AND NOT EXISTS (SELECT 1 FROM User u WHERE u.id = h.createdBy.id))
+                   OR (h.updatedBy IS NOT NULL AND NOT EXISTS (SELECT 1 FROM User u WHERE u.id = h.updatedBy.id)))
+            """)
+    long countDanglingReferences(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    /**
+     * Remove definitivamente os históricos informados, usado pelo arquivamento após a cópia para o arquivo.
+     *
+     * @param ids IDs dos históricos.
+     * @return A quantidade de históricos removidos.
+     */
+    @Modifying
+    @Query("DELETE FROM History h WHERE h.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,35 @@
+package com.fatec.back.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fatec.back.domain.JobWatermark.JobWatermark;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repositório de dados para a entidade {@link JobWatermark}.
+ * <p>
+ * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
+ * para a entidade {@link JobWatermark}, além da leitura com lock usada para serializar as instâncias de uma tarefa.
+ * </p>
+ * 
+ * @see JobWatermark
+ * @see JpaRepository
+ */
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, String> {
+
+    /**
+     * Busca a posição de uma tarefa, bloqueando a linha ({@code SELECT ... FOR UPDATE}) até o fim da transação.
+     *
+     * @param name Nome da tarefa.
+     * @return Um {@link Optional} contendo a posição encontrada.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM JobWatermark w WHERE w.name = :name")
+    Optional<JobWatermark> findForUpdate(@Param("name") String name);
+}
@@ -1,19 +1,97 @@
 package com.fatec.back.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fatec.back.domain.Medication.Medication;
+import com.fatec.back.domain.Medication.MedicationResponseDTO;
 
 /**
  * Repositório de dados para a entidade {@link Medication}.
  * <p>
  * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
  * para a entidade {@link Medication}, além de outras operações específicas que podem ser definidas conforme necessário.
+ * As leituras da API são atendidas pelo {@code MedicationCatalog}; as consultas de página e de busca por ID
+ * não usam o cache de consultas do Hibernate.
  * </p>
  * 
  * @see Medication
  * @see JpaRepository
  */
 public interface MedicationRepository extends JpaRepository<Medication, Long> {
-    
+
+    /**
+     * Busca uma página de registros a partir do ID informado (paginação por chave),
+     * selecionando apenas as colunas retornadas pela API e
+     * aplicando os filtros opcionais de exclusão lógica e intervalo de criação.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param deleted Valor do indicador de exclusão lógica, ou {@code null} para não filtrar.
+     * @param createdFrom Data/hora de criação mínima (inclusiva), ou {@code null}.
+     * @param createdTo Data/hora de criação máxima (exclusiva), ou {@code null}.
+     * @param limit Quantidade máxima de registros retornados.
+     * @return Os dados dos registros encontrados, ordenados pelo ID.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.Medication.MedicationResponseDTO(
+                m.id, m.name, m.medicationFunction,
+                m.createdAt, m.updatedAt, m.createdBy.id, m.updatedBy.id, m.deleted)
+            FROM Medication m
+            WHERE m.id > :afterId
+              AND (:deleted IS NULL OR m.deleted = :deleted)
+              AND (:createdFrom IS NULL OR m.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR m.createdAt < :createdTo)
+            ORDER BY m.id ASC
+            """)
+    List<MedicationResponseDTO> findPage(@Param("afterId") long afterId,
+            @Param("deleted") Boolean deleted,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    /**
+     * Busca os dados de um registro retornados pela API, selecionando apenas as colunas da resposta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo os dados do registro encontrado.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.Medication.MedicationResponseDTO(
+                m.id, m.name, m.medicationFunction,
+                m.createdAt, m.updatedAt, m.createdBy.id, m.updatedBy.id, m.deleted)
+            FROM Medication m
+            WHERE m.id = :id
+            """)
+    Optional<MedicationResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Busca os dados de todos os registros, inclusive os excluídos, para a carga do catálogo em memória.
+     *
+     * @return Os dados de todos os registros, ordenados pelo ID.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.Medication.MedicationResponseDTO(
+                m.id, m.name, m.medicationFunction,
+                m.createdAt, m.updatedAt, m.createdBy.id, m.updatedBy.id, m.deleted)
+            FROM Medication m
+            ORDER BY m.id ASC
+            """)
+    List<MedicationResponseDTO> findAllResponses();
+
+    /**
+     * Retorna, dentre os IDs informados, aqueles que existem no banco, sem carregar as entidades.
+     *
+     * @param ids IDs a serem verificados.
+     * @return Os IDs existentes.
+     */
+    @Query("SELECT m.id FROM Medication m WHERE m.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
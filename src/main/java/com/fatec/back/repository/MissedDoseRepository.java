@@ -0,0 +1,113 @@
+package com.fatec.back.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fatec.back.domain.MissedDose.MissedDose;
+import com.fatec.back.domain.MissedDose.MissedDoseResponseDTO;
+
+/**
+ * Repositório de dados para a entidade {@link MissedDose}.
+ * <p>
+ * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
+ * para a entidade {@link MissedDose}, além das consultas das doses perdidas de um paciente ou de um cuidador.
+ * </p>
+ * 
+ * @see MissedDose
+ * @see JpaRepository
+ */
+public interface MissedDoseRepository extends JpaRepository<MissedDose, Long> {
+
+    /**
+     * Busca as doses perdidas de um paciente a partir da data/hora informada.
+     * A consulta é atendida pelo índice {@code (id_patient, due_at)}.
+     *
+     * @param patientId ID do paciente.
+     * @param since Data/hora mínima das doses (inclusiva).
+     * @param limit Quantidade máxima de doses retornadas.
+     * @return As doses perdidas, da mais recente para a mais antiga.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.MissedDose.MissedDoseResponseDTO(
+                md.id, md.doseSlotId, md.relationMPId, p.id, pu.name, m.id, m.name, md.dosage, md.dueAt, md.createdAt)
+            FROM MissedDose md
+            JOIN Patient p ON p.id = md.patientId
+            JOIN p.user pu
+            JOIN Medication m ON m.id = md.medicationId
+            WHERE md.patientId = :patientId
+              AND md.dueAt >= :since
+            ORDER BY md.dueAt DESC, md.id DESC
+            """)
+    List<MissedDoseResponseDTO> findByPatient(@Param("patientId") Long patientId,
+            @Param("since") LocalDateTime since,
+            Limit limit);
+
+    /**
+     * Retorna o maior ID de dose perdida gravado, ou zero se não houver nenhuma.
+     *
+     * @return O maior ID gravado.
+     */
+    @Query("SELECT COALESCE(MAX(md.id), 0) FROM MissedDose md")
+    long findMaxId();
+
+    /**
+     * Busca as doses perdidas dos pacientes informados com ID no intervalo {@code (afterId, upToId]}, usada
+     * pelos streams de lembretes para acompanhar as doses gravadas por qualquer instância. A consulta percorre
+     * a chave primária a partir de {@code afterId}.
+     *
+     * @param patientIds IDs dos pacientes.
+     * @param afterId ID a partir do qual a busca começa (exclusivo).
+     * @param upToId ID máximo (inclusivo).
+     * @return As doses perdidas, em ordem de ID.
+     */
+    @Query("""
+            SELECT md
+            FROM MissedDose md
+            WHERE md.id > :afterId
+              AND md.id <= :upToId
+              AND md.patientId IN :patientIds
+            ORDER BY md.id
+            """)
+    List<MissedDose> findByPatientIdsAfterIdUpTo(@Param("patientIds") Collection<Long> patientIds,
+            @Param("afterId") long afterId,
+            @Param("upToId") long upToId);
+
+    /**
+     * Busca as doses perdidas dos pacientes com vínculo ativo com o cuidador, a partir da data/hora informada.
+     * Os vínculos são filtrados pelo índice {@code (id_caregiver, deleted)} e as doses pelo índice
+     * {@code (id_patient, due_at)}.
+     *
+     * @param caregiverId ID do cuidador.
+     * @param today Data de referência para considerar o vínculo ativo.
+     * @param since Data/hora mínima das doses (inclusiva).
+     * @param limit Quantidade máxima de doses retornadas.
+     * @return As doses perdidas, da mais recente para a mais antiga.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.MissedDose.MissedDoseResponseDTO(
+                md.id, md.doseSlotId, md.relationMPId, p.id, pu.name, m.id, m.name, md.dosage, md.dueAt, md.createdAt)
+            FROM Have hv
+            JOIN hv.patient p
+            JOIN p.user pu
+            JOIN MissedDose md ON md.patientId = p.id
+            JOIN Medication m ON m.id = md.medicationId
+            WHERE hv.caregiver.id = :caregiverId
+              AND hv.deleted = false
+              AND hv.startDate <= :today
+              AND (hv.endDate IS NULL OR hv.endDate >= :today)
+              AND p.deleted = false
+              AND md.dueAt >= :since
+            ORDER BY md.dueAt DESC, md.id DESC
+            """)
+    List<MissedDoseResponseDTO> findByCaregiver(@Param("caregiverId") Long caregiverId,
+            @Param("today") LocalDate today,
+            @Param("since") LocalDateTime since,
+            Limit limit);
+}
@@ -0,0 +1,27 @@
+package com.fatec.back.repository;
+
+import java.util.List;
+
+import com.fatec.back.domain.RelationMP.RelationMP;
+
+/**
+ * Fragmento do {@link RelationMPRepository} para inclusão de prescrições em lote.
+ * <p>
+ * A entidade {@link RelationMP} usa ID gerado pelo banco ({@code IDENTITY}), o que impede o
+ * Hibernate de agrupar os inserts. Por isso a inclusão em lote é feita diretamente via JDBC.
+ * </p>
+ *
+ * @see RelationMPBatchRepositoryImpl
+ */
+public interface RelationMPBatchRepository {
+
+    /**
+     * Insere as prescrições informadas usando inserts JDBC em lote.
+     * Apenas os IDs de {@code medication}, {@code patient}, {@code createdBy} e {@code updatedBy} são lidos,
+     * portanto referências obtidas com {@code getReferenceById} são suficientes.
+     *
+     * @param relations Prescrições a serem inseridas.
+     * @return Os IDs gerados, na mesma ordem das prescrições.
+     */
+    List<Long> insertAll(List<RelationMP> relations);
+}
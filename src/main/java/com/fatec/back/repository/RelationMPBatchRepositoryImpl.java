@@ -0,0 +1,80 @@
+package com.fatec.back.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.fatec.back.domain.RelationMP.RelationMP;
+
+/**
+ * Implementação JDBC do fragmento {@link RelationMPBatchRepository}.
+ * <p>
+ * Os registros são enviados em um único {@code executeBatch}. Com a propriedade
+ * {@code rewriteBatchedStatements} do driver MySQL habilitada, o lote é reescrito
+ * em um {@code INSERT} com múltiplas linhas.
+ * </p>
+ */
+class RelationMPBatchRepositoryImpl implements RelationMPBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO relations_mp (dosage, frequency_value, frequency_unit, total_dosage, id_medication, id_patient,
+                start_date, end_date, created_at, updated_at, created_by, updated_by, deleted)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<RelationMP> relations) {
+        if (relations.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        RelationMP relationMP = relations.get(i);
+                        ps.setInt(1, relationMP.getDosage());
+                        ps.setInt(2, relationMP.getFrequencyValue());
+                        ps.setString(3, relationMP.getFrequencyUnit().name());
+                        ps.setInt(4, relationMP.getTotalDosage());
+                        ps.setLong(5, relationMP.getMedication().getId());
+                        ps.setLong(6, relationMP.getPatient().getId());
+                        ps.setDate(7, Date.valueOf(relationMP.getStartDate()));
+                        ps.setDate(8, Date.valueOf(relationMP.getEndDate()));
+                        ps.setTimestamp(9, now);
+                        ps.setTimestamp(10, now);
+                        ps.setLong(11, relationMP.getCreatedBy().getId());
+                        ps.setLong(12, relationMP.getUpdatedBy().getId());
+                        ps.setBoolean(13, relationMP.isDeleted());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return relations.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(relations.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
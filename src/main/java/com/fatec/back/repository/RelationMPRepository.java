@@ -1,19 +1,146 @@
 package com.fatec.back.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.domain.RelationMP.RelationMPResponseDTO;
 
 /**
  * Repositório de dados para a entidade {@link RelationMP}.
  * <p>
  * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
  * para a entidade {@link RelationMP}, além de outras operações específicas que podem ser definidas conforme necessário.
+ * A inclusão em lote é fornecida pelo fragmento {@link RelationMPBatchRepository}.
  * </p>
  * 
  * @see RelationMP
  * @see JpaRepository
+ * @see RelationMPBatchRepository
  */
-public interface RelationMPRepository extends JpaRepository<RelationMP, Long> {
-    
+public interface RelationMPRepository extends JpaRepository<RelationMP, Long>, RelationMPBatchRepository {
+
+    /**
+     * Busca um registro pelo ID, carregando o medicamento e o paciente, com o seu usuário na mesma consulta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo o registro encontrado.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"medication", "patient", "patient.user", "patient.user.role"})
+    Optional<RelationMP> findById(Long id);
+
+    /**
+     * Busca uma página de registros a partir do ID informado (paginação por chave),
+     * selecionando apenas as colunas retornadas pela API e
+     * aplicando os filtros opcionais de exclusão lógica e intervalo de criação.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param deleted Valor do indicador de exclusão lógica, ou {@code null} para não filtrar.
+     * @param createdFrom Data/hora de criação mínima (inclusiva), ou {@code null}.
+     * @param createdTo Data/hora de criação máxima (exclusiva), ou {@code null}.
+     * @param limit Quantidade máxima de registros retornados.
+     * @return Os dados dos registros encontrados, ordenados pelo ID, com os nomes do medicamento e do paciente.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.RelationMP.RelationMPResponseDTO(
+                r.id, r.dosage, r.frequencyValue, r.frequencyUnit, r.totalDosage,
+                m.id, m.name, p.id, pu.name, r.startDate, r.endDate,
+                r.createdAt, r.updatedAt, r.createdBy.id, r.updatedBy.id, r.deleted)
+            FROM RelationMP r
+            JOIN r.medication m
+            JOIN r.patient p
+            JOIN p.user pu
+            WHERE r.id > :afterId
+              AND (:deleted IS NULL OR r.deleted = :deleted)
+              AND (:createdFrom IS NULL OR r.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR r.createdAt < :createdTo)
+            ORDER BY r.id ASC
+            """)
+    List<RelationMPResponseDTO> findPage(@Param("afterId") long afterId,
+            @Param("deleted") Boolean deleted,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    /**
+     * Busca os dados de um registro retornados pela API, selecionando apenas as colunas da resposta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo os dados do registro encontrado.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.RelationMP.RelationMPResponseDTO(
+                r.id, r.dosage, r.frequencyValue, r.frequencyUnit, r.totalDosage,
+                m.id, m.name, p.id, pu.name, r.startDate, r.endDate,
+                r.createdAt, r.updatedAt, r.createdBy.id, r.updatedBy.id, r.deleted)
+            FROM RelationMP r
+            JOIN r.medication m
+            JOIN r.patient p
+            JOIN p.user pu
+            WHERE r.id = :id
+            """)
+    Optional<RelationMPResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Busca uma página de prescrições ativas (não excluídas e com término a partir da data informada),
+     * paginada pelo ID. Utilizada pela materialização periódica dos horários de dose.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param today Data de referência para considerar a prescrição ativa.
+     * @param limit Quantidade máxima de registros retornados.
+     * @return As prescrições ativas, ordenadas pelo ID.
+     */
+    @Query("""
+            SELECT r FROM RelationMP r
+            WHERE r.id > :afterId
+              AND r.deleted = false
+              AND r.endDate >= :today
+            ORDER BY r.id ASC
+            """)
+    List<RelationMP> findActivePage(@Param("afterId") long afterId,
+            @Param("today") LocalDate today,
+            Limit limit);
+
+    /**
+     * Busca uma página de prescrições cuja vigência intersecta o intervalo informado, paginada pelo ID,
+     * incluindo as excluídas logicamente, para que os seus consolidados sejam zerados. Utilizada pela
+     * consolidação diária de adesão.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param from Primeiro dia do intervalo (inclusivo).
+     * @param to Último dia do intervalo (inclusivo).
+     * @param limit Quantidade máxima de registros retornados.
+     * @return As prescrições com vigência no intervalo, ordenadas pelo ID.
+     */
+    @Query("""
+            SELECT r FROM RelationMP r
+            WHERE r.id > :afterId
+              AND r.startDate <= :to
+              AND r.endDate >= :from
+            ORDER BY r.id ASC
+            """)
+    List<RelationMP> findInEffectPage(@Param("afterId") long afterId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            Limit limit);
+
+    /**
+     * Retorna, dentre os IDs informados, aqueles que existem no banco, sem carregar as entidades.
+     *
+     * @param ids IDs a serem verificados.
+     * @return Os IDs existentes.
+     */
+    @Query("SELECT r.id FROM RelationMP r WHERE r.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
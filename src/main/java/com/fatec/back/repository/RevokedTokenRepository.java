@@ -0,0 +1,54 @@
+package com.fatec.back.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fatec.back.domain.RevokedToken.RevokedToken;
+
+/**
+ * Repositório de dados para a entidade {@link RevokedToken}.
+ * <p>
+ * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
+ * para a entidade {@link RevokedToken}, além das consultas usadas para carregar e acompanhar as revogações.
+ * </p>
+ * 
+ * @see RevokedToken
+ * @see JpaRepository
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Busca os tokens revogados que ainda não expiraram, pelo índice {@code (expires_at)}.
+     *
+     * @param now Data/hora atual.
+     * @return Os tokens revogados ainda válidos.
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<RevokedToken> findUnexpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Busca os tokens revogados a partir da data/hora informada, pelo índice {@code (created_at)}.
+     *
+     * @param since Data/hora mínima da revogação (inclusiva).
+     * @return Os tokens revogados no período.
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.createdAt >= :since")
+    List<RevokedToken> findRevokedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Remove os tokens revogados já expirados, que não seriam mais aceitos de qualquer forma.
+     *
+     * @param now Data/hora atual.
+     * @return A quantidade de registros removidos.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,19 +1,81 @@
 package com.fatec.back.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.fatec.back.cache.CacheRegions;
 import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.Role.RoleResponseDTO;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositório de dados para a entidade {@link Role}.
  * <p>
  * Esta interface estende {@link JpaRepository}, fornecendo operações básicas de CRUD (criar, ler, atualizar, excluir) 
  * para a entidade {@link Role}, além de outras operações específicas que podem ser definidas conforme necessário.
+ * As consultas de página e de busca por ID usam o cache de consultas do Hibernate (região
+ * {@link CacheRegions#LOOKUP}), descartado sempre que uma das tabelas consultadas é alterada.
  * </p>
  * 
  * @see Role
  * @see JpaRepository
  */
 public interface RoleRepository extends JpaRepository <Role, Long> {
-    
+
+    /**
+     * Busca uma página de registros a partir do ID informado (paginação por chave),
+     * selecionando apenas as colunas retornadas pela API e
+     * aplicando os filtros opcionais de exclusão lógica e intervalo de criação.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param deleted Valor do indicador de exclusão lógica, ou {@code null} para não filtrar.
+     * @param createdFrom Data/hora de criação mínima (inclusiva), ou {@code null}.
+     * @param createdTo Data/hora de criação máxima (exclusiva), ou {@code null}.
+     * @param limit Quantidade máxima de registros retornados.
+     * @return Os dados dos registros encontrados, ordenados pelo ID.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LOOKUP) })
+    @Query("""
+            SELECT new com.fatec.back.domain.Role.RoleResponseDTO(
+                r.id, r.name, r.description, r.created_at, r.updated_at, r.deleted)
+            FROM Role r
+            WHERE r.id > :afterId
+              AND (:deleted IS NULL OR r.deleted = :deleted)
+              AND (:createdFrom IS NULL OR r.created_at >= :createdFrom)
+              AND (:createdTo IS NULL OR r.created_at < :createdTo)
+            ORDER BY r.id ASC
+            """)
+    List<RoleResponseDTO> findPage(@Param("afterId") long afterId,
+            @Param("deleted") Boolean deleted,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    /**
+     * Busca os dados de um registro retornados pela API, selecionando apenas as colunas da resposta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo os dados do registro encontrado.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LOOKUP) })
+    @Query("""
+            SELECT new com.fatec.back.domain.Role.RoleResponseDTO(
+                r.id, r.name, r.description, r.created_at, r.updated_at, r.deleted)
+            FROM Role r
+            WHERE r.id = :id
+            """)
+    Optional<RoleResponseDTO> findResponseById(@Param("id") Long id);
 }
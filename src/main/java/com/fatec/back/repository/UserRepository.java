@@ -1,9 +1,20 @@
 package com.fatec.back.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import com.fatec.back.domain.User.User;
+import com.fatec.back.domain.User.UserResponseDTO;
 
 /**
  * Repositório de dados para a entidade {@link User}.
@@ -16,6 +27,90 @@ import com.fatec.back.domain.User.User;
  * @see JpaRepository
  */
 public interface UserRepository extends JpaRepository <User, Long>{
+
+    /**
+     * Busca um registro pelo ID, carregando o papel do usuário na mesma consulta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo o registro encontrado.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"role"})
+    Optional<User> findById(Long id);
+
+    @EntityGraph(attributePaths = "role")
     UserDetails findByEmail(String email);
-    
+
+    /**
+     * Busca uma página de registros a partir do ID informado (paginação por chave),
+     * selecionando apenas as colunas retornadas pela API e
+     * aplicando os filtros opcionais de exclusão lógica e intervalo de criação.
+     *
+     * @param afterId ID a partir do qual a página começa (exclusivo).
+     * @param deleted Valor do indicador de exclusão lógica, ou {@code null} para não filtrar.
+     * @param createdFrom Data/hora de criação mínima (inclusiva), ou {@code null}.
+     * @param createdTo Data/hora de criação máxima (exclusiva), ou {@code null}.
+     * @param limit Quantidade máxima de registros retornados.
+     * @return Os dados dos registros encontrados, ordenados pelo ID, com o papel do usuário.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.User.UserResponseDTO(
+                u.id, u.email, u.name, ro.id, ro.name,
+                u.createdAt, u.updatedAt, u.createdBy.id, u.updatedBy.id, u.deleted)
+            FROM User u
+            JOIN u.role ro
+            WHERE u.id > :afterId
+              AND (:deleted IS NULL OR u.deleted = :deleted)
+              AND (:createdFrom IS NULL OR u.createdAt >= :createdFrom)
+              AND (:createdTo IS NULL OR u.createdAt < :createdTo)
+            ORDER BY u.id ASC
+            """)
+    List<UserResponseDTO> findPage(@Param("afterId") long afterId,
+            @Param("deleted") Boolean deleted,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Limit limit);
+
+    /**
+     * Busca os dados de um registro retornados pela API, selecionando apenas as colunas da resposta.
+     *
+     * @param id ID do registro.
+     * @return Um {@link Optional} contendo os dados do registro encontrado.
+     */
+    @Query("""
+            SELECT new com.fatec.back.domain.User.UserResponseDTO(
+                u.id, u.email, u.name, ro.id, ro.name,
+                u.createdAt, u.updatedAt, u.createdBy.id, u.updatedBy.id, u.deleted)
+            FROM User u
+            JOIN u.role ro
+            WHERE u.id = :id
+            """)
+    Optional<UserResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Retorna, dentre os IDs informados, aqueles que existem no banco, sem carregar as entidades.
+     *
+     * @param ids IDs a serem verificados.
+     * @return Os IDs existentes.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retorna a versão de token dos usuários que já tiveram seus tokens revogados ao menos uma vez.
+     *
+     * @return Pares {@code [id, tokenVersion]}.
+     */
+    @Query("SELECT u.id, u.tokenVersion FROM User u WHERE u.tokenVersion > 0")
+    List<Object[]> findTokenVersions();
+
+    /**
+     * Retorna a versão de token dos usuários com tokens revogados alterados a partir da data/hora informada,
+     * pelo índice {@code (updated_at)}.
+     *
+     * @param since Data/hora mínima da alteração (inclusiva).
+     * @return Pares {@code [id, tokenVersion]}.
+     */
+    @Query("SELECT u.id, u.tokenVersion FROM User u WHERE u.tokenVersion > 0 AND u.updatedAt >= :since")
+    List<Object[]> findTokenVersionsUpdatedSince(@Param("since") LocalDateTime since);
 }
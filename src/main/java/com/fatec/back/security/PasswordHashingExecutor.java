@@ -0,0 +1,139 @@
+package com.fatec.back.security;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Executor dedicado às operações de hash de senha (BCrypt), que são intencionalmente custosas em CPU.
+ *
+ * <p>
+ * As operações são executadas em um pool limitado ({@code api.security.password.hashing-threads}) com uma
+ * fila limitada ({@code api.security.password.queue-capacity}), de forma que um pico de logins não ocupe
+ * todas as threads do servidor e não atrase as demais requisições. Quando a fila está cheia, a operação é
+ * recusada com {@link PasswordHashingSaturatedException} (HTTP 429). O pool usa threads de plataforma
+ * mesmo com {@code spring.threads.virtual.enabled}: as threads virtuais não limitam trabalho de CPU.
+ * </p>
+ *
+ * <p>Métricas publicadas:</p>
+ * <ul>
+ *     <li>{@code auth.password.hash} - Tempo de execução das operações de hash.</li>
+ *     <li>{@code auth.password.queue.size} - Quantidade de operações aguardando na fila.</li>
+ *     <li>{@code auth.password.active} - Quantidade de operações em execução.</li>
+ *     <li>{@code auth.password.rejected} - Quantidade de operações recusadas por saturação.</li>
+ * </ul>
+ */
+@Component
+public class PasswordHashingExecutor {
+    private final ThreadPoolExecutor executor;
+    private final PasswordEncoder passwordEncoder;
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   MeterRegistry registry,
+                                   @Value("${api.security.password.hashing-threads:0}") int threads,
+                                   @Value("${api.security.password.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.passwordEncoder = passwordEncoder;
+        this.hashTimer = Timer.builder("auth.password.hash")
+                .description("Tempo de execução das operações de hash de senha")
+                .register(registry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Operações de hash de senha recusadas por saturação")
+                .register(registry);
+        Gauge.builder("auth.password.queue.size", executor, e -> e.getQueue().size())
+                .description("Operações de hash de senha aguardando na fila")
+                .register(registry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Operações de hash de senha em execução")
+                .register(registry);
+    }
+
+    /**
+     * Executa uma operação que envolve hash de senha (por exemplo, a autenticação) no pool dedicado.
+     * O MDC da thread da requisição (como o {@code requestId}) é repassado à operação, de forma que os
+     * logs gravados por ela e pelas etapas seguintes continuem correlacionados à requisição.
+     *
+     * @param task A operação a ser executada.
+     * @return Um {@link CompletableFuture} com o resultado da operação.
+     * @throws PasswordHashingSaturatedException Se o pool e a fila estiverem cheios.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        try {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return CompletableFuture.supplyAsync(() -> {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                } else {
+                    MDC.clear();
+                }
+                return hashTimer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingSaturatedException();
+        }
+    }
+
+    /**
+     * Gera o hash de uma senha no pool dedicado.
+     *
+     * @param rawPassword A senha em texto puro.
+     * @return Um {@link CompletableFuture} com o hash da senha.
+     * @throws PasswordHashingSaturatedException Se o pool e a fila estiverem cheios.
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return supply(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Gera o hash de uma senha no pool dedicado, aguardando o resultado.
+     * Utilizado pelos serviços que ainda são síncronos; a concorrência continua limitada pelo pool.
+     *
+     * @param rawPassword A senha em texto puro.
+     * @return O hash da senha.
+     * @throws PasswordHashingSaturatedException Se o pool e a fila estiverem cheios.
+     */
+    public String encodeAndWait(String rawPassword) {
+        try {
+            return encode(rawPassword).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,19 @@
+package com.fatec.back.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o pool de hash de senhas está saturado.
+ * Resulta em uma resposta HTTP 429 Too Many Requests.
+ *
+ * @see PasswordHashingExecutor
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class PasswordHashingSaturatedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingSaturatedException() {
+        super("Muitas requisições de autenticação simultâneas. Tente novamente em instantes.");
+    }
+}
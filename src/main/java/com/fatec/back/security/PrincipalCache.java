@@ -0,0 +1,64 @@
+package com.fatec.back.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache dos usuários autenticados, indexado pelo e-mail presente no token JWT.
+ *
+ * <p>
+ * Evita que o {@link SecurityFilter} consulte o banco de dados a cada requisição. O cache é limitado
+ * em quantidade de entradas ({@code api.security.principal-cache.max-size}) e cada entrada expira após
+ * {@code api.security.principal-cache.ttl}. Sempre que um usuário é alterado, o serviço responsável
+ * deve chamar {@link #invalidate(String)} para que a próxima requisição recarregue os dados.
+ * </p>
+ */
+@Component
+public class PrincipalCache {
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(@Value("${api.security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${api.security.principal-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Retorna o usuário em cache ou o carrega com a função informada.
+     * Usuários não encontrados ({@code null}) não são armazenados.
+     *
+     * @param email E-mail do usuário.
+     * @param loader Função que carrega o usuário do banco de dados.
+     * @return O usuário, ou {@code null} se não existir.
+     */
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        return cache.get(email, loader);
+    }
+
+    /**
+     * Remove o usuário do cache.
+     *
+     * @param email E-mail do usuário alterado.
+     */
+    public void invalidate(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    /**
+     * Remove todos os usuários do cache.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
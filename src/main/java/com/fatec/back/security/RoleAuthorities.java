@@ -0,0 +1,41 @@
+package com.fatec.back.security;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Permissões ({@link GrantedAuthority}) de cada papel, criadas uma única vez por nome de papel.
+ *
+ * <p>
+ * As listas retornadas são imutáveis e compartilhadas, de forma que {@code getAuthorities()} do
+ * {@link com.fatec.back.domain.User.User} e do {@link TokenPrincipal} não aloca objetos a cada
+ * requisição. As permissões dos papéis existentes são criadas na carga do {@link RoleCache}; um
+ * nome ainda desconhecido é registrado no primeiro uso.
+ * </p>
+ */
+public final class RoleAuthorities {
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * Retorna as permissões do papel, no formato {@code ROLE_<NOME>}.
+     *
+     * @param roleName Nome do papel.
+     * @return A lista imutável de permissões do papel.
+     */
+    public static List<GrantedAuthority> of(String roleName) {
+        List<GrantedAuthority> authorities = AUTHORITIES.get(roleName);
+        if (authorities == null) {
+            authorities = AUTHORITIES.computeIfAbsent(roleName,
+                    name -> List.of(new SimpleGrantedAuthority("ROLE_" + name.toUpperCase(Locale.ROOT))));
+        }
+        return authorities;
+    }
+}
@@ -0,0 +1,84 @@
+package com.fatec.back.security;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fatec.back.domain.Role.Role;
+import com.fatec.back.repository.RoleRepository;
+
+/**
+ * Cache dos papéis ({@link Role}), usado no cadastro de usuários e na troca de papel.
+ *
+ * <p>
+ * A tabela de papéis é pequena e raramente alterada, por isso é carregada por inteiro na inicialização
+ * da aplicação, junto com as permissões de cada papel ({@link RoleAuthorities}). O {@code RoleService}
+ * chama {@link #invalidate()} a cada criação, alteração ou exclusão; as alterações feitas por outras
+ * instâncias são incorporadas apenas na recarga periódica ({@code api.security.role-cache.refresh-interval}).
+ * Um ID desconhecido é respondido como não encontrado a partir do conteúdo carregado, sem consultar o
+ * banco: o cadastro ({@code /auth/register}) é público e não pode provocar uma recarga por requisição.
+ * </p>
+ *
+ * <p>
+ * Os papéis retornados são instâncias desanexadas e compartilhadas entre as requisições: podem ser
+ * associadas a outras entidades, mas não devem ser alteradas.
+ * </p>
+ */
+@Component
+public class RoleCache {
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private volatile Map<Long, Role> roles;
+
+    /**
+     * Carrega todos os papéis e as suas permissões.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Map<Long, Role> loaded = new HashMap<>();
+        for (Role role : roleRepository.findAll()) {
+            loaded.put(role.getId(), role);
+            RoleAuthorities.of(role.getName());
+        }
+        roles = Map.copyOf(loaded);
+    }
+
+    /**
+     * Recarrega os papéis, incorporando as alterações feitas por outras instâncias.
+     */
+    @Scheduled(fixedDelayString = "${api.security.role-cache.refresh-interval:PT10M}",
+               initialDelayString = "${api.security.role-cache.refresh-interval:PT10M}")
+    public void refresh() {
+        load();
+    }
+
+    /**
+     * Recupera um papel pelo ID, entre os papéis carregados. Papéis criados por outras instâncias
+     * só são encontrados após a próxima recarga periódica.
+     *
+     * @param id ID do papel.
+     * @return Um {@link Optional} contendo o papel encontrado.
+     */
+    public Optional<Role> findById(Long id) {
+        Map<Long, Role> current = roles;
+        if (current == null) {
+            load();
+            current = roles;
+        }
+        return Optional.ofNullable(current.get(id));
+    }
+
+    /**
+     * Recarrega os papéis após uma alteração.
+     */
+    public void invalidate() {
+        load();
+    }
+}
@@ -3,6 +3,7 @@ package com.fatec.back.security;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -32,7 +33,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
  *     <li>{@code corsConfigurationSource()} - Configura as permissões de CORS para a aplicação.</li>
  *     <li>{@code securityFilterChain(HttpSecurity httpSecurity)} - Configura os filtros de segurança, desabilita o CSRF e define a política de criação de sessão.</li>
  *     <li>{@code authenticationManager(AuthenticationConfiguration authenticationConfiguration)} - Cria e retorna o {@link AuthenticationManager} necessário para autenticação.</li>
- *     <li>{@code passwordEncoder()} - Retorna o {@link PasswordEncoder} utilizado para criptografar as senhas, usando o algoritmo {@link BCryptPasswordEncoder}.</li>
+ *     <li>{@code passwordEncoder(int strength)} - Retorna o {@link PasswordEncoder} utilizado para criptografar as senhas, usando o algoritmo {@link BCryptPasswordEncoder}.</li>
  * </ul>
  * 
  */
@@ -98,11 +99,14 @@ public class SecurityConfiguration {
 
     /**
      * Retorna o {@link PasswordEncoder} utilizado para criptografar as senhas.
+     * O custo do BCrypt é definido por {@code api.security.password.bcrypt-strength}; hashes gerados
+     * com outro custo continuam válidos, pois o custo é armazenado no próprio hash.
      * 
+     * @param strength Custo (log2 das rodadas) do BCrypt.
      * @return O {@link PasswordEncoder} configurado, utilizando o algoritmo {@link BCryptPasswordEncoder}.
      */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${api.security.password.bcrypt-strength:10}") int strength){
+        return new BCryptPasswordEncoder(strength);
     }
 }
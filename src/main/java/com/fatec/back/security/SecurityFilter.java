@@ -9,6 +9,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fatec.back.repository.UserRepository;
 import com.fatec.back.service.TokenService;
 
@@ -23,6 +24,13 @@ import jakarta.servlet.http.HttpServletResponse;
  * <p>
  * Esta classe estende {@link OncePerRequestFilter}, garantindo que o filtro seja executado uma única vez por requisição.
  * Ela valida o token JWT presente no cabeçalho `Authorization`, autentica o usuário e atualiza o {@link SecurityContextHolder}.
+ * O usuário é obtido do {@link PrincipalCache}, de forma que o banco só é consultado quando o usuário não está em cache.
+ * </p>
+ *
+ * <p>
+ * No modo sem estado ({@code api.security.token.stateless}), o usuário é construído diretamente das claims
+ * assinadas do token ({@link TokenPrincipal}) e o banco não é consultado. Em ambos os modos, tokens presentes
+ * na {@link TokenRevocationList} são ignorados.
  * </p>
  */
 @Component
@@ -33,6 +41,12 @@ public class SecurityFilter extends OncePerRequestFilter {
     @Autowired
     UserRepository repository;
 
+    @Autowired
+    PrincipalCache principalCache;
+
+    @Autowired
+    TokenRevocationList revocationList;
+
     /**
      * Intercepta a requisição e verifica se há um token JWT válido.
      * Se o token for válido, autentica o usuário e atualiza o contexto de segurança.
@@ -53,15 +67,36 @@ public class SecurityFilter extends OncePerRequestFilter {
         
         var token = this.recoverToken(request);
         if (token != null) {
-            var login = tokenService.validateToken(token);
-            UserDetails user = repository.findByEmail(login);
-            var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            UserDetails user = this.recoverUser(token);
+            if (user != null) {
+                var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
     
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Valida o token e recupera o usuário autenticado, a partir das claims (modo sem estado) ou do cache.
+     *
+     * @param token o token JWT
+     * @return o usuário autenticado, ou {@code null} se o token for inválido ou revogado
+     */
+    private UserDetails recoverUser(String token) {
+        DecodedJWT jwt = tokenService.verify(token);
+        if (jwt == null || jwt.getSubject() == null || revocationList.isRevoked(jwt)) {
+            return null;
+        }
+        if (tokenService.isStateless()) {
+            TokenPrincipal principal = TokenPrincipal.from(jwt);
+            if (principal != null) {
+                return principal;
+            }
+        }
+        return principalCache.get(jwt.getSubject(), repository::findByEmail);
+    }
+
     /**
      * Recupera o token JWT do cabeçalho `Authorization` da requisição.
      * 
@@ -0,0 +1,52 @@
+package com.fatec.back.security;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * Usuário autenticado construído apenas a partir das claims assinadas do token JWT.
+ * <p>
+ * Utilizado pelo {@link SecurityFilter} no modo sem estado ({@code api.security.token.stateless}),
+ * em que o usuário não é carregado do banco de dados. Contém apenas o ID, o e-mail e o papel do usuário.
+ * </p>
+ *
+ * @param id ID do usuário (claim {@code id}).
+ * @param email E-mail do usuário (subject do token).
+ * @param role Nome do papel do usuário (claim {@code role}).
+ */
+public record TokenPrincipal(Long id, String email, String role) implements UserDetails {
+
+    /**
+     * Cria o usuário a partir do token, ou retorna {@code null} se o token não contiver as claims necessárias.
+     *
+     * @param jwt O token já verificado.
+     * @return O usuário autenticado, ou {@code null}.
+     */
+    public static TokenPrincipal from(DecodedJWT jwt) {
+        Long id = jwt.getClaim("id").asLong();
+        String role = jwt.getClaim("role").asString();
+        if (id == null || role == null || jwt.getSubject() == null) {
+            return null;
+        }
+        return new TokenPrincipal(id, jwt.getSubject(), role);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return RoleAuthorities.of(role);
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,169 @@
+package com.fatec.back.security;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fatec.back.domain.RevokedToken.RevokedToken;
+import com.fatec.back.repository.RevokedTokenRepository;
+import com.fatec.back.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Lista de revogação dos tokens JWT, usada principalmente no modo sem estado
+ * ({@code api.security.token.stateless}), em que o banco não é consultado a cada requisição.
+ *
+ * <p>
+ * A revogação é feita de duas formas:
+ * </p>
+ * <ul>
+ *     <li>Por usuário: cada usuário possui uma versão de token ({@code tokenVersion}). Tokens com a
+ *     claim {@code ver} menor que a versão atual do usuário são rejeitados. Apenas os usuários com
+ *     versão maior que zero são mantidos em memória.</li>
+ *     <li>Por token: o {@code jti} de um token específico (por exemplo, no logout) é gravado na tabela
+ *     {@code revoked_token} ({@link RevokedToken}) e fica em uma lista negada até que o token expire por si só.</li>
+ * </ul>
+ *
+ * <p>
+ * As duas listas são carregadas do banco na inicialização e acompanhadas a cada
+ * {@code api.security.revocation.refresh-interval}: cada leitura busca as versões dos usuários alterados e os
+ * tokens revogados desde a leitura anterior, recuando {@link #LOOKBACK} para incluir as transações confirmadas
+ * depois de gravadas. Assim, uma revogação feita em qualquer instância vale em todas após no máximo um intervalo.
+ * Os tokens revogados já expirados são removidos da tabela a cada {@code api.security.revocation.purge-interval}.
+ * </p>
+ */
+@Component
+public class TokenRevocationList {
+
+    /**
+     * Recuo de cada leitura em relação à anterior. Reler uma revogação não tem efeito.
+     */
+    static final Duration LOOKBACK = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final Map<Long, Integer> userVersions = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> revokedIds;
+
+    /**
+     * Início da última leitura. Acessado apenas pela carga e pelo {@link #refresh()}.
+     */
+    private volatile LocalDateTime lastRefresh;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               UserRepository userRepository,
+                               @Value("${api.security.token.ttl:2h}") Duration tokenTtl) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        this.revokedIds = Caffeine.newBuilder()
+                .expireAfterWrite(tokenTtl)
+                .build();
+    }
+
+    /**
+     * Carrega as versões de token dos usuários já revogados e os tokens revogados que ainda não expiraram.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        applyUserVersions(userRepository.findTokenVersions());
+        applyRevokedTokens(revokedTokenRepository.findUnexpired(now));
+        lastRefresh = now;
+    }
+
+    /**
+     * Incorpora as revogações feitas por qualquer instância desde a leitura anterior.
+     */
+    @Scheduled(fixedDelayString = "${api.security.revocation.refresh-interval:PT5S}",
+               initialDelayString = "${api.security.revocation.refresh-interval:PT5S}")
+    public void refresh() {
+        if (lastRefresh == null) {
+            load();
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastRefresh.minus(LOOKBACK);
+        applyUserVersions(userRepository.findTokenVersionsUpdatedSince(since));
+        applyRevokedTokens(revokedTokenRepository.findRevokedSince(since));
+        lastRefresh = now;
+    }
+
+    /**
+     * Remove da tabela os tokens revogados que já expiraram.
+     */
+    @Scheduled(fixedDelayString = "${api.security.revocation.purge-interval:PT1H}",
+               initialDelayString = "${api.security.revocation.purge-interval:PT1H}")
+    public void purge() {
+        revokedTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    /**
+     * Verifica se o token foi revogado, pelo seu {@code jti} ou pela versão de token do usuário.
+     *
+     * @param jwt O token já verificado.
+     * @return {@code true} se o token não deve mais ser aceito.
+     */
+    public boolean isRevoked(DecodedJWT jwt) {
+        if (jwt.getId() != null && revokedIds.getIfPresent(jwt.getId()) != null) {
+            return true;
+        }
+        Long userId = jwt.getClaim("id").asLong();
+        if (userId == null) {
+            return false;
+        }
+        Integer current = userVersions.get(userId);
+        if (current == null) {
+            return false;
+        }
+        Integer version = jwt.getClaim("ver").asInt();
+        return (version == null ? 0 : version) < current;
+    }
+
+    /**
+     * Revoga um token específico pelo seu {@code jti}, gravando-o para as demais instâncias.
+     *
+     * @param jwt O token a ser revogado.
+     */
+    public void revoke(DecodedJWT jwt) {
+        if (jwt.getId() == null) {
+            return;
+        }
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(jwt.getExpiresAtAsInstant(), ZoneId.systemDefault());
+        revokedTokenRepository.save(new RevokedToken(jwt.getId(), jwt.getClaim("id").asLong(), expiresAt));
+        revokedIds.put(jwt.getId(), Boolean.TRUE);
+    }
+
+    /**
+     * Registra a nova versão de token de um usuário, revogando todos os tokens emitidos antes dela. A versão já
+     * foi gravada no usuário; as demais instâncias a leem no próximo {@link #refresh()}.
+     *
+     * @param userId ID do usuário.
+     * @param tokenVersion Nova versão de token do usuário.
+     */
+    public void revokeUser(Long userId, int tokenVersion) {
+        userVersions.merge(userId, tokenVersion, Math::max);
+    }
+
+    private void applyUserVersions(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            userVersions.merge((Long) row[0], (Integer) row[1], Math::max);
+        }
+    }
+
+    private void applyRevokedTokens(List<RevokedToken> tokens) {
+        for (RevokedToken token : tokens) {
+            revokedIds.put(token.getJti(), Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.fatec.back.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fatec.back.domain.Adherence.AdherenceDaily;
+import com.fatec.back.domain.Adherence.AdherenceReportDTO;
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.repository.AdherenceDailyRepository;
+import com.fatec.back.repository.HistoryRepository;
+import com.fatec.back.repository.RelationMPRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Serviço responsável pelos consolidados diários de adesão ({@link AdherenceDaily}).
+ * <p>
+ * Para cada prescrição e dia, o consolidado guarda as doses previstas, calculadas pela frequência da
+ * prescrição com {@link DoseScheduleService#expand}, e as doses tomadas, contadas nos históricos com
+ * {@code taked = true} pelo dia de {@code takedAt}. A cada gravação de histórico, apenas os dias afetados
+ * são recontados, com uma consulta agrupada sobre o índice {@code (id_relation_mp, taked_at)}. Uma tarefa
+ * diária consolida o dia anterior de todas as prescrições vigentes, incluindo os dias sem nenhum histórico.
+ * Quando uma prescrição é alterada ou excluída, os seus dias até a data atual são recalculados; as doses
+ * previstas de uma prescrição excluída, ou fora da sua vigência, são zeradas.
+ * </p>
+ *
+ * <p>
+ * Os relatórios leem apenas os consolidados: o custo de uma consulta depende da quantidade de dias do
+ * intervalo, e não da quantidade de históricos.
+ * </p>
+ *
+ * <p>Métodos principais:</p>
+ * <ul>
+ *     <li>{@code getPatientAdherence(Long patientId, LocalDate from, LocalDate to)} - Recupera a adesão de um paciente em um intervalo.</li>
+ *     <li>{@code getRelationMPAdherence(Long relationMPId, LocalDate from, LocalDate to)} - Recupera a adesão de uma prescrição em um intervalo.</li>
+ *     <li>{@code refresh(Collection<History> histories)} - Reconsolida os dias afetados por históricos gravados.</li>
+ *     <li>{@code refreshRelationMP(RelationMP relationMP)} - Reconsolida os dias de uma prescrição alterada ou excluída.</li>
+ *     <li>{@code rebuild(LocalDate from, LocalDate to)} - Reconsolida um intervalo de dias de todas as prescrições vigentes.</li>
+ * </ul>
+ *
+ * @see AdherenceDaily
+ * @see History
+ * @see RelationMP
+ * @see AdherenceDailyRepository
+ */
+@Service
+@Timed(value = "app.service", extraTags = { "entity", "adherence" })
+public class AdherenceService {
+    public static final int DEFAULT_RANGE_DAYS = 30;
+    public static final int MAX_RANGE_DAYS = 366;
+    private static final int RELATION_CHUNK_SIZE = 200;
+
+    @Autowired
+    private AdherenceDailyRepository adherenceDailyRepository;
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    @Autowired
+    private RelationMPRepository relationMPRepository;
+
+    /**
+     * Recupera a adesão de um paciente, somando todas as suas prescrições, dia a dia.
+     *
+     * @param patientId ID do paciente.
+     * @param from Primeiro dia do intervalo (inclusivo).
+     * @param to Último dia do intervalo (inclusivo).
+     * @return O relatório de adesão do período.
+     */
+    public AdherenceReportDTO getPatientAdherence(Long patientId, LocalDate from, LocalDate to) {
+        return AdherenceReportDTO.of(from, to, adherenceDailyRepository.findPatientDays(patientId, from, to));
+    }
+
+    /**
+     * Recupera a adesão de uma prescrição, dia a dia.
+     *
+     * @param relationMPId ID da prescrição.
+     * @param from Primeiro dia do intervalo (inclusivo).
+     * @param to Último dia do intervalo (inclusivo).
+     * @return O relatório de adesão do período.
+     */
+    public AdherenceReportDTO getRelationMPAdherence(Long relationMPId, LocalDate from, LocalDate to) {
+        return AdherenceReportDTO.of(from, to, adherenceDailyRepository.findRelationMPDays(relationMPId, from, to));
+    }
+
+    /**
+     * Verifica se o intervalo de dias é aceito pelos relatórios.
+     *
+     * @param from Primeiro dia do intervalo.
+     * @param to Último dia do intervalo.
+     * @return {@code true} se {@code from} não for posterior a {@code to} e o intervalo tiver no
+     *         máximo {@link #MAX_RANGE_DAYS} dias.
+     */
+    public static boolean isValidRange(LocalDate from, LocalDate to) {
+        return !from.isAfter(to) && !from.plusDays(MAX_RANGE_DAYS).isBefore(to.plusDays(1));
+    }
+
+    /**
+     * Reconsolida os dias afetados pelos históricos informados, após sua criação, alteração ou
+     * exclusão lógica. Para alterações, devem ser informados também os valores anteriores à
+     * alteração, para que o dia de origem seja recontado.
+     *
+     * @param histories Os históricos gravados.
+     */
+    @Transactional
+    public void refresh(Collection<History> histories) {
+        Map<Long, Set<LocalDate>> days = new HashMap<>();
+        for (History history : histories) {
+            if (history.getRelationMP() != null && history.getTakedAt() != null) {
+                days.computeIfAbsent(history.getRelationMP().getId(), id -> new TreeSet<>())
+                    .add(history.getTakedAt().toLocalDate());
+            }
+        }
+        if (!days.isEmpty()) {
+            rollup(relationMPRepository.findAllById(days.keySet()), days);
+        }
+    }
+
+    /**
+     * Reconsolida os dias de uma prescrição após sua alteração ou exclusão lógica: os dias da vigência
+     * até a data atual e os dias que já tinham consolidado, que podem ter ficado fora da nova vigência.
+     *
+     * @param relationMP A prescrição salva.
+     */
+    @Transactional
+    public void refreshRelationMP(RelationMP relationMP) {
+        Set<LocalDate> days = new TreeSet<>(adherenceDailyRepository.findDaysByRelationMP(relationMP.getId()));
+        LocalDate today = LocalDate.now();
+        LocalDate last = relationMP.getEndDate().isBefore(today) ? relationMP.getEndDate() : today;
+        for (LocalDate day = relationMP.getStartDate(); !day.isAfter(last); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        rollup(List.of(relationMP), Map.of(relationMP.getId(), days));
+    }
+
+    /**
+     * Consolida o dia anterior de todas as prescrições vigentes, incluindo as que não tiveram
+     * nenhum histórico registrado.
+     */
+    @Scheduled(cron = "${api.adherence.rollup-cron:0 5 0 * * *}")
+    public void closePreviousDay() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rebuild(yesterday, yesterday);
+    }
+
+    /**
+     * Reconsolida um intervalo de dias de todas as prescrições vigentes. Utilizado pela tarefa
+     * diária e para preencher os consolidados de históricos anteriores à sua criação. As prescrições
+     * excluídas logicamente também são percorridas, com as doses previstas zeradas.
+     * As prescrições são percorridas em blocos pelo ID, e as doses tomadas de cada bloco são
+     * contadas em uma única consulta agrupada.
+     *
+     * @param from Primeiro dia do intervalo (inclusivo).
+     * @param to Último dia do intervalo (inclusivo).
+     */
+    @Transactional
+    public void rebuild(LocalDate from, LocalDate to) {
+        long afterId = 0L;
+        List<RelationMP> chunk;
+        do {
+            chunk = relationMPRepository.findInEffectPage(afterId, from, to, Limit.of(RELATION_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Map<Long, Set<LocalDate>> days = new HashMap<>();
+            for (RelationMP relationMP : chunk) {
+                LocalDate first = relationMP.getStartDate().isAfter(from) ? relationMP.getStartDate() : from;
+                LocalDate last = relationMP.getEndDate().isBefore(to) ? relationMP.getEndDate() : to;
+                Set<LocalDate> relationDays = new TreeSet<>();
+                for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                    relationDays.add(day);
+                }
+                days.put(relationMP.getId(), relationDays);
+            }
+            rollup(chunk, days);
+            afterId = chunk.get(chunk.size() - 1).getId();
+        } while (chunk.size() == RELATION_CHUNK_SIZE);
+    }
+
+    /**
+     * Calcula a quantidade de doses previstas de uma prescrição em um dia.
+     *
+     * @param relationMP A prescrição.
+     * @param day O dia.
+     * @return A quantidade de doses previstas, ou zero se a prescrição estiver excluída.
+     */
+    public static int expected(RelationMP relationMP, LocalDate day) {
+        if (relationMP.isDeleted()) {
+            return 0;
+        }
+        return DoseScheduleService.expand(relationMP, day.atStartOfDay(), day.plusDays(1).atStartOfDay()).size();
+    }
+
+    /**
+     * Reconta as doses tomadas dos dias informados de cada prescrição e grava os consolidados.
+     */
+    private void rollup(Collection<RelationMP> relations, Map<Long, Set<LocalDate>> days) {
+        LocalDate first = null;
+        LocalDate last = null;
+        for (Set<LocalDate> relationDays : days.values()) {
+            for (LocalDate day : relationDays) {
+                first = first == null || day.isBefore(first) ? day : first;
+                last = last == null || day.isAfter(last) ? day : last;
+            }
+        }
+        if (first == null) {
+            return;
+        }
+
+        Map<Long, Map<LocalDate, Long>> taken = new HashMap<>();
+        LocalDateTime from = first.atStartOfDay();
+        LocalDateTime to = last.plusDays(1).atStartOfDay();
+        for (Object[] row : historyRepository.countTakenByDay(days.keySet(), from, to)) {
+            taken.computeIfAbsent((Long) row[0], id -> new HashMap<>()).put((LocalDate) row[1], (Long) row[2]);
+        }
+
+        List<AdherenceDaily> rows = new ArrayList<>();
+        for (RelationMP relationMP : relations) {
+            Map<LocalDate, Long> relationTaken = taken.getOrDefault(relationMP.getId(), Map.of());
+            for (LocalDate day : days.getOrDefault(relationMP.getId(), Set.of())) {
+                int count = relationTaken.getOrDefault(day, 0L).intValue();
+                rows.add(new AdherenceDaily(relationMP, day, expected(relationMP, day), count));
+            }
+        }
+        adherenceDailyRepository.upsertAll(rows);
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Service;
 
 import com.fatec.back.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Serviço responsável pela autenticação de usuários.
  * Esta classe implementa o {@link UserDetailsService} para carregar as informações do usuário com base no e-mail.
@@ -24,6 +26,7 @@ import com.fatec.back.repository.UserRepository;
  * @see UserDetails
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "auth" })
 public class AuthenticationService implements UserDetailsService {
 
     @Autowired
@@ -1,17 +1,34 @@
 package com.fatec.back.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.fatec.back.domain.Caregiver.Caregiver;
+import com.fatec.back.domain.Caregiver.CaregiverDashboardDTO;
+import com.fatec.back.domain.Caregiver.CaregiverDashboardPatientDTO;
+import com.fatec.back.domain.Caregiver.CaregiverDashboardPrescriptionDTO;
+import com.fatec.back.domain.Caregiver.CaregiverDashboardRowDTO;
+import com.fatec.back.domain.Caregiver.CaregiverResponseDTO;
 import com.fatec.back.domain.Caregiver.CaregiverDTO;
+import com.fatec.back.domain.History.HistoryResponseDTO;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.User.User;
 import com.fatec.back.repository.CaregiverRepository;
+import com.fatec.back.repository.HaveRepository;
+import com.fatec.back.repository.HistoryRepository;
 import com.fatec.back.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Serviço responsável pelas operações de negócios relacionadas aos cuidadores.
  * Esta classe oferece métodos para a criação, atualização, exclusão e obtenção de registros de {@link Caregiver},
@@ -21,8 +38,9 @@ import com.fatec.back.repository.UserRepository;
  * 
  * <p>Métodos principais:</p>
  * <ul>
- *     <li>{@code getAllCaregivers()} - Recupera todos os cuidadores registrados.</li>
+ *     <li>{@code getCaregiverPage(PageQuery query)} - Recupera uma página de cuidadores, paginada por cursor.</li>
  *     <li>{@code getCaregiverById(Long id)} - Recupera um cuidador específico pelo ID.</li>
+ *     <li>{@code getDashboard(Long id)} - Recupera o painel do cuidador, com os pacientes vinculados e as suas prescrições ativas.</li>
  *     <li>{@code createCaregiver(CaregiverDTO dto)} - Cria um novo cuidador com base nos dados fornecidos.</li>
  *     <li>{@code updateCaregiver(Long id, CaregiverDTO updatedData)} - Atualiza os dados de um cuidador existente.</li>
  *     <li>{@code deleteCaregiver(Long id, Long userId)} - Marca um cuidador como deletado ou ativo novamente.</li>
@@ -32,9 +50,12 @@ import com.fatec.back.repository.UserRepository;
  * @see CaregiverDTO
  * @see User
  * @see CaregiverRepository
+ * @see HaveRepository
+ * @see HistoryRepository
  * @see UserRepository
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "caregiver" })
 public class CaregiverService {
     @Autowired
     private CaregiverRepository caregiverRepository;
@@ -42,13 +63,23 @@ public class CaregiverService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private HaveRepository haveRepository;
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
     /**
-     * Recupera todos os cuidadores registrados no sistema.
+     * Recupera uma página de cuidadores, paginada pelo ID (keyset) e filtrada
+     * conforme os parâmetros informados.
      * 
-     * @return Lista de todos os cuidadores.
+     * @param query Parâmetros de paginação e filtros.
+     * @return A página de cuidadores e o cursor para a próxima página.
      */
-    public List<Caregiver> getAllCaregivers(){
-        return caregiverRepository.findAll();
+    public CursorPage<CaregiverResponseDTO> getCaregiverPage(PageQuery query) {
+        List<CaregiverResponseDTO> rows = caregiverRepository.findPage(query.afterId(), query.deleted(),
+                query.createdFrom(), query.createdTo(), query.fetchLimit());
+        return CursorPage.of(rows, query, CaregiverResponseDTO::id);
     }
 
     /**
@@ -57,8 +88,52 @@ public class CaregiverService {
      * @param id ID do cuidador a ser recuperado.
      * @return Um {@link Optional} contendo o cuidador encontrado.
      */
-    public Optional<Caregiver> getCaregiverById(Long id){
-        return caregiverRepository.findById(id);
+    public Optional<CaregiverResponseDTO> getCaregiverById(Long id) {
+        return caregiverRepository.findResponseById(id);
+    }
+
+    /**
+     * Recupera o painel do cuidador: os pacientes com vínculo ativo, as suas prescrições ativas e
+     * o histórico mais recente de cada prescrição.
+     * <p>
+     * Os pacientes e as prescrições são obtidos em uma única consulta e os históricos mais recentes
+     * de todas as prescrições em outra, independentemente da quantidade de pacientes.
+     * </p>
+     * 
+     * @param id ID do cuidador.
+     * @return Um {@link Optional} contendo o painel, ou vazio se o cuidador não existir.
+     */
+    public Optional<CaregiverDashboardDTO> getDashboard(Long id) {
+        if (!caregiverRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        List<CaregiverDashboardRowDTO> rows = haveRepository.findDashboardRows(id, LocalDate.now());
+
+        Map<Long, HistoryResponseDTO> lastHistory = new HashMap<>();
+        List<Long> relationMPIds = rows.stream()
+                .map(CaregiverDashboardRowDTO::relationMPId)
+                .filter(relationMPId -> relationMPId != null)
+                .distinct()
+                .toList();
+        if (!relationMPIds.isEmpty()) {
+            for (HistoryResponseDTO history : historyRepository.findLatestByRelationMP(relationMPIds)) {
+                lastHistory.put(history.relationMPId(), history);
+            }
+        }
+
+        Map<Long, CaregiverDashboardPatientDTO> patients = new LinkedHashMap<>();
+        for (CaregiverDashboardRowDTO row : rows) {
+            CaregiverDashboardPatientDTO patient = patients.computeIfAbsent(row.patientId(),
+                    patientId -> new CaregiverDashboardPatientDTO(patientId, row.patientName(), row.birthday(),
+                            row.patientCondition(), row.linkedSince(), new ArrayList<>()));
+            if (row.relationMPId() != null && patient.prescriptions().stream()
+                    .noneMatch(prescription -> prescription.relationMPId().equals(row.relationMPId()))) {
+                patient.prescriptions().add(new CaregiverDashboardPrescriptionDTO(row.relationMPId(),
+                        row.medicationId(), row.medicationName(), row.dosage(), row.frequencyValue(),
+                        row.frequencyUnit(), row.startDate(), row.endDate(), lastHistory.get(row.relationMPId())));
+            }
+        }
+        return Optional.of(new CaregiverDashboardDTO(id, List.copyOf(patients.values())));
     }
     
     /**
@@ -70,7 +145,6 @@ public class CaregiverService {
     public Caregiver createCaregiver(CaregiverDTO dto) {
         User user = userRepository.findById(dto.userId())
             .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-        System.out.println(user);
         Caregiver caregiver = new Caregiver();
         caregiver.setRelation(dto.relation());
         caregiver.setCreated_by(user);
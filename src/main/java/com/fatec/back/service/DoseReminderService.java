@@ -0,0 +1,390 @@
+package com.fatec.back.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fatec.back.domain.DoseSlot.DoseReminderDTO;
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+import com.fatec.back.domain.DoseSlot.DoseSlotsChangedEvent;
+import com.fatec.back.domain.Medication.MedicationResponseDTO;
+import com.fatec.back.domain.MissedDose.MissedDose;
+import com.fatec.back.repository.DoseSlotRepository;
+import com.fatec.back.repository.HaveRepository;
+import com.fatec.back.repository.MissedDoseRepository;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Serviço responsável pelos streams de lembretes de dose ({@code text/event-stream}) de pacientes e cuidadores.
+ *
+ * <p>
+ * Os clientes abrem um stream por paciente ou por cuidador (que recebe os lembretes de todos os pacientes com
+ * vínculo ativo no momento da conexão) e recebem um evento {@link DoseReminderDTO#DUE} quando o horário de uma
+ * dose chega, e um evento {@link DoseReminderDTO#MISSED} quando o {@link MissedDoseService} de qualquer instância
+ * registra a dose como perdida, no lugar da consulta periódica das prescrições e do histórico.
+ * </p>
+ *
+ * <p>
+ * Os horários de dose ficam em uma {@link TimerWheel}, avançada a cada {@code api.reminder.tick}. Apenas os
+ * pacientes com algum stream aberto são carregados: a cada tick, as doses dos pacientes que conectaram desde o
+ * tick anterior e as doses que entraram na janela de {@code api.reminder.horizon} à frente são lidas pelo índice
+ * {@code (id_patient, due_at)}, e as doses que deixaram de ser acompanhadas são descartadas. Assim, as leituras
+ * são proporcionais às doses e aos eventos, e não à quantidade de clientes conectados. As prescrições recalculadas pelo
+ * {@link DoseScheduleService} são recarregadas no tick seguinte à confirmação da transação.
+ * </p>
+ *
+ * <p>
+ * As doses perdidas são lidas a cada tick da tabela {@code missed_dose}, a partir do último ID lido, apenas para os
+ * pacientes com algum stream aberto. Assim, as doses detectadas por qualquer instância chegam aos streams de todas.
+ * </p>
+ *
+ * <p>
+ * Os eventos são entregues com atraso de até um tick. Cada stream expira após {@code api.reminder.timeout}, e o
+ * cliente deve reconectar (o que também atualiza os pacientes de um cuidador). A cada tick, os streams recebem um
+ * comentário para manter a conexão aberta. Cada instância da aplicação atende apenas os seus próprios streams.
+ * </p>
+ *
+ * <p>Métricas publicadas:</p>
+ * <ul>
+ *     <li>{@code reminder.subscribers} - Quantidade de streams abertos.</li>
+ *     <li>{@code reminder.scheduled} - Quantidade de lembretes agendados.</li>
+ *     <li>{@code reminder.events} - Quantidade de eventos enviados (tag {@code type}).</li>
+ * </ul>
+ *
+ * @see TimerWheel
+ * @see DoseReminderDTO
+ */
+@Service
+@Timed(value = "app.service", extraTags = { "entity", "dose_slot" })
+public class DoseReminderService {
+    private static final Logger log = LoggerFactory.getLogger(DoseReminderService.class);
+    private static final int QUERY_CHUNK_SIZE = 500;
+
+    private final DoseSlotRepository doseSlotRepository;
+    private final MissedDoseRepository missedDoseRepository;
+    private final HaveRepository haveRepository;
+    private final MedicationCatalog medicationCatalog;
+    private final Duration tick;
+    private final Duration horizon;
+    private final Duration timeout;
+    private final Counter dueEvents;
+    private final Counter missedEvents;
+    private final AtomicInteger scheduled = new AtomicInteger();
+
+    /**
+     * Streams abertos de cada paciente. Um stream de cuidador aparece em todos os seus pacientes.
+     */
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Pacientes de cada stream aberto.
+     */
+    private final Map<SseEmitter, List<Long>> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Pacientes que conectaram e prescrições recalculadas desde o último tick.
+     */
+    private final Set<Long> subscribedPatients = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedRelations = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Serializa o acesso à roda e aos pacientes carregados, inclusive as consultas que os recarregam.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TimerWheel<DoseReminderDTO> wheel;
+    private final Set<Long> loadedPatients = new HashSet<>();
+    private LocalDateTime loadedUntil;
+
+    /**
+     * Último ID de dose perdida lido, ou {@code -1} antes do primeiro tick. Acessado apenas pelo {@link #tick()}.
+     */
+    private long lastMissedDoseId = -1;
+
+    public DoseReminderService(DoseSlotRepository doseSlotRepository,
+                               MissedDoseRepository missedDoseRepository,
+                               HaveRepository haveRepository,
+                               MedicationCatalog medicationCatalog,
+                               MeterRegistry meterRegistry,
+                               @Value("${api.reminder.tick:PT1M}") Duration tick,
+                               @Value("${api.reminder.horizon:PT1H}") Duration horizon,
+                               @Value("${api.reminder.timeout:PT30M}") Duration timeout) {
+        this.doseSlotRepository = doseSlotRepository;
+        this.missedDoseRepository = missedDoseRepository;
+        this.haveRepository = haveRepository;
+        this.medicationCatalog = medicationCatalog;
+        this.tick = tick;
+        this.horizon = horizon;
+        this.timeout = timeout;
+
+        LocalDateTime now = LocalDateTime.now();
+        int wheelSize = (int) (horizon.toMillis() / Math.max(1, tick.toMillis())) + 2;
+        this.wheel = new TimerWheel<>(now, tick, wheelSize);
+        this.loadedUntil = now;
+
+        Gauge.builder("reminder.subscribers", subscriptions, Map::size)
+                .description("Quantidade de streams de lembretes abertos")
+                .register(meterRegistry);
+        Gauge.builder("reminder.scheduled", scheduled, AtomicInteger::get)
+                .description("Quantidade de lembretes agendados")
+                .register(meterRegistry);
+        this.dueEvents = Counter.builder("reminder.events").tag("type", DoseReminderDTO.DUE)
+                .description("Quantidade de lembretes enviados").register(meterRegistry);
+        this.missedEvents = Counter.builder("reminder.events").tag("type", DoseReminderDTO.MISSED)
+                .description("Quantidade de lembretes enviados").register(meterRegistry);
+    }
+
+    /**
+     * Abre um stream com os lembretes de um paciente.
+     *
+     * @param patientId ID do paciente.
+     * @return O stream aberto.
+     */
+    public SseEmitter subscribePatient(Long patientId) {
+        return subscribe(List.of(patientId));
+    }
+
+    /**
+     * Abre um stream com os lembretes de todos os pacientes com vínculo ativo com o cuidador.
+     *
+     * @param caregiverId ID do cuidador.
+     * @return O stream aberto.
+     */
+    public SseEmitter subscribeCaregiver(Long caregiverId) {
+        return subscribe(haveRepository.findActivePatientIds(caregiverId, LocalDate.now()));
+    }
+
+    private SseEmitter subscribe(List<Long> patientIds) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        subscriptions.put(emitter, patientIds);
+        for (Long patientId : patientIds) {
+            subscribers.computeIfAbsent(patientId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        }
+        subscribedPatients.addAll(patientIds);
+        emitter.onCompletion(() -> unsubscribe(emitter));
+        emitter.onTimeout(() -> unsubscribe(emitter));
+        emitter.onError(error -> unsubscribe(emitter));
+        send(emitter, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    private void unsubscribe(SseEmitter emitter) {
+        List<Long> patientIds = subscriptions.remove(emitter);
+        if (patientIds == null) {
+            return;
+        }
+        for (Long patientId : patientIds) {
+            subscribers.computeIfPresent(patientId, (id, emitters) -> {
+                emitters.remove(emitter);
+                return emitters.isEmpty() ? null : emitters;
+            });
+        }
+    }
+
+    /**
+     * Marca as doses de uma prescrição recalculada para serem recarregadas no próximo tick.
+     * É executado após a confirmação da transação que recalculou as doses.
+     *
+     * @param event O evento de recálculo.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDoseSlotsChanged(DoseSlotsChangedEvent event) {
+        if (subscribers.containsKey(event.patientId())) {
+            changedRelations.add(event.relationMPId());
+        }
+    }
+
+    /**
+     * Encerra os streams abertos no início do desligamento da aplicação, para que o servidor não espere
+     * as conexões expirarem. Os clientes reconectam em outra instância.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeStreams() {
+        for (SseEmitter emitter : subscriptions.keySet()) {
+            unsubscribe(emitter);
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Carrega as doses que entraram na janela acompanhada, avança a roda e envia os eventos vencidos
+     * e as doses perdidas gravadas desde o tick anterior.
+     */
+    @Scheduled(fixedRateString = "${api.reminder.tick:PT1M}", initialDelayString = "${api.reminder.tick:PT1M}")
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DoseReminderDTO> expired;
+        lock.lock();
+        try {
+            load(now);
+            expired = wheel.advance(now);
+            scheduled.set(wheel.size());
+        } finally {
+            lock.unlock();
+        }
+
+        for (DoseReminderDTO reminder : expired) {
+            if (publish(reminder)) {
+                dueEvents.increment();
+            }
+        }
+        publishMissedDoses();
+        for (SseEmitter emitter : subscriptions.keySet()) {
+            send(emitter, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * Atualiza a roda com as doses dos pacientes acompanhados. Deve ser chamado sob {@link #lock}.
+     */
+    private void load(LocalDateTime now) {
+        Set<Long> released = new HashSet<>(loadedPatients);
+        released.removeAll(subscribers.keySet());
+        if (!released.isEmpty()) {
+            wheel.removeIf(reminder -> released.contains(reminder.patientId()));
+            loadedPatients.removeAll(released);
+        }
+
+        List<Long> changed = drain(changedRelations);
+        if (!changed.isEmpty()) {
+            Set<Long> relations = new HashSet<>(changed);
+            wheel.removeIf(reminder -> relations.contains(reminder.relationMPId()) && !reminder.dueAt().isBefore(now));
+            for (List<Long> chunk : chunks(changed)) {
+                schedule(doseSlotRepository.findByRelationMPIdInAndDueAtGreaterThanEqualAndDueAtLessThan(
+                        chunk, now, loadedUntil), loadedPatients);
+            }
+        }
+
+        List<Long> added = drain(subscribedPatients);
+        added.removeIf(patientId -> loadedPatients.contains(patientId) || !subscribers.containsKey(patientId));
+        if (!added.isEmpty()) {
+            for (List<Long> chunk : chunks(added)) {
+                schedule(doseSlotRepository.findByPatientIdInAndDueAtGreaterThanEqualAndDueAtLessThan(
+                        chunk, now.minus(tick), loadedUntil), null);
+            }
+            loadedPatients.addAll(added);
+        }
+
+        LocalDateTime until = now.plus(horizon);
+        if (until.isAfter(loadedUntil)) {
+            if (!loadedPatients.isEmpty()) {
+                for (List<Long> chunk : chunks(new ArrayList<>(loadedPatients))) {
+                    schedule(doseSlotRepository.findByPatientIdInAndDueAtGreaterThanEqualAndDueAtLessThan(
+                            chunk, loadedUntil, until), null);
+                }
+            }
+            loadedUntil = until;
+        }
+    }
+
+    /**
+     * Envia aos streams as doses perdidas gravadas desde a última leitura. Os IDs são lidos até o maior ID
+     * gravado no início da leitura, que passa a ser a nova posição; na primeira execução, a posição apenas
+     * é inicializada, sem reenviar as doses antigas.
+     */
+    private void publishMissedDoses() {
+        long upToId = missedDoseRepository.findMaxId();
+        if (lastMissedDoseId >= 0 && upToId > lastMissedDoseId && !subscribers.isEmpty()) {
+            for (List<Long> chunk : chunks(new ArrayList<>(subscribers.keySet()))) {
+                for (MissedDose missed : missedDoseRepository.findByPatientIdsAfterIdUpTo(chunk, lastMissedDoseId, upToId)) {
+                    DoseReminderDTO reminder = new DoseReminderDTO(DoseReminderDTO.MISSED, missed.getDoseSlotId(),
+                            missed.getRelationMPId(), missed.getPatientId(), missed.getMedicationId(),
+                            medicationName(missed.getMedicationId()), missed.getDosage(), missed.getDueAt());
+                    if (publish(reminder)) {
+                        missedEvents.increment();
+                    }
+                }
+            }
+        }
+        lastMissedDoseId = upToId;
+    }
+
+    /**
+     * Agenda os eventos de horário das doses, opcionalmente apenas dos pacientes informados.
+     */
+    private void schedule(List<DoseSlot> slots, Set<Long> patientIds) {
+        for (DoseSlot slot : slots) {
+            if (patientIds != null && !patientIds.contains(slot.getPatientId())) {
+                continue;
+            }
+            wheel.schedule(DoseReminderDTO.of(DoseReminderDTO.DUE, slot, medicationName(slot.getMedicationId())),
+                    slot.getDueAt());
+        }
+    }
+
+    private String medicationName(Long medicationId) {
+        return medicationCatalog.findById(medicationId).map(MedicationResponseDTO::name).orElse(null);
+    }
+
+    /**
+     * Envia o lembrete aos streams do paciente.
+     *
+     * @return {@code true} se o paciente tiver algum stream aberto.
+     */
+    private boolean publish(DoseReminderDTO reminder) {
+        Set<SseEmitter> emitters = subscribers.get(reminder.patientId());
+        if (emitters == null) {
+            return false;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(emitter, SseEmitter.event()
+                    .name(reminder.type())
+                    .id(reminder.type() + "-" + reminder.doseSlotId())
+                    .data(reminder));
+        }
+        return true;
+    }
+
+    /**
+     * Envia um evento ao stream, encerrando-o se o cliente já tiver desconectado.
+     */
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Stream de lembretes encerrado: {}", e.getMessage());
+            unsubscribe(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static List<Long> drain(Set<Long> source) {
+        List<Long> drained = new ArrayList<>();
+        for (Long id : source) {
+            if (source.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += QUERY_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + QUERY_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+}
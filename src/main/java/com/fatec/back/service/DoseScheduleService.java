@@ -0,0 +1,223 @@
+package com.fatec.back.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+import com.fatec.back.domain.DoseSlot.DoseSlotsChangedEvent;
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.repository.DoseSlotRepository;
+import com.fatec.back.repository.RelationMPRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Serviço responsável por expandir as prescrições ({@link RelationMP}) em horários de dose concretos.
+ * <p>
+ * Cada prescrição é expandida a partir do início do dia {@code startDate}, em intervalos de
+ * {@code frequencyValue} {@code frequencyUnit}, até o fim do dia {@code endDate}. Os horários são
+ * armazenados na tabela {@code dose_slot} de forma incremental: apenas a janela de
+ * {@code api.schedule.window-days} dias à frente é materializada, e uma tarefa periódica avança
+ * essa janela ({@link DoseWindowExtender}). Assim, a consulta das próximas doses de um paciente
+ * é uma leitura por intervalo em um único índice.
+ * </p>
+ *
+ * <p>Métodos principais:</p>
+ * <ul>
+ *     <li>{@code getUpcomingDoses(Long patientId, Integer limit)} - Recupera as próximas doses de um paciente.</li>
+ *     <li>{@code reschedule(RelationMP relationMP)} - Recalcula as doses futuras de uma prescrição criada ou alterada.</li>
+ *     <li>{@code scheduleAll(List<RelationMP> relations)} - Materializa as doses de prescrições recém-criadas em lote.</li>
+ *     <li>{@code extendWindows(long afterId, LocalDateTime now, int chunkSize)} - Avança a janela materializada de um bloco de prescrições ativas.</li>
+ *     <li>{@code expand(RelationMP relationMP, LocalDateTime from, LocalDateTime to)} - Calcula os horários de dose em um intervalo.</li>
+ * </ul>
+ *
+ * @see DoseSlot
+ * @see RelationMP
+ * @see DoseSlotRepository
+ */
+@Service
+@Timed(value = "app.service", extraTags = { "entity", "dose_slot" })
+public class DoseScheduleService {
+    public static final int DEFAULT_UPCOMING_LIMIT = 10;
+    public static final int MAX_UPCOMING_LIMIT = 100;
+
+    @Autowired
+    private DoseSlotRepository doseSlotRepository;
+
+    @Autowired
+    private RelationMPRepository relationMPRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${api.schedule.window-days:7}")
+    private int windowDays;
+
+    /**
+     * Recupera as próximas doses de um paciente a partir do momento atual.
+     *
+     * @param patientId ID do paciente.
+     * @param limit Quantidade de doses desejada, limitada a {@link #MAX_UPCOMING_LIMIT}.
+     * @return As próximas doses, ordenadas pelo horário previsto.
+     */
+    public List<DoseSlot> getUpcomingDoses(Long patientId, Integer limit) {
+        int size = (limit == null || limit < 1) ? DEFAULT_UPCOMING_LIMIT : Math.min(limit, MAX_UPCOMING_LIMIT);
+        return doseSlotRepository.findByPatientIdAndDueAtGreaterThanEqualOrderByDueAtAsc(
+                patientId, LocalDateTime.now(), Limit.of(size));
+    }
+
+    /**
+     * Recalcula as doses futuras de uma prescrição após sua criação, alteração ou exclusão lógica.
+     * As doses já vencidas são preservadas; as futuras são removidas e, se a prescrição
+     * estiver ativa, materializadas novamente até o fim da janela. Publica um {@link DoseSlotsChangedEvent}
+     * para que os lembretes já agendados da prescrição sejam recarregados.
+     *
+     * @param relationMP A prescrição salva.
+     */
+    @Transactional
+    public void reschedule(RelationMP relationMP) {
+        LocalDateTime now = LocalDateTime.now();
+        doseSlotRepository.deleteFrom(relationMP.getId(), now);
+        if (!relationMP.isDeleted()) {
+            LocalDateTime from = relationMP.getStartDate().atStartOfDay();
+            materialize(relationMP, from.isAfter(now) ? from : now, horizon(now));
+        }
+        eventPublisher.publishEvent(new DoseSlotsChangedEvent(relationMP.getId(), relationMP.getPatient().getId()));
+    }
+
+    /**
+     * Materializa as doses de prescrições recém-criadas, que ainda não têm horários de dose, até o fim da janela,
+     * e publica um {@link DoseSlotsChangedEvent} para cada uma.
+     *
+     * @param relations As prescrições criadas, com ID, medicamento e paciente preenchidos.
+     */
+    @Transactional
+    public void scheduleAll(List<RelationMP> relations) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = horizon(now);
+        List<DoseSlot> slots = new ArrayList<>();
+        for (RelationMP relationMP : relations) {
+            LocalDateTime from = relationMP.getStartDate().atStartOfDay();
+            for (LocalDateTime dueAt : expand(relationMP, from.isAfter(now) ? from : now, horizon)) {
+                slots.add(new DoseSlot(relationMP, dueAt));
+            }
+        }
+        doseSlotRepository.saveAll(slots);
+        for (RelationMP relationMP : relations) {
+            eventPublisher.publishEvent(new DoseSlotsChangedEvent(relationMP.getId(), relationMP.getPatient().getId()));
+        }
+    }
+
+    /**
+     * Avança a janela materializada do próximo bloco de prescrições ativas após o ID informado.
+     * A última dose materializada de cada prescrição do bloco é obtida em uma única consulta agrupada,
+     * e apenas as doses posteriores a ela são inseridas; as que já existirem, por exemplo as
+     * materializadas por um {@link #reschedule} concorrente, são ignoradas.
+     *
+     * @param afterId ID a partir do qual o bloco começa (exclusivo).
+     * @param now Data/hora de referência da janela.
+     * @param chunkSize Quantidade máxima de prescrições do bloco.
+     * @return Os IDs das prescrições do bloco, em ordem crescente; menos que {@code chunkSize} quando não há mais prescrições.
+     */
+    @Transactional
+    public List<Long> extendWindows(long afterId, LocalDateTime now, int chunkSize) {
+        List<RelationMP> chunk = relationMPRepository.findActivePage(afterId, now.toLocalDate(), Limit.of(chunkSize));
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = chunk.stream().map(RelationMP::getId).toList();
+        Map<Long, LocalDateTime> lastDueAt = new HashMap<>();
+        for (Object[] row : doseSlotRepository.findLastDueAtByRelationMP(ids)) {
+            lastDueAt.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+
+        LocalDateTime horizon = horizon(now);
+        List<DoseSlot> slots = new ArrayList<>();
+        for (RelationMP relationMP : chunk) {
+            LocalDateTime last = lastDueAt.get(relationMP.getId());
+            LocalDateTime from = last != null ? last.plusSeconds(1) : now;
+            for (LocalDateTime dueAt : expand(relationMP, from, horizon)) {
+                slots.add(new DoseSlot(relationMP, dueAt));
+            }
+        }
+        doseSlotRepository.insertMissing(slots);
+        return ids;
+    }
+
+    /**
+     * Calcula os horários de dose de uma prescrição no intervalo {@code [from, to)}.
+     * Os horários seguem a grade iniciada no começo do dia {@code startDate} e terminam
+     * no fim do dia {@code endDate}.
+     *
+     * @param relationMP A prescrição.
+     * @param from Início do intervalo (inclusivo).
+     * @param to Fim do intervalo (exclusivo).
+     * @return Os horários de dose no intervalo, em ordem crescente.
+     */
+    public static List<LocalDateTime> expand(RelationMP relationMP, LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> slots = new ArrayList<>();
+        Duration interval = interval(relationMP);
+        if (interval == null) {
+            return slots;
+        }
+
+        LocalDateTime first = relationMP.getStartDate().atStartOfDay();
+        LocalDateTime end = relationMP.getEndDate().plusDays(1).atStartOfDay();
+        if (to.isAfter(end)) {
+            to = end;
+        }
+
+        long skip = 0;
+        if (from.isAfter(first)) {
+            long elapsed = Duration.between(first, from).getSeconds();
+            long step = interval.getSeconds();
+            skip = (elapsed + step - 1) / step;
+        }
+
+        for (LocalDateTime dueAt = first.plus(interval.multipliedBy(skip)); dueAt.isBefore(to); dueAt = dueAt.plus(interval)) {
+            slots.add(dueAt);
+        }
+        return slots;
+    }
+
+    /**
+     * Materializa os horários de dose de uma prescrição no intervalo {@code [from, to)}.
+     */
+    private void materialize(RelationMP relationMP, LocalDateTime from, LocalDateTime to) {
+        List<DoseSlot> slots = new ArrayList<>();
+        for (LocalDateTime dueAt : expand(relationMP, from, to)) {
+            slots.add(new DoseSlot(relationMP, dueAt));
+        }
+        doseSlotRepository.saveAll(slots);
+    }
+
+    /**
+     * Retorna o intervalo entre doses da prescrição, ou {@code null} se a frequência for inválida.
+     */
+    private static Duration interval(RelationMP relationMP) {
+        Integer value = relationMP.getFrequencyValue();
+        if (value == null || value < 1 || relationMP.getFrequencyUnit() == null) {
+            return null;
+        }
+        return switch (relationMP.getFrequencyUnit()) {
+            case HOURS -> Duration.ofHours(value);
+            case DAYS -> Duration.ofDays(value);
+            case WEEKS -> Duration.ofDays(7L * value);
+        };
+    }
+
+    private LocalDateTime horizon(LocalDateTime now) {
+        return now.toLocalDate().plusDays(windowDays + 1L).atStartOfDay();
+    }
+}
@@ -0,0 +1,54 @@
+package com.fatec.back.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarefa periódica que avança a janela de horários de dose materializados.
+ * <p>
+ * A cada {@code api.schedule.refresh-cron}, percorre as prescrições ativas pelo ID e materializa as doses
+ * que entraram na janela pelo {@link DoseScheduleService#extendWindows}, em blocos de até {@link #CHUNK_SIZE}
+ * prescrições, cada um na sua própria transação. Assim, os bloqueios das novas linhas de {@code dose_slot}
+ * são liberados a cada bloco, e uma falha interrompe a execução sem desfazer os blocos já gravados; a
+ * execução seguinte continua a partir da última dose materializada de cada prescrição.
+ * </p>
+ *
+ * @see DoseScheduleService
+ */
+@Component
+public class DoseWindowExtender {
+    private static final Logger log = LoggerFactory.getLogger(DoseWindowExtender.class);
+    private static final int CHUNK_SIZE = 200;
+
+    private final DoseScheduleService doseScheduleService;
+
+    public DoseWindowExtender(DoseScheduleService doseScheduleService) {
+        this.doseScheduleService = doseScheduleService;
+    }
+
+    /**
+     * Avança a janela materializada de todas as prescrições ativas.
+     */
+    @Scheduled(cron = "${api.schedule.refresh-cron:0 0 * * * *}")
+    public void extend() {
+        LocalDateTime now = LocalDateTime.now();
+        long afterId = 0L;
+        try {
+            List<Long> ids;
+            do {
+                ids = doseScheduleService.extendWindows(afterId, now, CHUNK_SIZE);
+                if (!ids.isEmpty()) {
+                    afterId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao avançar a janela de horários de dose após a prescrição {}; repetindo na próxima execução: {}",
+                    afterId, e.getMessage());
+        }
+    }
+}
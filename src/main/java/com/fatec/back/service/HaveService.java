@@ -8,7 +8,10 @@ import org.springframework.stereotype.Service;
 
 import com.fatec.back.domain.Caregiver.Caregiver;
 import com.fatec.back.domain.Have.Have;
+import com.fatec.back.domain.Have.HaveResponseDTO;
 import com.fatec.back.domain.Have.HaveDTO;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.Patient.Patient;
 import com.fatec.back.domain.User.User;
 import com.fatec.back.repository.CaregiverRepository;
@@ -16,6 +19,8 @@ import com.fatec.back.repository.HaveRepository;
 import com.fatec.back.repository.PatientRepository;
 import com.fatec.back.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Serviço responsável pelas operações de negócios relacionadas ao vínculo entre cuidadores e pacientes.
  * Esta classe oferece métodos para a criação, atualização, exclusão e obtenção de registros de {@link Have},
@@ -26,7 +31,7 @@ import com.fatec.back.repository.UserRepository;
  * 
  * <p>Métodos principais:</p>
  * <ul>
- *     <li>{@code getAllHaves()} - Recupera todos os vínculos de cuidadores e pacientes registrados.</li>
+ *     <li>{@code getHavePage(PageQuery query)} - Recupera uma página de vínculos de cuidadores e pacientes, paginada por cursor.</li>
  *     <li>{@code getHaveById(Long id)} - Recupera um vínculo específico pelo ID.</li>
  *     <li>{@code createHave(HaveDTO dto)} - Cria um novo vínculo de cuidador-paciente com base nos dados fornecidos.</li>
  *     <li>{@code updateHave(Long id, HaveDTO updatedData)} - Atualiza os dados de um vínculo existente.</li>
@@ -44,6 +49,7 @@ import com.fatec.back.repository.UserRepository;
  * @see UserRepository
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "have" })
 public class HaveService {
     @Autowired
     private HaveRepository haveRepository;
@@ -58,12 +64,16 @@ public class HaveService {
     private CaregiverRepository caregiverRepository;
 
     /**
-     * Recupera todos os vínculos de cuidadores e pacientes registrados no sistema.
+     * Recupera uma página de vínculos de cuidadores e pacientes, paginada pelo ID (keyset) e filtrada
+     * conforme os parâmetros informados.
      * 
-     * @return Lista de todos os vínculos.
+     * @param query Parâmetros de paginação e filtros.
+     * @return A página de vínculos de cuidadores e pacientes e o cursor para a próxima página.
      */
-    public List<Have> getAllHaves(){
-        return haveRepository.findAll();
+    public CursorPage<HaveResponseDTO> getHavePage(PageQuery query) {
+        List<HaveResponseDTO> rows = haveRepository.findPage(query.afterId(), query.deleted(),
+                query.createdFrom(), query.createdTo(), query.fetchLimit());
+        return CursorPage.of(rows, query, HaveResponseDTO::id);
     }
 
     /**
@@ -72,8 +82,8 @@ public class HaveService {
      * @param id ID do vínculo a ser recuperado.
      * @return Um {@link Optional} contendo o vínculo encontrado.
      */
-    public Optional<Have> getHaveById(Long id){
-        return haveRepository.findById(id);
+    public Optional<HaveResponseDTO> getHaveById(Long id) {
+        return haveRepository.findResponseById(id);
     }
 
     /**
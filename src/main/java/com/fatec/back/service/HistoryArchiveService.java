@@ -0,0 +1,146 @@
+package com.fatec.back.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.History.HistoryArchive;
+import com.fatec.back.domain.History.HistoryResponseDTO;
+import com.fatec.back.domain.JobWatermark.JobWatermark;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
+import com.fatec.back.repository.HistoryArchiveRepository;
+import com.fatec.back.repository.HistoryRepository;
+import com.fatec.back.repository.JobWatermarkRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Serviço responsável pelos históricos arquivados ({@link HistoryArchive}).
+ * <p>
+ * Os históricos são movidos da tabela {@code history} para a tabela {@code history_archive} em blocos de
+ * tamanho limitado, cada um na sua própria transação, pelo {@link HistoryArchiver}. Os históricos arquivados
+ * deixam de aparecer nas consultas de {@link HistoryService} e são consultados pelos métodos deste serviço,
+ * no mesmo formato.
+ * </p>
+ *
+ * <p>
+ * Como o particionamento impede as chaves estrangeiras da tabela {@code history}, as referências à prescrição e
+ * aos usuários são validadas na gravação pelo {@link HistoryService} e verificadas depois por
+ * {@link #checkReferences(LocalDateTime)}. As prescrições e os usuários nunca são removidos fisicamente (apenas
+ * marcados como excluídos), de forma que uma referência válida na gravação continua válida.
+ * </p>
+ *
+ * <p>Métodos principais:</p>
+ * <ul>
+ *     <li>{@code getArchivedHistoryPage(PageQuery query)} - Recupera uma página de históricos arquivados, paginada por cursor.</li>
+ *     <li>{@code getArchivedHistoryById(Long id)} - Recupera um histórico arquivado pelo ID.</li>
+ *     <li>{@code copyBefore(LocalDateTime before, long afterId, int limit)} - Copia um bloco de históricos para o arquivo.</li>
+ *     <li>{@code archiveBefore(LocalDateTime before, int limit)} - Move um bloco de históricos para o arquivo.</li>
+ *     <li>{@code checkReferences(LocalDateTime until)} - Verifica as referências dos históricos criados desde a verificação anterior.</li>
+ * </ul>
+ *
+ * @see HistoryArchive
+ * @see HistoryArchiver
+ */
+@Service
+@Timed(value = "app.service", extraTags = { "entity", "history_archive" })
+public class HistoryArchiveService {
+    public static final String REFERENCES_WATERMARK = "history-references";
+    private static final LocalDateTime FIRST_CHECK_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    @Autowired
+    private HistoryArchiveRepository historyArchiveRepository;
+
+    @Autowired
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    /**
+     * Recupera uma página de históricos arquivados, paginada pelo ID (keyset) e filtrada
+     * conforme os parâmetros informados.
+     *
+     * @param query Parâmetros de paginação e filtros.
+     * @return A página de históricos arquivados e o cursor para a próxima página.
+     */
+    public CursorPage<HistoryResponseDTO> getArchivedHistoryPage(PageQuery query) {
+        List<HistoryResponseDTO> rows = historyArchiveRepository.findPage(query.afterId(), query.deleted(),
+                query.createdFrom(), query.createdTo(), query.fetchLimit());
+        return CursorPage.of(rows, query, HistoryResponseDTO::id);
+    }
+
+    /**
+     * Recupera um histórico arquivado pelo ID original.
+     *
+     * @param id ID do histórico.
+     * @return Um {@link Optional} contendo o histórico encontrado.
+     */
+    public Optional<HistoryResponseDTO> getArchivedHistoryById(Long id) {
+        return historyArchiveRepository.findResponseById(id);
+    }
+
+    /**
+     * Copia para o arquivo o próximo bloco de históricos criados antes da data/hora informada, sem
+     * removê-los. Usado antes de remover uma partição inteira, o que dispensa a exclusão linha a linha.
+     *
+     * @param before Data/hora de criação máxima (exclusiva).
+     * @param afterId ID a partir do qual o bloco começa (exclusivo).
+     * @param limit Quantidade máxima de históricos do bloco.
+     * @return Os IDs do bloco, em ordem crescente.
+     */
+    @Transactional
+    public List<Long> copyBefore(LocalDateTime before, long afterId, int limit) {
+        List<Long> ids = historyRepository.findIdsCreatedBefore(before, afterId, Limit.of(limit));
+        if (!ids.isEmpty()) {
+            historyArchiveRepository.copyFromHistory(ids, LocalDateTime.now());
+        }
+        return ids;
+    }
+
+    /**
+     * Move para o arquivo o próximo bloco de históricos criados antes da data/hora informada:
+     * copia os registros e os remove da tabela {@link History} na mesma transação.
+     *
+     * @param before Data/hora de criação máxima (exclusiva).
+     * @param limit Quantidade máxima de históricos do bloco.
+     * @return A quantidade de históricos movidos; menor que {@code limit} quando não há mais históricos.
+     */
+    @Transactional
+    public int archiveBefore(LocalDateTime before, int limit) {
+        List<Long> ids = historyRepository.findIdsCreatedBefore(before, 0L, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        historyArchiveRepository.copyFromHistory(ids, LocalDateTime.now());
+        historyRepository.deleteAllByIds(ids);
+        return ids.size();
+    }
+
+    /**
+     * Conta os históricos criados entre a verificação anterior, guardada em {@link JobWatermark}, e a data/hora
+     * informada que referenciam uma prescrição ou um usuário inexistente, e avança a posição. A linha da posição
+     * fica bloqueada até o fim da transação, de forma que instâncias concorrentes não repetem a verificação.
+     *
+     * @param until Data/hora de criação máxima (exclusiva) dos históricos verificados.
+     * @return A quantidade de históricos com alguma referência inexistente.
+     */
+    @Transactional
+    public long checkReferences(LocalDateTime until) {
+        JobWatermark watermark = jobWatermarkRepository.findForUpdate(REFERENCES_WATERMARK)
+                .orElseGet(() -> jobWatermarkRepository.save(new JobWatermark(REFERENCES_WATERMARK, FIRST_CHECK_FROM)));
+        if (!until.isAfter(watermark.getLastDueAt())) {
+            return 0;
+        }
+        long dangling = historyRepository.countDanglingReferences(watermark.getLastDueAt(), until);
+        watermark.setLastDueAt(until);
+        return dangling;
+    }
+}
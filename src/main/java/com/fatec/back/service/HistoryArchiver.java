@@ -0,0 +1,267 @@
+package com.fatec.back.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fatec.back.repository.HistoryPartitionRepository.Partition;
+import com.fatec.back.repository.HistoryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Tarefa periódica de arquivamento dos históricos e de manutenção das partições da tabela {@code history}.
+ *
+ * <p>
+ * A tabela {@code history} é particionada por mês de {@code created_at} (em MySQL, com
+ * {@code api.history.partitions.enabled}); a migration cria a partição {@code p_initial}, até o fim do mês em que
+ * é executada, e a partição final {@code p_future}. A cada execução ({@code api.history.archive.cron}), os meses fechados
+ * há mais de {@code api.history.archive.retention-months} meses são movidos para a tabela comprimida
+ * {@code history_archive}: os registros de cada partição inteiramente anterior ao corte são copiados em blocos
+ * de {@code api.history.archive.chunk-size} e a partição é removida, sem exclusões linha a linha, depois de copiar
+ * de novo, com as tabelas bloqueadas, os registros alterados durante a cópia; os registros
+ * restantes anteriores ao corte (ou todos, sem particionamento) são copiados e excluídos em blocos. Em seguida,
+ * são criadas as partições dos próximos {@code api.history.partitions.months-ahead} meses, para que os novos
+ * registros nunca caiam na partição final {@code p_future}. Por fim, as referências dos históricos criados desde a
+ * execução anterior são verificadas ({@link HistoryArchiveService#checkReferences(LocalDateTime)}), no lugar das
+ * chaves estrangeiras que o particionamento impede.
+ * </p>
+ *
+ * <p>
+ * O particionamento serve ao arquivamento: um mês sai da tabela ativa com a remoção da sua partição, sem exclusões
+ * linha a linha, e a tabela ativa guarda apenas o período de retenção. Só as consultas filtradas por
+ * {@code created_at} (a paginação com {@code createdFrom}/{@code createdTo} e a busca dos registros a arquivar)
+ * leem apenas as partições do intervalo. As consultas por prescrição e {@code taked_at} ou por ID não podem ser
+ * limitadas por {@code created_at}, já que {@code taked_at} é informado pelo cliente e pode ser alterado depois;
+ * elas usam os seus índices em cada partição, cuja quantidade é limitada pela retenção. Os históricos arquivados são consultados pelo
+ * {@link HistoryArchiveService}. Os consolidados de adesão já gravados são mantidos, mas reconsolidar
+ * ({@code POST /adherence/rebuild}) um período arquivado o deixa sem doses tomadas. Em caso de falha, a execução
+ * é interrompida e retomada na execução seguinte: a cópia ignora os registros já arquivados.
+ * </p>
+ *
+ * <p>
+ * A criação e a remoção de partições esperam o bloqueio da tabela por no máximo
+ * {@code api.history.partitions.lock-wait-timeout}, para não enfileirar as requisições atrás de uma transação
+ * longa (como a exportação do histórico de um paciente). Esgotado o tempo, a alteração é repetida algumas vezes,
+ * com um intervalo entre as tentativas, e depois fica para a execução seguinte.
+ * </p>
+ *
+ * <p>
+ * A execução agendada roda em uma thread própria ({@code history-archiver}), e não no agendador compartilhado: a
+ * cópia em blocos e as esperas entre as tentativas não atrasam as demais tarefas agendadas, como a gravação do
+ * {@link HistoryJournal} e os lembretes de dose. Se a execução anterior ainda não terminou, a nova é ignorada.
+ * </p>
+ *
+ * <p>Métricas publicadas:</p>
+ * <ul>
+ *     <li>{@code history.archive.archived} - Quantidade de históricos movidos para o arquivo.</li>
+ *     <li>{@code history.references.dangling} - Quantidade de históricos encontrados com uma prescrição ou um usuário inexistente.</li>
+ * </ul>
+ *
+ * @see HistoryArchiveService
+ */
+@Component
+public class HistoryArchiver {
+    private static final Logger log = LoggerFactory.getLogger(HistoryArchiver.class);
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    /**
+     * Atraso da verificação de referências em relação ao horário atual, para não deixar para trás os históricos
+     * de transações ainda não confirmadas.
+     */
+    private static final Duration REFERENCES_CHECK_DELAY = Duration.ofMinutes(5);
+
+    /**
+     * Tentativas de cada alteração de partição que esgota a espera pelo bloqueio da tabela, e o intervalo entre elas.
+     */
+    private static final int PARTITION_DDL_ATTEMPTS = 3;
+    private static final Duration PARTITION_DDL_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final HistoryArchiveService historyArchiveService;
+    private final HistoryRepository historyRepository;
+    private final boolean partitioned;
+    private final int retentionMonths;
+    private final int monthsAhead;
+    private final int chunkSize;
+    private final Counter archived;
+    private final Counter dangling;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public HistoryArchiver(HistoryArchiveService historyArchiveService,
+                           HistoryRepository historyRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${api.history.partitions.enabled:true}") boolean partitioned,
+                           @Value("${api.history.partitions.months-ahead:3}") int monthsAhead,
+                           @Value("${api.history.archive.retention-months:12}") int retentionMonths,
+                           @Value("${api.history.archive.chunk-size:1000}") int chunkSize) {
+        this.historyArchiveService = historyArchiveService;
+        this.historyRepository = historyRepository;
+        this.partitioned = partitioned;
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.retentionMonths = Math.max(1, retentionMonths);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.archived = Counter.builder("history.archive.archived")
+                .description("Quantidade de históricos movidos para o arquivo")
+                .register(meterRegistry);
+        this.dangling = Counter.builder("history.references.dangling")
+                .description("Quantidade de históricos com uma prescrição ou um usuário inexistente")
+                .register(meterRegistry);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "history-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Inicia o arquivamento na thread própria, a menos que a execução anterior ainda esteja em andamento.
+     */
+    @Scheduled(cron = "${api.history.archive.cron:0 30 3 * * *}")
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Arquivamento anterior dos históricos ainda em execução; ignorando esta execução");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                run();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Arquiva os meses fechados anteriores ao período de retenção, cria as partições dos próximos meses e
+     * verifica as referências dos históricos novos.
+     */
+    public void run() {
+        try {
+            archive(YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay());
+            if (partitioned) {
+                addPartitionsAhead(YearMonth.now().plusMonths(monthsAhead + 1L).atDay(1).atStartOfDay());
+            }
+            checkReferences(LocalDateTime.now().minus(REFERENCES_CHECK_DELAY));
+        } catch (RuntimeException e) {
+            log.warn("Falha no arquivamento dos históricos; repetindo na próxima execução: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Move para o arquivo os históricos criados antes do corte.
+     *
+     * @param cutoff Data/hora de criação máxima (exclusiva) dos históricos arquivados.
+     */
+    public void archive(LocalDateTime cutoff) {
+        if (partitioned) {
+            for (Partition partition : historyRepository.findPartitions()) {
+                if (partition.lessThan() != null && !partition.lessThan().isAfter(cutoff)) {
+                    archivePartition(partition);
+                }
+            }
+        }
+
+        int moved;
+        do {
+            moved = historyArchiveService.archiveBefore(cutoff, chunkSize);
+            archived.increment(moved);
+        } while (moved == chunkSize);
+    }
+
+    /**
+     * Copia os registros de uma partição para o arquivo e remove a partição. A cópia em blocos não bloqueia a
+     * tabela; o que for alterado nesse meio-tempo é copiado de novo na remoção.
+     */
+    private void archivePartition(Partition partition) {
+        long afterId = 0L;
+        List<Long> ids;
+        do {
+            ids = historyArchiveService.copyBefore(partition.lessThan(), afterId, chunkSize);
+            if (!ids.isEmpty()) {
+                afterId = ids.get(ids.size() - 1);
+                archived.increment(ids.size());
+            }
+        } while (ids.size() == chunkSize);
+        retryOnLockTimeout(() -> historyRepository.dropArchivedPartition(partition.name()));
+        log.info("Partição de históricos arquivada: {}", partition.name());
+    }
+
+    /**
+     * Verifica as referências dos históricos criados desde a verificação anterior até o limite informado.
+     *
+     * @param until Data/hora de criação máxima (exclusiva) dos históricos verificados.
+     */
+    public void checkReferences(LocalDateTime until) {
+        long found = historyArchiveService.checkReferences(until);
+        if (found > 0) {
+            dangling.increment(found);
+            log.warn("Históricos com prescrição ou usuário inexistente: quantidade={}, criadosAntesDe={}", found, until);
+        }
+    }
+
+    /**
+     * Cria partições mensais após a última partição com limite, até o limite informado.
+     */
+    private void addPartitionsAhead(LocalDateTime until) {
+        LocalDateTime last = historyRepository.findPartitions().stream()
+                .map(Partition::lessThan)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        if (last == null) {
+            return;
+        }
+        while (last.isBefore(until)) {
+            YearMonth month = YearMonth.from(last);
+            LocalDateTime next = month.plusMonths(1).atDay(1).atStartOfDay();
+            String name = "p" + month.format(PARTITION_SUFFIX);
+            retryOnLockTimeout(() -> historyRepository.addPartition(name, next));
+            last = next;
+        }
+    }
+
+    /**
+     * Executa uma alteração de partição, repetindo-a quando a espera pelo bloqueio da tabela se esgota.
+     */
+    private void retryOnLockTimeout(Runnable ddl) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                ddl.run();
+                return;
+            } catch (CannotAcquireLockException e) {
+                if (attempt == PARTITION_DDL_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("Tabela de históricos em uso; tentando alterar as partições novamente em {}",
+                        PARTITION_DDL_RETRY_DELAY);
+                try {
+                    Thread.sleep(PARTITION_DDL_RETRY_DELAY);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,124 @@
+package com.fatec.back.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.History.HistoryExportFormat;
+import com.fatec.back.domain.History.HistoryResponseDTO;
+import com.fatec.back.repository.HistoryRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Serviço responsável pela exportação do histórico de medicação completo de um paciente.
+ * <p>
+ * Os históricos arquivados e os ativos são lidos em {@link Stream}, linha a linha conforme chegam do banco
+ * ({@link com.fatec.back.repository.HistoryExportRepository}), e escritos diretamente na saída, um a um, em NDJSON
+ * ou CSV. A memória usada não depende da quantidade de históricos exportados.
+ * </p>
+ *
+ * <p>
+ * As duas leituras são feitas na mesma transação, para que um histórico movido para o arquivo durante a
+ * exportação não seja omitido nem repetido. A transação mantém o bloqueio de metadados da tabela {@code history}
+ * até o fim da escrita; as alterações de partição do {@link HistoryArchiver} esperam por ele por um tempo limitado e
+ * são repetidas depois, sem bloquear as demais requisições.
+ * </p>
+ *
+ * <p>Métodos principais:</p>
+ * <ul>
+ *     <li>{@code exportPatientHistory(Long patientId, HistoryExportFormat format, OutputStream out)} - Escreve o histórico do paciente na saída.</li>
+ * </ul>
+ *
+ * @see History
+ * @see HistoryExportFormat
+ * @see HistoryArchiveService
+ */
+@Service
+@Timed(value = "app.service", extraTags = { "entity", "history" })
+public class HistoryExportService {
+    static final String CSV_HEADER = "id,taked,takedAt,relationMPId,medicationId,medicationName,patientId,"
+            + "createdAt,updatedAt,createdBy,updatedBy,deleted";
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Escreve na saída todos os históricos das prescrições do paciente, incluindo os arquivados e os
+     * excluídos logicamente, do mais antigo para o mais recente. A saída não é fechada.
+     *
+     * @param patientId ID do paciente.
+     * @param format Formato da exportação.
+     * @param out Saída onde os históricos são escritos.
+     * @return A quantidade de históricos exportados.
+     * @throws IOException Se a escrita na saída falhar, por exemplo quando o cliente encerra a conexão.
+     */
+    @Transactional(readOnly = true)
+    public long exportPatientHistory(Long patientId, HistoryExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == HistoryExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count;
+        try (Stream<HistoryResponseDTO> archived = historyRepository.streamArchivedByPatient(patientId)) {
+            count = write(archived.iterator(), format, writer);
+        }
+        try (Stream<HistoryResponseDTO> active = historyRepository.streamByPatient(patientId)) {
+            count += write(active.iterator(), format, writer);
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long write(Iterator<HistoryResponseDTO> rows, HistoryExportFormat format, Writer writer) throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            HistoryResponseDTO row = rows.next();
+            writer.write(format == HistoryExportFormat.CSV ? csv(row) : objectMapper.writeValueAsString(row));
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private static String csv(HistoryResponseDTO row) {
+        return String.join(",",
+                value(row.id()), value(row.taked()), value(row.takedAt()), value(row.relationMPId()),
+                value(row.medicationId()), quote(row.medicationName()), value(row.patientId()),
+                value(row.createdAt()), value(row.updatedAt()), value(row.createdBy()), value(row.updatedBy()),
+                value(row.deleted()));
+    }
+
+    private static String value(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    /**
+     * Coloca o texto entre aspas quando ele contém vírgula, aspas ou quebra de linha (RFC 4180).
+     */
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
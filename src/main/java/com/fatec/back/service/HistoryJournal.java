@@ -0,0 +1,492 @@
+package com.fatec.back.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fatec.back.domain.History.HistoryBatchResultDTO;
+import com.fatec.back.domain.History.HistoryDTO;
+import com.fatec.back.repository.HistoryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Journal local das confirmações de tomada, usado no modo de gravação adiada
+ * ({@code api.history.write-behind.enabled}).
+ *
+ * <p>
+ * Nesse modo, {@code POST /history} não abre uma transação por confirmação: o registro é acrescentado a um
+ * arquivo de segmento em {@code api.history.write-behind.journal-dir} e a requisição é respondida assim que
+ * o arquivo é sincronizado com o disco. As requisições concorrentes compartilham a mesma sincronização
+ * (<i>group commit</i>), de forma que o custo de um {@code fsync} é dividido entre todas as confirmações
+ * gravadas enquanto ele era executado.
+ * </p>
+ *
+ * <p>
+ * A cada {@code api.history.write-behind.flush-interval}, o segmento atual é fechado e um novo é aberto para
+ * as próximas confirmações. Os registros fechados são agrupados e gravados no banco pelo
+ * {@link HistoryService#createHistories(List, List)} em lotes de até {@code api.history.write-behind.max-batch}
+ * itens. Cada registro recebe, ao ser acrescentado, uma chave única ({@link UUID}), gravada no journal e na
+ * coluna {@code journal_key} do histórico; assim, confirmações com o mesmo conteúdo (inclusive sem
+ * {@code takedAt}) continuam sendo registros distintos. Os arquivos só são apagados depois que todos os seus registros foram gravados; em caso de falha
+ * do banco, a gravação é repetida no ciclo seguinte, ignorando os registros do lote que falhou que já estão no banco.
+ * </p>
+ *
+ * <p>
+ * O {@code POST /history} só acrescenta ao journal confirmações cujo usuário e relação existem
+ * ({@link HistoryService#referencesExist(HistoryDTO)}); um registro recusado na gravação no banco (por
+ * exemplo, uma relação excluída fisicamente depois da confirmação) é registrado no log e contado em
+ * {@code history.journal.rejected}.
+ * </p>
+ *
+ * <p>
+ * Na inicialização, os segmentos que restaram no diretório (de uma parada inesperada) são lidos e seus
+ * registros são gravados no primeiro ciclo, ignorando os que já estão no banco, o que cobre uma parada
+ * entre a gravação no banco e a exclusão do arquivo; a verificação é feita pela chave do registro
+ * ({@link HistoryRepository#findExistingJournalKeys}). Linhas incompletas ou com o CRC divergente (uma
+ * gravação interrompida) são ignoradas. Os registros aceitos só aparecem nas consultas depois de gravados
+ * no banco, e cada instância da aplicação tem o seu próprio journal.
+ * </p>
+ *
+ * <p>Métricas publicadas:</p>
+ * <ul>
+ *     <li>{@code history.journal.sync} - Tempo de sincronização do journal com o disco.</li>
+ *     <li>{@code history.journal.flush} - Tempo de gravação dos registros do journal no banco.</li>
+ *     <li>{@code history.journal.pending} - Quantidade de registros aceitos e ainda não gravados no banco.</li>
+ *     <li>{@code history.journal.rejected} - Quantidade de registros recusados na gravação no banco.</li>
+ * </ul>
+ *
+ * @see HistoryService
+ */
+@Component
+public class HistoryJournal {
+    private static final Logger log = LoggerFactory.getLogger(HistoryJournal.class);
+    private static final String SEGMENT_PREFIX = "history-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String SEPARATOR = ";";
+
+    private final HistoryService historyService;
+    private final HistoryRepository historyRepository;
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxBatch;
+    private final Timer syncTimer;
+    private final Timer flushTimer;
+    private final Counter rejected;
+
+    /**
+     * Locks do journal, sempre adquiridos na ordem {@code flushLock}, {@code syncLock}, {@code appendLock}.
+     */
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /** Segmento atual e registros gravados nele, protegidos por {@code appendLock}. */
+    private FileChannel channel;
+    private long segment;
+    private long appended;
+    private List<Entry> pending = new ArrayList<>();
+
+    /** Registros já sincronizados com o disco, protegido por {@code syncLock}. */
+    private long synced;
+
+    /** Segmentos fechados e registros ainda não gravados no banco, protegidos por {@code flushLock}. */
+    private final List<Path> sealedSegments = new ArrayList<>();
+    private final List<Entry> unflushed = new ArrayList<>();
+    private final List<Entry> recovered = new ArrayList<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public HistoryJournal(HistoryService historyService,
+                          HistoryRepository historyRepository,
+                          MeterRegistry registry,
+                          @Value("${api.history.write-behind.enabled:false}") boolean enabled,
+                          @Value("${api.history.write-behind.journal-dir:data/history-journal}") String directory,
+                          @Value("${api.history.write-behind.max-batch:500}") int maxBatch) {
+        this.historyService = historyService;
+        this.historyRepository = historyRepository;
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.maxBatch = Math.max(1, Math.min(maxBatch, HistoryService.MAX_BATCH_SIZE));
+        this.syncTimer = Timer.builder("history.journal.sync")
+                .description("Tempo de sincronização do journal de históricos com o disco")
+                .register(registry);
+        this.flushTimer = Timer.builder("history.journal.flush")
+                .description("Tempo de gravação dos registros do journal de históricos no banco")
+                .register(registry);
+        this.rejected = Counter.builder("history.journal.rejected")
+                .description("Registros do journal de históricos recusados na gravação no banco")
+                .register(registry);
+        Gauge.builder("history.journal.pending", pendingCount, AtomicInteger::get)
+                .description("Registros do journal de históricos ainda não gravados no banco")
+                .register(registry);
+        if (enabled) {
+            open();
+        }
+    }
+
+    /**
+     * Registro do journal: uma confirmação e a sua chave única.
+     *
+     * @param key Chave do registro, gravada na coluna {@code journal_key} do histórico.
+     * @param history Dados da confirmação.
+     */
+    record Entry(String key, HistoryDTO history) {
+    }
+
+    /**
+     * Indica se o modo de gravação adiada está habilitado.
+     *
+     * @return {@code true} se as confirmações devem ser gravadas pelo journal.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Acrescenta uma confirmação ao journal, retornando depois que ela foi sincronizada com o disco.
+     *
+     * @param dto Dados do histórico, com {@code taked}, {@code relationMP} e {@code userId} preenchidos.
+     * @throws IllegalStateException Se o modo de gravação adiada não estiver habilitado.
+     * @throws UncheckedIOException Se o registro não puder ser gravado no disco.
+     */
+    public void append(HistoryDTO dto) {
+        if (!enabled) {
+            throw new IllegalStateException("Journal de históricos desabilitado");
+        }
+        Entry entry = new Entry(UUID.randomUUID().toString(), dto);
+        ByteBuffer record = ByteBuffer.wrap(encode(entry));
+        long position;
+        appendLock.lock();
+        try {
+            long start = channel.size();
+            try {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            } catch (IOException e) {
+                channel.truncate(start);
+                throw e;
+            }
+            position = ++appended;
+            pending.add(entry);
+            pendingCount.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar no journal de históricos", e);
+        } finally {
+            appendLock.unlock();
+        }
+        sync(position);
+    }
+
+    /**
+     * Sincroniza o segmento atual com o disco, se o registro informado ainda não estiver sincronizado.
+     * Enquanto uma sincronização é executada, as demais threads aguardam no {@code syncLock} e, ao obtê-lo,
+     * normalmente encontram o seu registro já coberto por ela.
+     */
+    private void sync(long position) {
+        syncLock.lock();
+        try {
+            if (synced >= position) {
+                return;
+            }
+            FileChannel current;
+            long upTo;
+            appendLock.lock();
+            try {
+                current = channel;
+                upTo = appended;
+            } finally {
+                appendLock.unlock();
+            }
+            long start = System.nanoTime();
+            current.force(false);
+            syncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            synced = upTo;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao sincronizar o journal de históricos", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Grava no banco os registros do journal. Executado periodicamente e no encerramento da aplicação.
+     */
+    @Scheduled(fixedDelayString = "${api.history.write-behind.flush-interval:PT1S}",
+               initialDelayString = "${api.history.write-behind.flush-interval:PT1S}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            seal();
+            if (!recovered.isEmpty()) {
+                List<Entry> missing = new ArrayList<>();
+                for (int from = 0; from < recovered.size(); from += maxBatch) {
+                    List<Entry> chunk = recovered.subList(from, Math.min(from + maxBatch, recovered.size()));
+                    Set<String> stored = historyRepository.findExistingJournalKeys(
+                            chunk.stream().map(Entry::key).toList());
+                    chunk.stream().filter(entry -> !stored.contains(entry.key())).forEach(missing::add);
+                }
+                log.info("Registros do journal de históricos verificados antes da gravação: total={}, jaGravados={}",
+                        recovered.size(), recovered.size() - missing.size());
+                pendingCount.addAndGet(missing.size() - recovered.size());
+                unflushed.addAll(0, missing);
+                recovered.clear();
+            }
+            if (!unflushed.isEmpty()) {
+                flushTimer.record(this::store);
+            }
+            deleteSealedSegments();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar os registros do journal de históricos; nova tentativa no próximo ciclo: pendentes={}",
+                    unflushed.size() + recovered.size(), e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Fecha o segmento atual, se houver registros nele, e abre um novo para as próximas confirmações.
+     * Os registros do segmento fechado são acrescentados aos ainda não gravados.
+     */
+    private void seal() {
+        syncLock.lock();
+        appendLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            channel.force(false);
+            channel.close();
+            synced = appended;
+            sealedSegments.add(segmentPath(segment));
+
+            unflushed.addAll(pending);
+            pending = new ArrayList<>();
+
+            openSegment(segment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao fechar o segmento do journal de históricos", e);
+        } finally {
+            appendLock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Grava os registros ainda não gravados em lotes, removendo cada lote da lista após a sua transação,
+     * de forma que uma falha em um lote não repita os anteriores. O lote que falhou pode ter sido gravado
+     * mesmo assim (uma falha depois do commit), por isso ele é movido para os registros recuperados e
+     * filtrado pela chave antes da nova tentativa.
+     */
+    private void store() {
+        while (!unflushed.isEmpty()) {
+            List<Entry> batch = unflushed.subList(0, Math.min(maxBatch, unflushed.size()));
+            List<HistoryBatchResultDTO> results;
+            try {
+                results = historyService.createHistories(
+                        batch.stream().map(Entry::history).toList(),
+                        batch.stream().map(Entry::key).toList());
+            } catch (RuntimeException e) {
+                recovered.addAll(batch);
+                batch.clear();
+                throw e;
+            }
+            for (HistoryBatchResultDTO result : results) {
+                if (result.error() != null) {
+                    HistoryDTO dto = batch.get(result.index()).history();
+                    rejected.increment();
+                    log.warn("Registro do journal de históricos recusado: relationMPId={}, userId={}, takedAt={}, erro={}",
+                            dto.relationMP(), dto.userId(), dto.takedAt(), result.error());
+                }
+            }
+            int stored = batch.size();
+            batch.clear();
+            pendingCount.addAndGet(-stored);
+        }
+    }
+
+    private void deleteSealedSegments() {
+        if (!unflushed.isEmpty() || !recovered.isEmpty()) {
+            return;
+        }
+        for (Path path : sealedSegments) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Não foi possível apagar o segmento do journal de históricos: {}", path, e);
+            }
+        }
+        sealedSegments.clear();
+    }
+
+    /**
+     * Lê os segmentos que restaram no diretório e abre um novo segmento após o último deles.
+     */
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments;
+            try (Stream<Path> files = Files.list(directory)) {
+                segments = files.filter(path -> segmentNumber(path) >= 0)
+                        .sorted((a, b) -> Long.compare(segmentNumber(a), segmentNumber(b)))
+                        .toList();
+            }
+            long last = 0;
+            for (Path path : segments) {
+                recovered.addAll(read(path));
+                sealedSegments.add(path);
+                last = segmentNumber(path);
+            }
+            pendingCount.set(recovered.size());
+            if (!recovered.isEmpty()) {
+                log.info("Journal de históricos com registros não gravados: segmentos={}, registros={}",
+                        segments.size(), recovered.size());
+            }
+            openSegment(last + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o journal de históricos em " + directory, e);
+        }
+    }
+
+    private void openSegment(long number) throws IOException {
+        channel = FileChannel.open(segmentPath(number), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segment = number;
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Nem todos os sistemas permitem sincronizar um diretório; o arquivo é sincronizado a cada gravação.
+        }
+    }
+
+    private List<Entry> read(Path path) throws IOException {
+        String content = Files.readString(path, StandardCharsets.UTF_8);
+        List<Entry> records = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = content.indexOf('\n', start)) >= 0) {
+            Entry entry = decode(content.substring(start, end));
+            if (entry != null) {
+                records.add(entry);
+            } else {
+                log.warn("Registro inválido ignorado no journal de históricos: arquivo={}, posição={}", path, start);
+            }
+            start = end + 1;
+        }
+        if (start < content.length()) {
+            log.warn("Registro incompleto ignorado no final do journal de históricos: arquivo={}", path);
+        }
+        return records;
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%019d", number) + SEGMENT_SUFFIX);
+    }
+
+    private static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Codifica um registro como uma linha {@code key;taked;takedAt;relationMP;userId;crc32}.
+     */
+    static byte[] encode(Entry entry) {
+        HistoryDTO dto = entry.history();
+        String payload = entry.key() + SEPARATOR + dto.taked() + SEPARATOR
+                + (dto.takedAt() == null ? "" : dto.takedAt()) + SEPARATOR
+                + dto.relationMP() + SEPARATOR + dto.userId();
+        return (payload + SEPARATOR + Long.toHexString(checksum(payload)) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodifica uma linha gravada por {@link #encode(Entry)}.
+     *
+     * @return O registro, ou {@code null} se a linha estiver incompleta ou corrompida.
+     */
+    static Entry decode(String line) {
+        int last = line.lastIndexOf(SEPARATOR);
+        if (last < 0) {
+            return null;
+        }
+        String payload = line.substring(0, last);
+        String[] fields = payload.split(SEPARATOR, -1);
+        try {
+            if (fields.length != 5 || Long.parseLong(line.substring(last + 1), 16) != checksum(payload)) {
+                return null;
+            }
+            return new Entry(UUID.fromString(fields[0]).toString(), new HistoryDTO(Boolean.valueOf(fields[1]),
+                    fields[2].isEmpty() ? null : LocalDateTime.parse(fields[2]),
+                    Long.valueOf(fields[3]),
+                    Long.valueOf(fields[4])));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static long checksum(String payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * Grava no banco os registros pendentes e fecha o segmento atual no encerramento da aplicação.
+     * Os registros que não puderem ser gravados continuam no diretório e são recuperados na próxima inicialização.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        syncLock.lock();
+        appendLock.lock();
+        try {
+            channel.close();
+            if (pending.isEmpty()) {
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        } catch (IOException e) {
+            log.warn("Não foi possível fechar o journal de históricos", e);
+        } finally {
+            appendLock.unlock();
+            syncLock.unlock();
+        }
+    }
+}
@@ -1,32 +1,45 @@
 package com.fatec.back.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.History.HistoryResponseDTO;
+import com.fatec.back.domain.History.HistoryBatchResultDTO;
 import com.fatec.back.domain.History.HistoryDTO;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.RelationMP.RelationMP;
 import com.fatec.back.domain.User.User;
 import com.fatec.back.repository.HistoryRepository;
 import com.fatec.back.repository.RelationMPRepository;
 import com.fatec.back.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Serviço responsável pelas operações de negócio relacionadas ao histórico de medicação.
  * Esta classe contém métodos para manipulação de dados relacionados ao histórico de medicação,
  * incluindo a criação, atualização, exclusão e obtenção de registros de {@link History}.
  * 
  * O serviço interage diretamente com os repositórios de {@link History}, {@link RelationMP} e {@link User}
- * para realizar as operações de persistência.
+ * para realizar as operações de persistência. Sempre que um histórico é gravado, os consolidados de
+ * adesão dos dias afetados são atualizados pelo {@link AdherenceService}.
  * 
  * <p>Métodos principais:</p>
  * <ul>
- *     <li>{@code getAllHistories()} - Recupera todos os históricos de medicação cadastrados no sistema.</li>
+ *     <li>{@code getHistoryPage(PageQuery query)} - Recupera uma página de históricos de medicação, paginada por cursor.</li>
  *     <li>{@code getHistoryById(Long id)} - Recupera um histórico de medicação pelo ID.</li>
  *     <li>{@code createHistory(HistoryDTO dto)} - Cria um novo histórico de medicação com base nos dados fornecidos.</li>
+ *     <li>{@code referencesExist(HistoryDTO dto)} - Verifica se o usuário e a relação de um histórico existem.</li>
+ *     <li>{@code createHistories(List<HistoryDTO> dtos)} - Cria vários históricos de medicação em lote.</li>
  *     <li>{@code updateHistory(Long id, HistoryDTO updatedData)} - Atualiza os dados de um histórico de medicação existente.</li>
  *     <li>{@code deleteHistory(Long id, Long userId)} - Marca um histórico de medicação como deletado ou ativo novamente.</li>
  * </ul>
@@ -38,9 +51,13 @@ import com.fatec.back.repository.UserRepository;
  * @see HistoryRepository
  * @see RelationMPRepository
  * @see UserRepository
+ * @see AdherenceService
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "history" })
 public class HistoryService {
+    public static final int MAX_BATCH_SIZE = 1000;
+
     @Autowired
     private HistoryRepository historyRepository;
 
@@ -50,13 +67,20 @@ public class HistoryService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AdherenceService adherenceService;
+
     /**
-     * Recupera todos os históricos de medicação cadastrados no sistema.
+     * Recupera uma página de históricos de medicação, paginada pelo ID (keyset) e filtrada
+     * conforme os parâmetros informados.
      * 
-     * @return Lista de todos os históricos.
+     * @param query Parâmetros de paginação e filtros.
+     * @return A página de históricos de medicação e o cursor para a próxima página.
      */
-    public List<History> getAllHistories(){
-        return historyRepository.findAll();
+    public CursorPage<HistoryResponseDTO> getHistoryPage(PageQuery query) {
+        List<HistoryResponseDTO> rows = historyRepository.findPage(query.afterId(), query.deleted(),
+                query.createdFrom(), query.createdTo(), query.fetchLimit());
+        return CursorPage.of(rows, query, HistoryResponseDTO::id);
     }
 
     /**
@@ -65,8 +89,8 @@ public class HistoryService {
      * @param id ID do histórico de medicação a ser recuperado.
      * @return Um {@link Optional} contendo o histórico encontrado.
      */
-    public Optional<History> getHistoryById(Long id){
-        return historyRepository.findById(id);
+    public Optional<HistoryResponseDTO> getHistoryById(Long id) {
+        return historyRepository.findResponseById(id);
     }
 
     /**
@@ -75,19 +99,109 @@ public class HistoryService {
      * @param dto Dados de transferência (DTO) com as informações do histórico de medicação a ser criado.
      * @return O histórico recém-criado.
      */
+    @Transactional
     public History createHistory(HistoryDTO dto) {
         User user = userRepository.findById(dto.userId())
             .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-        RelationMP relationMP = relationMPRepository.findById(dto.userId())
-            .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+        RelationMP relationMP = relationMPRepository.findById(dto.relationMP())
+            .orElseThrow(() -> new RuntimeException("Relação não encontrada"));
         History history = new History();
         history.setTaked(dto.taked());
-        history.setUpdatedAt(dto.takedAt());
+        history.setTakedAt(dto.takedAt());
         history.setRelationMP(relationMP);
         history.setCreatedBy(user);
         history.setUpdatedBy(user);
 
-        return historyRepository.save(history);
+        History saved = historyRepository.save(history);
+        adherenceService.refresh(List.of(saved));
+        return saved;
+    }
+
+    /**
+     * Verifica se o usuário e a relação referenciados por um histórico existem, sem carregá-los.
+     *
+     * @param dto Dados do histórico, com {@code relationMP} e {@code userId} preenchidos.
+     * @return {@code true} se ambos existem.
+     */
+    public boolean referencesExist(HistoryDTO dto) {
+        return userRepository.existsById(dto.userId()) && relationMPRepository.existsById(dto.relationMP());
+    }
+
+    /**
+     * Cria vários históricos de medicação em lote.
+     * <p>
+     * Os usuários e as relações referenciados por todos os itens são verificados com uma única
+     * consulta {@code IN} cada, e os itens válidos são inseridos com inserts JDBC em lote, em uma
+     * única transação. Itens inválidos são recusados individualmente, sem impedir os demais.
+     * </p>
+     * 
+     * @param dtos Lista de DTOs com as informações dos históricos a serem criados.
+     * @return O resultado de cada item, na mesma ordem da lista recebida.
+     */
+    @Transactional
+    public List<HistoryBatchResultDTO> createHistories(List<HistoryDTO> dtos) {
+        return createHistories(dtos, null);
+    }
+
+    /**
+     * Cria vários históricos de medicação em uma única operação, gravando em cada um a chave do
+     * registro correspondente do journal de históricos ({@link HistoryJournal}).
+     *
+     * @param dtos Lista de DTOs com as informações dos históricos a serem criados.
+     * @param journalKeys Chaves dos registros do journal, na mesma ordem dos DTOs, ou {@code null}.
+     * @return O resultado de cada item, na mesma ordem da lista recebida.
+     * @see #createHistories(List)
+     */
+    @Transactional
+    public List<HistoryBatchResultDTO> createHistories(List<HistoryDTO> dtos, List<String> journalKeys) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> relationMPIds = new HashSet<>();
+        for (HistoryDTO dto : dtos) {
+            if (dto == null) {
+                continue;
+            }
+            if (dto.userId() != null) {
+                userIds.add(dto.userId());
+            }
+            if (dto.relationMP() != null) {
+                relationMPIds.add(dto.relationMP());
+            }
+        }
+        Set<Long> existingUsers = userIds.isEmpty() ? Set.of() : userRepository.findExistingIds(userIds);
+        Set<Long> existingRelations = relationMPIds.isEmpty() ? Set.of() : relationMPRepository.findExistingIds(relationMPIds);
+
+        HistoryBatchResultDTO[] results = new HistoryBatchResultDTO[dtos.size()];
+        List<Integer> accepted = new ArrayList<>();
+        List<History> histories = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            HistoryDTO dto = dtos.get(i);
+            if (dto == null || dto.taked() == null) {
+                results[i] = HistoryBatchResultDTO.rejected(i, "Campo taked obrigatório");
+            } else if (dto.userId() == null || !existingUsers.contains(dto.userId())) {
+                results[i] = HistoryBatchResultDTO.rejected(i, "Usuário não encontrado");
+            } else if (dto.relationMP() == null || !existingRelations.contains(dto.relationMP())) {
+                results[i] = HistoryBatchResultDTO.rejected(i, "Relação não encontrada");
+            } else {
+                User user = userRepository.getReferenceById(dto.userId());
+                History history = new History(dto.taked(), dto.takedAt());
+                history.setRelationMP(relationMPRepository.getReferenceById(dto.relationMP()));
+                history.setCreatedBy(user);
+                history.setUpdatedBy(user);
+                if (journalKeys != null) {
+                    history.setJournalKey(journalKeys.get(i));
+                }
+                histories.add(history);
+                accepted.add(i);
+            }
+        }
+
+        List<Long> ids = historyRepository.insertAll(histories);
+        adherenceService.refresh(histories);
+        for (int j = 0; j < accepted.size(); j++) {
+            int index = accepted.get(j);
+            results[index] = HistoryBatchResultDTO.created(index, ids.get(j));
+        }
+        return List.of(results);
     }
 
     /**
@@ -97,8 +211,11 @@ public class HistoryService {
      * @param updatedData Dados atualizados fornecidos no DTO.
      * @return O histórico atualizado, caso encontrado.
      */
+    @Transactional
     public Optional<History> updateHistory(Long id, HistoryDTO updatedData) {
     return historyRepository.findById(id).map(existing -> {
+        History previous = new History(existing.isTaked(), existing.getTakedAt());
+        previous.setRelationMP(existing.getRelationMP());
         if (updatedData.taked() != null) {
             existing.setTaked(updatedData.taked());
         }
@@ -116,7 +233,9 @@ public class HistoryService {
             existing.setUpdatedBy(updater);
         }
 
-        return historyRepository.save(existing);
+        History saved = historyRepository.save(existing);
+        adherenceService.refresh(List.of(previous, saved));
+        return saved;
     });
     }
 
@@ -127,6 +246,7 @@ public class HistoryService {
      * @param userId ID do usuário que está realizando a operação.
      * @return {@code true} se a operação foi bem-sucedida, {@code false} caso o histórico não seja encontrado.
      */
+    @Transactional
     public boolean deleteHistory(Long id, Long userId) {
         return historyRepository.findById(id).map(history -> {
             history.setDeleted(!history.isDeleted());
@@ -134,6 +254,7 @@ public class HistoryService {
                                     .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
             history.setUpdatedBy(updatedBy);
             historyRepository.save(history);
+            adherenceService.refresh(List.of(history));
             return true;
         }).orElse(false);
     }
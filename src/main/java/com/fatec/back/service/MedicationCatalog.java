@@ -0,0 +1,343 @@
+package com.fatec.back.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fatec.back.domain.Medication.MedicationResponseDTO;
+import com.fatec.back.domain.Pagination.PageQuery;
+import com.fatec.back.repository.MedicationRepository;
+
+/**
+ * Cópia em memória do catálogo de medicamentos, com um índice de busca por nome e função.
+ * <p>
+ * O catálogo é carregado do banco na primeira leitura (ou na inicialização da aplicação) e atualizado
+ * pelo {@link MedicationService} a cada criação, alteração ou exclusão lógica. Para incorporar as
+ * alterações feitas por outras instâncias, ele é recarregado periodicamente
+ * ({@code api.medication.catalog.refresh-interval}).
+ * </p>
+ *
+ * <p>
+ * Os dados ficam em um {@link Snapshot} imutável, substituído por inteiro a cada alteração, de forma
+ * que as leituras não usam locks. O índice de busca tem duas partes, ambas sobre o texto normalizado
+ * (minúsculo e sem acentos):
+ * </p>
+ * <ul>
+ *     <li>trigramas do nome e da função, para buscas com três ou mais caracteres em qualquer posição;</li>
+ *     <li>as palavras do nome e da função, ordenadas, para buscas por prefixo com um ou dois caracteres.</li>
+ * </ul>
+ * <p>
+ * Os resultados são ordenados pelo nome que começa com o termo, depois por uma palavra do nome que começa
+ * com o termo, depois pelo nome que contém o termo e, por fim, pela função, e em seguida pelo nome.
+ * Medicamentos excluídos não são retornados pela busca.
+ * </p>
+ *
+ * @see MedicationService
+ * @see MedicationResponseDTO
+ */
+@Component
+public class MedicationCatalog {
+    public static final int DEFAULT_SEARCH_LIMIT = 10;
+    public static final int MAX_SEARCH_LIMIT = 50;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Autowired
+    private MedicationRepository medicationRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Carrega o catálogo na inicialização da aplicação. A leitura do banco e a substituição do
+     * catálogo são feitas sob o mesmo lock de {@link #put}, para que uma gravação concorrente
+     * não seja descartada por uma leitura anterior a ela.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        replaceAll(medicationRepository.findAllResponses());
+    }
+
+    /**
+     * Recarrega o catálogo do banco, incorporando as alterações feitas por outras instâncias.
+     */
+    @Scheduled(fixedDelayString = "${api.medication.catalog.refresh-interval:PT5M}",
+               initialDelayString = "${api.medication.catalog.refresh-interval:PT5M}")
+    public void refresh() {
+        load();
+    }
+
+    /**
+     * Substitui todo o conteúdo do catálogo.
+     *
+     * @param medications Os medicamentos do catálogo.
+     */
+    public synchronized void replaceAll(Collection<MedicationResponseDTO> medications) {
+        snapshot = new Snapshot(medications);
+    }
+
+    /**
+     * Inclui ou substitui um medicamento no catálogo, após a sua gravação.
+     *
+     * @param medication Os dados do medicamento salvo.
+     */
+    public synchronized void put(MedicationResponseDTO medication) {
+        Snapshot current = current();
+        Map<Long, MedicationResponseDTO> medications = new LinkedHashMap<>();
+        for (MedicationResponseDTO existing : current.byId) {
+            medications.put(existing.id(), existing);
+        }
+        medications.put(medication.id(), medication);
+        snapshot = new Snapshot(medications.values());
+    }
+
+    /**
+     * Recupera um medicamento pelo ID.
+     *
+     * @param id ID do medicamento.
+     * @return Um {@link Optional} contendo o medicamento encontrado.
+     */
+    public Optional<MedicationResponseDTO> findById(Long id) {
+        Snapshot current = current();
+        int position = current.position(id);
+        return position >= 0 ? Optional.of(current.byId[position]) : Optional.empty();
+    }
+
+    /**
+     * Recupera uma página de medicamentos a partir do ID do cursor, aplicando os mesmos filtros
+     * da listagem paginada do banco.
+     *
+     * @param query Parâmetros de paginação e filtros.
+     * @return Até {@link PageQuery#fetchLimit()} medicamentos, ordenados pelo ID.
+     */
+    public List<MedicationResponseDTO> findPage(PageQuery query) {
+        Snapshot current = current();
+        int limit = query.fetchLimit().max();
+        int start = current.position(query.afterId());
+        start = start >= 0 ? start + 1 : -start - 1;
+
+        List<MedicationResponseDTO> rows = new ArrayList<>(limit);
+        for (int i = start; i < current.byId.length && rows.size() < limit; i++) {
+            MedicationResponseDTO medication = current.byId[i];
+            if ((query.deleted() == null || medication.deleted() == query.deleted())
+                    && (query.createdFrom() == null || !medication.createdAt().isBefore(query.createdFrom()))
+                    && (query.createdTo() == null || medication.createdAt().isBefore(query.createdTo()))) {
+                rows.add(medication);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Busca medicamentos não excluídos cujo nome ou função contenha o termo informado.
+     *
+     * @param term Termo de busca; com menos de três caracteres, é buscado como prefixo de palavra.
+     * @param limit Quantidade de resultados desejada, limitada a {@link #MAX_SEARCH_LIMIT}.
+     * @return Os medicamentos encontrados, do mais ao menos relevante.
+     */
+    public List<MedicationResponseDTO> search(String term, Integer limit) {
+        int size = (limit == null || limit < 1) ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        String query = term == null ? "" : normalize(term).strip();
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = current();
+        int[] candidates = query.length() >= 3 ? current.trigramCandidates(query) : current.prefixCandidates(query);
+
+        List<int[]> matches = new ArrayList<>();
+        for (int doc : candidates) {
+            if (current.byId[doc].deleted()) {
+                continue;
+            }
+            int rank = current.rank(doc, query);
+            if (rank >= 0) {
+                matches.add(new int[] { rank, doc });
+            }
+        }
+        matches.sort(Comparator.<int[]>comparingInt(match -> match[0])
+                .thenComparing(match -> current.names[match[1]]));
+
+        List<MedicationResponseDTO> results = new ArrayList<>(Math.min(size, matches.size()));
+        for (int i = 0; i < matches.size() && i < size; i++) {
+            results.add(current.byId[matches.get(i)[1]]);
+        }
+        return results;
+    }
+
+    /**
+     * Normaliza o texto para a busca: remove os acentos e converte para minúsculas.
+     *
+     * @param text O texto original.
+     * @return O texto normalizado, ou uma string vazia para {@code null}.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Retorna o catálogo atual, carregando-o do banco na primeira leitura.
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    load();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Estado imutável do catálogo e do seu índice de busca. Os medicamentos são identificados
+     * pela sua posição em {@code byId}.
+     */
+    private static final class Snapshot {
+        private final MedicationResponseDTO[] byId;
+        private final long[] ids;
+        private final String[] names;
+        private final String[] functions;
+        private final Map<String, int[]> trigrams;
+        private final String[] words;
+        private final int[] wordDocs;
+
+        private Snapshot(Collection<MedicationResponseDTO> medications) {
+            byId = medications.toArray(MedicationResponseDTO[]::new);
+            Arrays.sort(byId, Comparator.comparing(MedicationResponseDTO::id));
+            ids = new long[byId.length];
+            names = new String[byId.length];
+            functions = new String[byId.length];
+
+            Map<String, BitSet> trigramDocs = new HashMap<>();
+            List<Map.Entry<String, Integer>> wordEntries = new ArrayList<>();
+            for (int doc = 0; doc < byId.length; doc++) {
+                ids[doc] = byId[doc].id();
+                names[doc] = normalize(byId[doc].name());
+                functions[doc] = normalize(byId[doc].medicationFunction());
+                for (String text : new String[] { names[doc], functions[doc] }) {
+                    for (int i = 0; i + 3 <= text.length(); i++) {
+                        trigramDocs.computeIfAbsent(text.substring(i, i + 3), key -> new BitSet()).set(doc);
+                    }
+                    for (String word : WORD_SEPARATOR.split(text)) {
+                        if (!word.isEmpty()) {
+                            wordEntries.add(Map.entry(word, doc));
+                        }
+                    }
+                }
+            }
+
+            trigrams = new HashMap<>(trigramDocs.size() * 2);
+            trigramDocs.forEach((trigram, docs) -> trigrams.put(trigram, docs.stream().toArray()));
+
+            wordEntries.sort(Map.Entry.comparingByKey());
+            words = new String[wordEntries.size()];
+            wordDocs = new int[wordEntries.size()];
+            for (int i = 0; i < wordEntries.size(); i++) {
+                words[i] = wordEntries.get(i).getKey();
+                wordDocs[i] = wordEntries.get(i).getValue();
+            }
+        }
+
+        /**
+         * Retorna a posição do ID em {@code byId}, ou {@code -(ponto de inserção) - 1} se não existir.
+         */
+        private int position(long id) {
+            return Arrays.binarySearch(ids, id);
+        }
+
+        /**
+         * Intersecta as listas de medicamentos de todos os trigramas do termo.
+         */
+        private int[] trigramCandidates(String query) {
+            int[] candidates = null;
+            for (int i = 0; i + 3 <= query.length(); i++) {
+                int[] docs = trigrams.get(query.substring(i, i + 3));
+                if (docs == null) {
+                    return new int[0];
+                }
+                candidates = candidates == null ? docs : intersect(candidates, docs);
+                if (candidates.length == 0) {
+                    break;
+                }
+            }
+            return candidates;
+        }
+
+        /**
+         * Busca, por pesquisa binária, os medicamentos com alguma palavra que começa com o termo.
+         */
+        private int[] prefixCandidates(String query) {
+            int first = Arrays.binarySearch(words, query);
+            first = first >= 0 ? first : -first - 1;
+            while (first > 0 && words[first - 1].startsWith(query)) {
+                first--;
+            }
+            BitSet docs = new BitSet(byId.length);
+            for (int i = first; i < words.length && words[i].startsWith(query); i++) {
+                docs.set(wordDocs[i]);
+            }
+            return docs.stream().toArray();
+        }
+
+        /**
+         * Classifica a correspondência do medicamento com o termo; quanto menor, mais relevante.
+         *
+         * @return A classificação, ou {@code -1} se o medicamento não corresponder ao termo.
+         */
+        private int rank(int doc, String query) {
+            String name = names[doc];
+            if (name.startsWith(query)) {
+                return 0;
+            }
+            int index = name.indexOf(query);
+            if (index < 0) {
+                return functions[doc].contains(query) ? 3 : -1;
+            }
+            for (; index > 0; index = name.indexOf(query, index + 1)) {
+                if (!Character.isLetterOrDigit(name.charAt(index - 1))) {
+                    return 1;
+                }
+            }
+            return 2;
+        }
+
+        private static int[] intersect(int[] left, int[] right) {
+            int[] result = new int[Math.min(left.length, right.length)];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < left.length && j < right.length) {
+                if (left[i] < right[j]) {
+                    i++;
+                } else if (left[i] > right[j]) {
+                    j++;
+                } else {
+                    result[size++] = left[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+    }
+}
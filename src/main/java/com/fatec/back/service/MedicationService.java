@@ -7,23 +7,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.fatec.back.domain.Medication.Medication;
+import com.fatec.back.domain.Medication.MedicationResponseDTO;
 import com.fatec.back.domain.Medication.MedicationDTO;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.User.User;
 import com.fatec.back.repository.MedicationRepository;
 import com.fatec.back.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Serviço responsável pelas operações de negócio relacionadas à medicação. 
  * Esta classe contém métodos para manipulação de dados relacionados à medicação, 
  * incluindo a criação, atualização, exclusão e obtenção de registros de {@link Medication}.
  * 
  * O serviço interage diretamente com os repositórios de {@link Medication} e {@link User} 
- * para realizar as operações de persistência.
+ * para realizar as operações de persistência. As leituras são atendidas pelo {@link MedicationCatalog},
+ * que é atualizado a cada gravação.
  * 
  * <p>Métodos principais:</p>
  * <ul>
- *     <li>{@code getAllMedications()} - Recupera todas as medicações cadastradas no sistema.</li>
+ *     <li>{@code getMedicationPage(PageQuery query)} - Recupera uma página de medicações, paginada por cursor.</li>
  *     <li>{@code getMedicationById(Long id)} - Recupera uma medicação pelo ID.</li>
+ *     <li>{@code searchMedications(String term, Integer limit)} - Busca medicações pelo nome ou pela função.</li>
  *     <li>{@code createMedication(MedicationDTO dto)} - Cria uma nova medicação com base nos dados fornecidos.</li>
  *     <li>{@code updateMedication(Long id, MedicationDTO updatedData)} - Atualiza os dados de uma medicação existente.</li>
  *     <li>{@code deleteMedication(Long id, Long userId)} - Marca uma medicação como deletada ou ativa novamente.</li>
@@ -33,8 +40,10 @@ import com.fatec.back.repository.UserRepository;
  * @see MedicationDTO
  * @see MedicationRepository
  * @see UserRepository
+ * @see MedicationCatalog
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "medication" })
 public class MedicationService {
     @Autowired
     private MedicationRepository medicationRepository;
@@ -42,13 +51,19 @@ public class MedicationService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MedicationCatalog medicationCatalog;
+
     /**
-     * Recupera todas as medicações cadastradas no sistema.
+     * Recupera uma página de medicações, paginada pelo ID (keyset) e filtrada
+     * conforme os parâmetros informados.
      * 
-     * @return Lista de todas as medicações.
+     * @param query Parâmetros de paginação e filtros.
+     * @return A página de medicações e o cursor para a próxima página.
      */
-    public List<Medication> getAllMedications(){
-        return medicationRepository.findAll();
+    public CursorPage<MedicationResponseDTO> getMedicationPage(PageQuery query) {
+        List<MedicationResponseDTO> rows = medicationCatalog.findPage(query);
+        return CursorPage.of(rows, query, MedicationResponseDTO::id);
     }
 
     /**
@@ -57,8 +72,19 @@ public class MedicationService {
      * @param id ID da medicação a ser recuperada.
      * @return Um {@link Optional} contendo a medicação encontrada.
      */
-    public Optional<Medication> getMedicationById(Long id){
-        return medicationRepository.findById(id);
+    public Optional<MedicationResponseDTO> getMedicationById(Long id) {
+        return medicationCatalog.findById(id);
+    }
+
+    /**
+     * Busca medicações não excluídas pelo nome ou pela função, para o preenchimento automático.
+     * 
+     * @param term Termo de busca.
+     * @param limit Quantidade de resultados desejada.
+     * @return As medicações encontradas, da mais à menos relevante.
+     */
+    public List<MedicationResponseDTO> searchMedications(String term, Integer limit) {
+        return medicationCatalog.search(term, limit);
     }
 
      /**
@@ -76,7 +102,9 @@ public class MedicationService {
         medication.setCreatedBy(user);
         medication.setUpdatedBy(user);
 
-        return medicationRepository.save(medication);
+        Medication saved = medicationRepository.save(medication);
+        medicationCatalog.put(MedicationResponseDTO.from(saved));
+        return saved;
     }
 
     /**
@@ -100,7 +128,9 @@ public class MedicationService {
             existing.setUpdatedBy(updater);
         }
 
-        return medicationRepository.save(existing);
+        Medication saved = medicationRepository.save(existing);
+        medicationCatalog.put(MedicationResponseDTO.from(saved));
+        return saved;
     });
     }
 
@@ -117,7 +147,8 @@ public class MedicationService {
             User updatedBy = userRepository.findById(userId)
                                     .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
             medication.setUpdatedBy(updatedBy);
-            medicationRepository.save(medication);
+            Medication saved = medicationRepository.save(medication);
+            medicationCatalog.put(MedicationResponseDTO.from(saved));
             return true;
         }).orElse(false);
     }
@@ -0,0 +1,64 @@
+package com.fatec.back.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tarefa periódica de detecção das doses perdidas.
+ * <p>
+ * A cada {@code api.missed-dose.interval}, processa os horários de dose vencidos desde a execução anterior
+ * pelo {@link MissedDoseService#detectNext}, em blocos de até {@code api.missed-dose.chunk-size} horários, cada
+ * um na sua própria transação, até alcançar o limite de {@code api.missed-dose.grace} antes do momento atual.
+ * Em caso de falha, a execução é interrompida e continua da última posição gravada na execução seguinte.
+ * </p>
+ *
+ * <p>Métricas publicadas:</p>
+ * <ul>
+ *     <li>{@code missed_dose.examined} - Quantidade de horários de dose examinados.</li>
+ * </ul>
+ *
+ * @see MissedDoseService
+ */
+@Component
+public class MissedDoseDetector {
+    private static final Logger log = LoggerFactory.getLogger(MissedDoseDetector.class);
+
+    private final MissedDoseService missedDoseService;
+    private final int chunkSize;
+    private final Counter examined;
+
+    public MissedDoseDetector(MissedDoseService missedDoseService,
+                              MeterRegistry meterRegistry,
+                              @Value("${api.missed-dose.chunk-size:500}") int chunkSize) {
+        this.missedDoseService = missedDoseService;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.examined = Counter.builder("missed_dose.examined")
+                .description("Quantidade de horários de dose examinados pela detecção de doses perdidas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Processa todos os horários de dose vencidos desde a execução anterior.
+     */
+    @Scheduled(fixedDelayString = "${api.missed-dose.interval:PT1M}", initialDelayString = "${api.missed-dose.interval:PT1M}")
+    public void detect() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int count;
+            do {
+                count = missedDoseService.detectNext(now, chunkSize);
+                examined.increment(count);
+            } while (count == chunkSize);
+        } catch (RuntimeException e) {
+            log.warn("Falha na detecção de doses perdidas; repetindo na próxima execução: {}", e.getMessage());
+        }
+    }
+}
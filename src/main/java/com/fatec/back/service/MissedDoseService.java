@@ -0,0 +1,174 @@
+package com.fatec.back.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+import com.fatec.back.domain.JobWatermark.JobWatermark;
+import com.fatec.back.domain.MissedDose.MissedDose;
+import com.fatec.back.domain.MissedDose.MissedDoseResponseDTO;
+import com.fatec.back.repository.DoseSlotRepository;
+import com.fatec.back.repository.HistoryRepository;
+import com.fatec.back.repository.JobWatermarkRepository;
+import com.fatec.back.repository.MissedDoseRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Serviço responsável pela detecção e consulta das doses perdidas ({@link MissedDose}).
+ * <p>
+ * Uma dose é perdida quando o seu horário ({@link DoseSlot}) vence há mais de {@code api.missed-dose.grace}
+ * sem nenhum histórico com {@code taked = true} da prescrição entre {@code grace} antes e {@code grace} depois
+ * do horário previsto. Os horários são percorridos a partir da posição guardada em {@link JobWatermark}, em
+ * blocos de tamanho limitado: cada bloco é uma transação curta que lê os horários pelo índice {@code (due_at)},
+ * verifica as tomadas de todo o bloco em uma única consulta ao histórico, grava as doses perdidas e avança a
+ * posição. Assim, cada execução examina apenas os horários vencidos desde a anterior, sem percorrer as
+ * prescrições ou o histórico inteiros.
+ * </p>
+ *
+ * <p>
+ * As doses gravadas são lidas da tabela, em ordem de ID, pelos streams de lembretes ({@link DoseReminderService})
+ * de todas as instâncias, que avisam os pacientes e os cuidadores vinculados. Como os blocos são serializados pelo
+ * bloqueio da posição, os IDs gravados por um bloco são sempre maiores que os dos blocos já confirmados.
+ * Os cuidadores também consultam as doses perdidas dos seus pacientes pelos vínculos ({@code Have}) ativos.
+ * </p>
+ *
+ * <p>Métodos principais:</p>
+ * <ul>
+ *     <li>{@code detectNext(LocalDateTime until, int chunkSize)} - Processa o próximo bloco de horários vencidos.</li>
+ *     <li>{@code getByPatient(Long patientId, LocalDateTime since, Integer limit)} - Recupera as doses perdidas de um paciente.</li>
+ *     <li>{@code getByCaregiver(Long caregiverId, LocalDateTime since, Integer limit)} - Recupera as doses perdidas dos pacientes de um cuidador.</li>
+ * </ul>
+ *
+ * @see MissedDose
+ * @see MissedDoseDetector
+ */
+@Service
+@Timed(value = "app.service", extraTags = { "entity", "missed_dose" })
+public class MissedDoseService {
+    public static final String WATERMARK = "missed-dose";
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private DoseSlotRepository doseSlotRepository;
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    @Autowired
+    private MissedDoseRepository missedDoseRepository;
+
+    @Autowired
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Value("${api.missed-dose.grace:PT30M}")
+    private Duration grace;
+
+    @Value("${api.missed-dose.backfill:P1D}")
+    private Duration backfill;
+
+    /**
+     * Processa o próximo bloco de horários vencidos após a posição da detecção. A linha da posição fica
+     * bloqueada até o fim da transação, de forma que instâncias concorrentes processam blocos diferentes.
+     * Na primeira execução, a posição começa {@code api.missed-dose.backfill} antes do limite.
+     *
+     * @param now Data/hora de referência; são examinados os horários vencidos até {@code now - grace}.
+     * @param chunkSize Quantidade máxima de horários examinados.
+     * @return A quantidade de horários examinados; menor que {@code chunkSize} quando não há mais horários.
+     */
+    @Transactional
+    public int detectNext(LocalDateTime now, int chunkSize) {
+        LocalDateTime until = now.minus(grace);
+        JobWatermark watermark = jobWatermarkRepository.findForUpdate(WATERMARK)
+                .orElseGet(() -> jobWatermarkRepository.save(new JobWatermark(WATERMARK, until.minus(backfill))));
+
+        List<DoseSlot> slots = doseSlotRepository.findDueAfter(watermark.getLastDueAt(), watermark.getLastId(),
+                until, Limit.of(chunkSize));
+        if (slots.isEmpty()) {
+            return 0;
+        }
+
+        List<MissedDose> missed = new ArrayList<>();
+        for (DoseSlot slot : notTaken(slots)) {
+            missed.add(new MissedDose(slot));
+        }
+        missedDoseRepository.saveAll(missed);
+
+        DoseSlot last = slots.get(slots.size() - 1);
+        watermark.setLastDueAt(last.getDueAt());
+        watermark.setLastId(last.getId());
+        return slots.size();
+    }
+
+    /**
+     * Filtra os horários sem histórico de tomada entre {@code grace} antes e {@code grace} depois do horário
+     * previsto, com uma única consulta ao histórico para todo o bloco.
+     */
+    private List<DoseSlot> notTaken(List<DoseSlot> slots) {
+        Set<Long> relationIds = new HashSet<>();
+        for (DoseSlot slot : slots) {
+            relationIds.add(slot.getRelationMPId());
+        }
+        LocalDateTime from = slots.get(0).getDueAt().minus(grace);
+        LocalDateTime to = slots.get(slots.size() - 1).getDueAt().plus(grace);
+
+        Map<Long, List<LocalDateTime>> taken = new HashMap<>();
+        for (Object[] row : historyRepository.findTakenAt(relationIds, from, to)) {
+            taken.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((LocalDateTime) row[1]);
+        }
+
+        List<DoseSlot> missed = new ArrayList<>();
+        for (DoseSlot slot : slots) {
+            LocalDateTime start = slot.getDueAt().minus(grace);
+            LocalDateTime end = slot.getDueAt().plus(grace);
+            boolean wasTaken = taken.getOrDefault(slot.getRelationMPId(), List.of()).stream()
+                    .anyMatch(takedAt -> !takedAt.isBefore(start) && takedAt.isBefore(end));
+            if (!wasTaken) {
+                missed.add(slot);
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * Recupera as doses perdidas de um paciente a partir da data/hora informada.
+     *
+     * @param patientId ID do paciente.
+     * @param since Data/hora mínima das doses (inclusiva).
+     * @param limit Quantidade de doses desejada, limitada a {@link #MAX_LIMIT}.
+     * @return As doses perdidas, da mais recente para a mais antiga.
+     */
+    public List<MissedDoseResponseDTO> getByPatient(Long patientId, LocalDateTime since, Integer limit) {
+        return missedDoseRepository.findByPatient(patientId, since, Limit.of(size(limit)));
+    }
+
+    /**
+     * Recupera as doses perdidas dos pacientes com vínculo ativo com o cuidador, a partir da data/hora informada.
+     *
+     * @param caregiverId ID do cuidador.
+     * @param since Data/hora mínima das doses (inclusiva).
+     * @param limit Quantidade de doses desejada, limitada a {@link #MAX_LIMIT}.
+     * @return As doses perdidas, da mais recente para a mais antiga.
+     */
+    public List<MissedDoseResponseDTO> getByCaregiver(Long caregiverId, LocalDateTime since, Integer limit) {
+        return missedDoseRepository.findByCaregiver(caregiverId, LocalDate.now(), since, Limit.of(size(limit)));
+    }
+
+    private static int size(Integer limit) {
+        return (limit == null || limit < 1) ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+}
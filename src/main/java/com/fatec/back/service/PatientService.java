@@ -6,12 +6,17 @@ import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.Patient.Patient;
+import com.fatec.back.domain.Patient.PatientResponseDTO;
 import com.fatec.back.domain.Patient.PatientDTO;
 import com.fatec.back.domain.User.User;
 import com.fatec.back.repository.PatientRepository;
 import com.fatec.back.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Serviço responsável pelas operações de negócio relacionadas aos pacientes. 
  * Esta classe contém métodos para manipulação de dados relacionados a pacientes, 
@@ -22,7 +27,7 @@ import com.fatec.back.repository.UserRepository;
  * 
  * <p>Métodos principais:</p>
  * <ul>
- *     <li>{@code getAllPatients()} - Recupera todos os pacientes cadastrados no sistema.</li>
+ *     <li>{@code getPatientPage(PageQuery query)} - Recupera uma página de pacientes, paginada por cursor.</li>
  *     <li>{@code getPatientById(Long id)} - Recupera um paciente pelo ID.</li>
  *     <li>{@code createPatient(PatientDTO dto)} - Cria um novo paciente com base nos dados fornecidos.</li>
  *     <li>{@code updatePatient(Long id, PatientDTO updatedData)} - Atualiza os dados de um paciente existente.</li>
@@ -35,6 +40,7 @@ import com.fatec.back.repository.UserRepository;
  * @see UserRepository
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "patient" })
 public class PatientService {
     @Autowired
     private PatientRepository patientRepository;
@@ -42,13 +48,17 @@ public class PatientService {
     @Autowired
     private UserRepository userRepository;
 
-     /**
-     * Recupera todos os pacientes cadastrados no sistema.
+    /**
+     * Recupera uma página de pacientes, paginada pelo ID (keyset) e filtrada
+     * conforme os parâmetros informados.
      * 
-     * @return Lista de todos os pacientes.
+     * @param query Parâmetros de paginação e filtros.
+     * @return A página de pacientes e o cursor para a próxima página.
      */
-    public List<Patient> getAllPatients(){
-        return patientRepository.findAll();
+    public CursorPage<PatientResponseDTO> getPatientPage(PageQuery query) {
+        List<PatientResponseDTO> rows = patientRepository.findPage(query.afterId(), query.deleted(),
+                query.createdFrom(), query.createdTo(), query.fetchLimit());
+        return CursorPage.of(rows, query, PatientResponseDTO::id);
     }
 
     /**
@@ -57,8 +67,8 @@ public class PatientService {
      * @param id ID do paciente a ser recuperado.
      * @return Um {@link Optional} contendo o paciente encontrado.
      */
-    public Optional<Patient> getPatientById(Long id){
-        return patientRepository.findById(id);
+    public Optional<PatientResponseDTO> getPatientById(Long id) {
+        return patientRepository.findResponseById(id);
     }
 
     /**
@@ -70,7 +80,6 @@ public class PatientService {
     public Patient createPatient(PatientDTO dto) {
         User user = userRepository.findById(dto.userId())
             .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-        System.out.println(user);
         Patient patient = new Patient();
         patient.setBirthday(dto.birthday());
         patient.setPatientCondition(dto.patientCondition());
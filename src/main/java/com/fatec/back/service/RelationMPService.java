@@ -1,23 +1,42 @@
 package com.fatec.back.service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.time.Duration;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fatec.back.domain.Medication.Medication;
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.Patient.Patient;
 import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.domain.RelationMP.RelationMP.FrequencyUnit;
+import com.fatec.back.domain.RelationMP.RelationMPResponseDTO;
 import com.fatec.back.domain.RelationMP.RelationMPDTO;
+import com.fatec.back.domain.RelationMP.RelationMPImportResultDTO;
 import com.fatec.back.domain.User.User;
 import com.fatec.back.repository.MedicationRepository;
 import com.fatec.back.repository.PatientRepository;
 import com.fatec.back.repository.RelationMPRepository;
 import com.fatec.back.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Serviço responsável pelas operações de negócio relacionadas à relação entre 
  * medicamentos e pacientes. Esta classe contém métodos para manipulação de dados 
@@ -26,15 +45,20 @@ import com.fatec.back.repository.UserRepository;
  * 
  * O serviço interage diretamente com os repositórios de {@link RelationMP}, 
  * {@link User}, {@link Patient} e {@link Medication} para realizar as operações 
- * de persistência.
+ * de persistência. Sempre que uma relação é criada, alterada ou excluída, os horários
+ * de dose são recalculados pelo {@link DoseScheduleService}; quando é alterada ou excluída,
+ * os consolidados de adesão são recalculados pelo {@link AdherenceService}.
  * 
  * <p>Métodos principais:</p>
  * <ul>
- *     <li>{@code getAllRelationMPs()} - Recupera todas as relações entre medicamentos e pacientes.</li>
+ *     <li>{@code getRelationMPPage(PageQuery query)} - Recupera uma página de relações entre medicamentos e pacientes, paginada por cursor.</li>
  *     <li>{@code getRelationMPById(Long id)} - Recupera uma relação entre medicamento e paciente pelo ID.</li>
  *     <li>{@code createRelationMP(RelationMPDTO dto)} - Cria uma nova relação entre medicamento e paciente.</li>
+ *     <li>{@code importRelationMPs(List<RelationMPDTO> dtos)} - Importa várias relações em lote, de forma atômica.</li>
+ *     <li>{@code importRelationMPsCsv(Reader csv)} - Importa relações a partir de um arquivo CSV.</li>
  *     <li>{@code updateRelationMP(Long id, RelationMPDTO updatedData)} - Atualiza os dados de uma relação existente.</li>
  *     <li>{@code deleteRelationMP(Long id, Long userId)} - Marca uma relação como deletada ou ativa novamente.</li>
+ *     <li>{@code totalDosage(...)} - Calcula a quantidade total de doses de uma prescrição.</li>
  * </ul>
  * 
  * @see RelationMP
@@ -42,9 +66,16 @@ import com.fatec.back.repository.UserRepository;
  * @see MedicationRepository
  * @see PatientRepository
  * @see UserRepository
+ * @see DoseScheduleService
+ * @see AdherenceService
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "relation_mp" })
 public class RelationMPService {
+    public static final int MAX_IMPORT_SIZE = 1000;
+    private static final List<String> CSV_COLUMNS = List.of("dosage", "frequencyValue", "frequencyUnit", "medication",
+            "patient", "startDate", "endDate", "userId");
+
     @Autowired
     private RelationMPRepository relationMPRepository;
 
@@ -57,13 +88,23 @@ public class RelationMPService {
     @Autowired
     private MedicationRepository medicationRepository;
 
+    @Autowired
+    private DoseScheduleService doseScheduleService;
+
+    @Autowired
+    private AdherenceService adherenceService;
+
     /**
-     * Recupera todas as relações entre medicamentos e pacientes cadastradas no sistema.
+     * Recupera uma página de relações entre medicamentos e pacientes, paginada pelo ID (keyset) e filtrada
+     * conforme os parâmetros informados.
      * 
-     * @return Lista de todas as relações entre medicamentos e pacientes.
+     * @param query Parâmetros de paginação e filtros.
+     * @return A página de relações entre medicamentos e pacientes e o cursor para a próxima página.
      */
-    public List<RelationMP> getAllRelationMPs(){
-        return relationMPRepository.findAll();
+    public CursorPage<RelationMPResponseDTO> getRelationMPPage(PageQuery query) {
+        List<RelationMPResponseDTO> rows = relationMPRepository.findPage(query.afterId(), query.deleted(),
+                query.createdFrom(), query.createdTo(), query.fetchLimit());
+        return CursorPage.of(rows, query, RelationMPResponseDTO::id);
     }
 
      /**
@@ -72,8 +113,8 @@ public class RelationMPService {
      * @param id ID da relação a ser recuperada.
      * @return Um {@link Optional} contendo a relação encontrada.
      */
-    public Optional<RelationMP> getRelationMPById(Long id){
-        return relationMPRepository.findById(id);
+    public Optional<RelationMPResponseDTO> getRelationMPById(Long id) {
+        return relationMPRepository.findResponseById(id);
     }
 
     /**
@@ -91,13 +132,7 @@ public class RelationMPService {
             .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
         RelationMP relationMP = new RelationMP();
 
-        long totalUnits = switch (dto.frequencyUnit()) {
-        case HOURS -> Duration.between(dto.startDate().atStartOfDay(), dto.endDate().plusDays(1).atStartOfDay()).toHours() / dto.frequencyValue();
-        case DAYS -> ChronoUnit.DAYS.between(dto.startDate(), dto.endDate().plusDays(1)) / dto.frequencyValue();
-        case WEEKS -> ChronoUnit.WEEKS.between(dto.startDate(), dto.endDate().plusDays(1)) / dto.frequencyValue();
-        };
-
-        int totalDosage = (int) totalUnits * dto.dosage();
+        int totalDosage = totalDosage(dto.startDate(), dto.endDate(), dto.frequencyUnit(), dto.frequencyValue(), dto.dosage());
         relationMP.setStartDate(dto.startDate());
         relationMP.setEndDate(dto.endDate());
         relationMP.setDosage(dto.dosage());
@@ -109,7 +144,228 @@ public class RelationMPService {
         relationMP.setUpdatedBy(user);
         relationMP.setTotalDosage(totalDosage);
 
-        return relationMPRepository.save(relationMP);
+        RelationMP saved = relationMPRepository.save(relationMP);
+        doseScheduleService.reschedule(saved);
+        return saved;
+    }
+
+    /**
+     * Importa várias relações entre medicamento e paciente em lote, como na implantação de uma instituição.
+     * <p>
+     * Todos os itens são validados antes de qualquer gravação: os usuários, pacientes e medicamentos referenciados
+     * são verificados com uma única consulta {@code IN} cada, e a quantidade total de doses é calculada para cada
+     * item. Se algum item for inválido, nenhuma relação é criada e o resultado indica o erro de cada item; caso
+     * contrário, as relações são inseridas com inserts JDBC em lote e os horários de dose são materializados,
+     * em uma única transação.
+     * </p>
+     *
+     * @param dtos Lista de DTOs com as informações das relações a serem criadas.
+     * @return O resultado de cada item, na mesma ordem da lista recebida.
+     */
+    @Transactional
+    public List<RelationMPImportResultDTO> importRelationMPs(List<RelationMPDTO> dtos) {
+        return importAll(dtos, new String[dtos.size()]);
+    }
+
+    /**
+     * Importa relações entre medicamento e paciente a partir de um arquivo CSV, com as mesmas regras de
+     * {@link #importRelationMPs(List)}.
+     * <p>
+     * A primeira linha é o cabeçalho, com as colunas {@code dosage}, {@code frequencyValue}, {@code frequencyUnit},
+     * {@code medication}, {@code patient}, {@code startDate}, {@code endDate} e {@code userId}, em qualquer ordem.
+     * Linhas em branco são ignoradas, e a posição de cada resultado é a da linha de dados, a partir de zero.
+     * </p>
+     *
+     * @param csv Conteúdo do arquivo CSV.
+     * @return O resultado de cada linha de dados.
+     * @throws IOException Se a leitura do conteúdo falhar.
+     * @throws IllegalArgumentException Se o cabeçalho não tiver as colunas obrigatórias ou o arquivo
+     *         exceder {@link #MAX_IMPORT_SIZE} linhas de dados.
+     */
+    @Transactional
+    public List<RelationMPImportResultDTO> importRelationMPsCsv(Reader csv) throws IOException {
+        BufferedReader reader = new BufferedReader(csv);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("Arquivo CSV vazio");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        String[] names = header.replace("\uFEFF", "").split(",", -1);
+        for (int i = 0; i < names.length; i++) {
+            columns.put(names[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = CSV_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column.toLowerCase(Locale.ROOT)))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Colunas obrigatórias ausentes no CSV: " + String.join(", ", missing));
+        }
+
+        List<RelationMPDTO> dtos = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (dtos.size() == MAX_IMPORT_SIZE) {
+                throw new IllegalArgumentException("O arquivo CSV excede " + MAX_IMPORT_SIZE + " linhas");
+            }
+            String[] cells = line.split(",", -1);
+            try {
+                dtos.add(new RelationMPDTO(
+                        parseInteger(cell(cells, columns, "dosage")),
+                        parseInteger(cell(cells, columns, "frequencyValue")),
+                        parseFrequencyUnit(cell(cells, columns, "frequencyUnit")),
+                        parseLong(cell(cells, columns, "medication")),
+                        parseLong(cell(cells, columns, "patient")),
+                        parseDate(cell(cells, columns, "startDate")),
+                        parseDate(cell(cells, columns, "endDate")),
+                        parseLong(cell(cells, columns, "userId"))));
+                errors.add(null);
+            } catch (RuntimeException e) {
+                dtos.add(null);
+                errors.add("Valor inválido: " + e.getMessage());
+            }
+        }
+        return importAll(dtos, errors.toArray(String[]::new));
+    }
+
+    /**
+     * Valida todos os itens e, se nenhum for recusado, insere as relações em lote.
+     *
+     * @param dtos Itens a serem importados.
+     * @param errors Erros de leitura já encontrados, por posição ({@code null} para os itens lidos com sucesso).
+     */
+    private List<RelationMPImportResultDTO> importAll(List<RelationMPDTO> dtos, String[] errors) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> patientIds = new HashSet<>();
+        Set<Long> medicationIds = new HashSet<>();
+        for (RelationMPDTO dto : dtos) {
+            if (dto == null) {
+                continue;
+            }
+            if (dto.userId() != null) {
+                userIds.add(dto.userId());
+            }
+            if (dto.patient() != null) {
+                patientIds.add(dto.patient());
+            }
+            if (dto.medication() != null) {
+                medicationIds.add(dto.medication());
+            }
+        }
+        Set<Long> existingUsers = userIds.isEmpty() ? Set.of() : userRepository.findExistingIds(userIds);
+        Set<Long> existingPatients = patientIds.isEmpty() ? Set.of() : patientRepository.findExistingIds(patientIds);
+        Set<Long> existingMedications = medicationIds.isEmpty() ? Set.of() : medicationRepository.findExistingIds(medicationIds);
+
+        List<RelationMP> relations = new ArrayList<>(dtos.size());
+        boolean rejected = false;
+        for (int i = 0; i < dtos.size(); i++) {
+            RelationMPDTO dto = dtos.get(i);
+            if (errors[i] == null) {
+                errors[i] = validate(dto, existingUsers, existingPatients, existingMedications);
+            }
+            if (errors[i] != null) {
+                rejected = true;
+                continue;
+            }
+            if (rejected) {
+                continue;
+            }
+            User user = userRepository.getReferenceById(dto.userId());
+            RelationMP relationMP = new RelationMP();
+            relationMP.setDosage(dto.dosage());
+            relationMP.setFrequencyValue(dto.frequencyValue());
+            relationMP.setFrequencyUnit(dto.frequencyUnit());
+            relationMP.setTotalDosage(totalDosage(dto.startDate(), dto.endDate(), dto.frequencyUnit(),
+                    dto.frequencyValue(), dto.dosage()));
+            relationMP.setMedication(medicationRepository.getReferenceById(dto.medication()));
+            relationMP.setPatient(patientRepository.getReferenceById(dto.patient()));
+            relationMP.setStartDate(dto.startDate());
+            relationMP.setEndDate(dto.endDate());
+            relationMP.setCreatedBy(user);
+            relationMP.setUpdatedBy(user);
+            relations.add(relationMP);
+        }
+
+        List<RelationMPImportResultDTO> results = new ArrayList<>(dtos.size());
+        if (rejected) {
+            for (int i = 0; i < dtos.size(); i++) {
+                results.add(errors[i] != null ? RelationMPImportResultDTO.rejected(i, errors[i])
+                        : RelationMPImportResultDTO.valid(i));
+            }
+            return results;
+        }
+
+        List<Long> ids = relationMPRepository.insertAll(relations);
+        for (int i = 0; i < relations.size(); i++) {
+            relations.get(i).setId(ids.get(i));
+            results.add(RelationMPImportResultDTO.created(i, ids.get(i)));
+        }
+        doseScheduleService.scheduleAll(relations);
+        return results;
+    }
+
+    /**
+     * Retorna o motivo da recusa de um item da importação, ou {@code null} se o item for válido.
+     */
+    private static String validate(RelationMPDTO dto, Set<Long> existingUsers, Set<Long> existingPatients,
+                                   Set<Long> existingMedications) {
+        if (dto == null) {
+            return "Item vazio";
+        }
+        if (dto.dosage() == null || dto.frequencyValue() == null || dto.frequencyUnit() == null
+                || dto.startDate() == null || dto.endDate() == null) {
+            return "Campos dosage, frequencyValue, frequencyUnit, startDate e endDate obrigatórios";
+        }
+        if (dto.dosage() < 1 || dto.frequencyValue() < 1) {
+            return "Campos dosage e frequencyValue devem ser maiores que zero";
+        }
+        if (dto.endDate().isBefore(dto.startDate())) {
+            return "Campo endDate anterior a startDate";
+        }
+        if (dto.userId() == null || !existingUsers.contains(dto.userId())) {
+            return "Usuário não encontrado";
+        }
+        if (dto.patient() == null || !existingPatients.contains(dto.patient())) {
+            return "Paciente não encontrado";
+        }
+        if (dto.medication() == null || !existingMedications.contains(dto.medication())) {
+            return "Medicamento não encontrado";
+        }
+        return null;
+    }
+
+    private static String cell(String[] cells, Map<String, Integer> columns, String column) {
+        int index = columns.get(column.toLowerCase(Locale.ROOT));
+        if (index >= cells.length) {
+            return null;
+        }
+        String value = cells[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer parseInteger(String value) {
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    private static Long parseLong(String value) {
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    private static FrequencyUnit parseFrequencyUnit(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Arrays.stream(FrequencyUnit.values())
+                .filter(unit -> unit.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(value));
     }
 
     /**
@@ -119,6 +375,7 @@ public class RelationMPService {
      * @param updatedData Dados atualizados fornecidos no DTO.
      * @return A relação atualizada, caso encontrada.
      */
+   @Transactional
    public Optional<RelationMP> updateRelationMP(Long id, RelationMPDTO updatedData) {
     return relationMPRepository.findById(id).map(existing -> {
         if (updatedData.startDate() != null) {
@@ -152,19 +409,38 @@ public class RelationMPService {
             existing.setUpdatedBy(updater);
         }
 
-        long totalUnits = switch (existing.getFrequencyUnit()) {
-            case HOURS -> Duration.between(existing.getStartDate().atStartOfDay(), existing.getEndDate().plusDays(1).atStartOfDay()).toHours() / existing.getFrequencyValue();
-            case DAYS -> ChronoUnit.DAYS.between(existing.getStartDate(), existing.getEndDate().plusDays(1)) / existing.getFrequencyValue();
-            case WEEKS -> ChronoUnit.WEEKS.between(existing.getStartDate(), existing.getEndDate().plusDays(1)) / existing.getFrequencyValue();
-        };
-
-        int totalDosage = (int) totalUnits * existing.getDosage();
-        existing.setTotalDosage(totalDosage);
+        existing.setTotalDosage(totalDosage(existing.getStartDate(), existing.getEndDate(),
+                existing.getFrequencyUnit(), existing.getFrequencyValue(), existing.getDosage()));
 
-        return relationMPRepository.save(existing);
+        RelationMP saved = relationMPRepository.save(existing);
+        doseScheduleService.reschedule(saved);
+        adherenceService.refreshRelationMP(saved);
+        return saved;
     });
     }
 
+    /**
+     * Calcula a quantidade total de doses de uma prescrição, a partir da frequência e do período
+     * (de {@code startDate} até o fim de {@code endDate}).
+     *
+     * @param startDate Data de início da prescrição.
+     * @param endDate Data de término da prescrição (inclusiva).
+     * @param frequencyUnit Unidade da frequência.
+     * @param frequencyValue Intervalo entre as doses, na unidade da frequência.
+     * @param dosage Quantidade por dose.
+     * @return A quantidade total de doses.
+     */
+    public static int totalDosage(LocalDate startDate, LocalDate endDate, FrequencyUnit frequencyUnit,
+                                  int frequencyValue, int dosage) {
+        LocalDate end = endDate.plusDays(1);
+        long totalUnits = switch (frequencyUnit) {
+            case HOURS -> Duration.between(startDate.atStartOfDay(), end.atStartOfDay()).toHours() / frequencyValue;
+            case DAYS -> ChronoUnit.DAYS.between(startDate, end) / frequencyValue;
+            case WEEKS -> ChronoUnit.WEEKS.between(startDate, end) / frequencyValue;
+        };
+        return (int) totalUnits * dosage;
+    }
+
      /**
      * Marca uma relação entre medicamento e paciente como deletada ou ativa novamente.
      * 
@@ -172,13 +448,16 @@ public class RelationMPService {
      * @param userId ID do usuário que está realizando a operação.
      * @return {@code true} se a operação foi bem-sucedida, {@code false} caso a relação não seja encontrada.
      */
+    @Transactional
     public boolean deleteRelationMP(Long id, Long userId) {
         return relationMPRepository.findById(id).map(relationMP -> {
             relationMP.setDeleted(!relationMP.isDeleted());
             User updatedBy = userRepository.findById(userId)
                                     .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
             relationMP.setUpdatedBy(updatedBy);
-            relationMPRepository.save(relationMP);
+            RelationMP saved = relationMPRepository.save(relationMP);
+            doseScheduleService.reschedule(saved);
+            adherenceService.refreshRelationMP(saved);
             return true;
         }).orElse(false);
     }
@@ -6,9 +6,16 @@ import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.Role.RoleResponseDTO;
 import com.fatec.back.domain.Role.RoleDTO;
 import com.fatec.back.repository.RoleRepository;
+import com.fatec.back.security.PrincipalCache;
+import com.fatec.back.security.RoleCache;
+
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Serviço responsável pelas operações de negócio relacionadas as roles de usuários.
@@ -16,11 +23,12 @@ import com.fatec.back.repository.RoleRepository;
  * criação, atualização, obtenção e exclusão de papéis no sistema.
  * 
  * O serviço interage diretamente com o repositório de {@link Role} para realizar 
- * as operações de persistência.
+ * as operações de persistência. Toda alteração de role recarrega o {@link RoleCache} e, como as
+ * permissões dos usuários em cache dependem das roles, esvazia o {@link PrincipalCache}.
  * 
  * <p>Métodos principais:</p>
  * <ul>
- *     <li>{@code getAllRoles()} - Recupera todos as roles cadastrados no sistema.</li>
+ *     <li>{@code getRolePage(PageQuery query)} - Recupera uma página de roles, paginada por cursor.</li>
  *     <li>{@code getRoleById(Long id)} - Recupera uma role pelo seu ID.</li>
  *     <li>{@code createRole(RoleDTO dto)} - Cria uma nova role no sistema com base nos dados fornecidos.</li>
  *     <li>{@code updateRole(Long id, RoleDTO updatedData)} - Atualiza as informações de uma role existente.</li>
@@ -30,19 +38,31 @@ import com.fatec.back.repository.RoleRepository;
  * @see Role
  * @see RoleDTO
  * @see RoleRepository
+ * @see RoleCache
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "role" })
 public class RoleService {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private RoleCache roleCache;
+
     /**
-     * Recupera todos as roles cadastrados no sistema.
+     * Recupera uma página de roles, paginada pelo ID (keyset) e filtrada
+     * conforme os parâmetros informados.
      * 
-     * @return Lista de todos as roles.
+     * @param query Parâmetros de paginação e filtros.
+     * @return A página de roles e o cursor para a próxima página.
      */
-    public List<Role> getAllRoles(){
-        return roleRepository.findAll();
+    public CursorPage<RoleResponseDTO> getRolePage(PageQuery query) {
+        List<RoleResponseDTO> rows = roleRepository.findPage(query.afterId(), query.deleted(),
+                query.createdFrom(), query.createdTo(), query.fetchLimit());
+        return CursorPage.of(rows, query, RoleResponseDTO::id);
     }
 
     /**
@@ -51,8 +71,8 @@ public class RoleService {
      * @param id ID da role a ser recuperado.
      * @return Um {@link Optional} contendo a role encontrado.
      */
-    public Optional<Role> getRoleById(Long id){
-        return roleRepository.findById(id);
+    public Optional<RoleResponseDTO> getRoleById(Long id) {
+        return roleRepository.findResponseById(id);
     }
 
     /**
@@ -66,7 +86,9 @@ public class RoleService {
         role.setName(dto.name());
         role.setDescription(dto.description());
 
-        return roleRepository.save(role);
+        Role saved = roleRepository.save(role);
+        roleCache.invalidate();
+        return saved;
     }
 
     /**
@@ -84,7 +106,10 @@ public class RoleService {
         if (updatedData.description() != null) {
             existing.setDescription(updatedData.description());
         }
-        return roleRepository.save(existing);
+        Role saved = roleRepository.save(existing);
+        roleCache.invalidate();
+        principalCache.invalidateAll();
+        return saved;
     });
     }
 
@@ -98,6 +123,8 @@ public class RoleService {
         return roleRepository.findById(id).map(role -> {
             role.setDeleted(!role.isDeleted());
             roleRepository.save(role);
+            roleCache.invalidate();
+            principalCache.invalidateAll();
             return true;
         }).orElse(false);
     }
@@ -0,0 +1,113 @@
+package com.fatec.back.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Roda de temporização (<i>hashed timer wheel</i>) usada pelo {@link DoseReminderService}.
+ * <p>
+ * O tempo é dividido em ticks de duração fixa, e cada item é guardado na posição {@code tick % size} do tick do
+ * seu prazo. Agendar um item custa O(1), e cada avanço percorre apenas as posições dos ticks decorridos, em vez de
+ * todos os itens agendados. Um item com prazo além de uma volta completa fica na mesma posição e só é disparado
+ * quando o seu tick é alcançado. Os itens nunca são disparados antes do prazo, e no máximo um tick depois dele.
+ * </p>
+ * <p>
+ * Não é thread-safe: o acesso é serializado pelo {@link DoseReminderService}.
+ * </p>
+ *
+ * @param <T> Tipo dos itens agendados.
+ */
+final class TimerWheel<T> {
+    private final LocalDateTime origin;
+    private final long tickMillis;
+    private final List<List<Entry<T>>> buckets;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param origin Instante a partir do qual os ticks são contados.
+     * @param tick Duração de cada tick.
+     * @param wheelSize Quantidade de posições da roda.
+     */
+    TimerWheel(LocalDateTime origin, Duration tick, int wheelSize) {
+        this.origin = origin;
+        this.tickMillis = Math.max(1, tick.toMillis());
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Agenda um item. Itens com prazo já vencido são disparados no próximo avanço.
+     *
+     * @param item O item.
+     * @param deadline O prazo do item.
+     */
+    void schedule(T item, LocalDateTime deadline) {
+        long millis = ChronoUnit.MILLIS.between(origin, deadline);
+        long tick = Math.max(Math.ceilDiv(millis, tickMillis), currentTick);
+        buckets.get(position(tick)).add(new Entry<>(item, tick));
+        size++;
+    }
+
+    /**
+     * Avança a roda até o instante informado, removendo e retornando os itens cujo prazo foi alcançado.
+     *
+     * @param now O instante atual.
+     * @return Os itens vencidos.
+     */
+    List<T> advance(LocalDateTime now) {
+        long target = Math.floorDiv(ChronoUnit.MILLIS.between(origin, now), tickMillis);
+        List<T> expired = new ArrayList<>();
+        if (target < currentTick) {
+            return expired;
+        }
+        long steps = Math.min(target - currentTick + 1, buckets.size());
+        for (long tick = currentTick; tick < currentTick + steps; tick++) {
+            Iterator<Entry<T>> iterator = buckets.get(position(tick)).iterator();
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+                if (entry.tick() <= target) {
+                    expired.add(entry.item());
+                    iterator.remove();
+                    size--;
+                }
+            }
+        }
+        currentTick = target + 1;
+        return expired;
+    }
+
+    /**
+     * Remove os itens que atendem ao filtro, percorrendo toda a roda.
+     *
+     * @param filter O filtro dos itens a remover.
+     */
+    void removeIf(Predicate<? super T> filter) {
+        for (List<Entry<T>> bucket : buckets) {
+            int before = bucket.size();
+            bucket.removeIf(entry -> filter.test(entry.item()));
+            size -= before - bucket.size();
+        }
+    }
+
+    /**
+     * @return A quantidade de itens agendados.
+     */
+    int size() {
+        return size;
+    }
+
+    private int position(long tick) {
+        return Math.floorMod(tick, buckets.size());
+    }
+
+    private record Entry<T>(T item, long tick) {
+    }
+}
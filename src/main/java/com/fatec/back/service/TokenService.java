@@ -1,56 +1,118 @@
 package com.fatec.back.service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fatec.back.domain.User.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Serviço responsável pela geração e validação de tokens JWT (JSON Web Token).
  * Este serviço utiliza a biblioteca Auth0 para criar e verificar tokens de autenticação.
- * 
+ *
  * O token gerado contém as informações do usuário e é utilizado para autenticar e autorizar o acesso a recursos da aplicação.
- * O token tem um tempo de expiração de 2 horas.
- * 
+ * O token expira após {@code api.security.token.ttl} (2 horas por padrão).
+ *
+ * <p>
+ * Além do e-mail (subject), o token carrega as claims {@code id}, {@code role} e {@code ver} (versão de token
+ * do usuário) e um {@code jti} único. No modo sem estado ({@code api.security.token.stateless}), o
+ * {@link com.fatec.back.security.SecurityFilter} autentica a requisição somente com essas claims, sem consultar
+ * o banco; nesse modo os tokens expiram após {@code api.security.token.stateless-ttl} (15 minutos por padrão),
+ * e a revogação é feita pela {@link com.fatec.back.security.TokenRevocationList}.
+ * </p>
+ *
+ * <p>
+ * O {@link Algorithm} e o {@link JWTVerifier} são imutáveis e thread-safe, por isso são criados uma única vez.
+ * Tokens já verificados ficam em um cache limitado ({@code api.security.token.cache-size}) até o seu
+ * {@code exp}, de forma que requisições repetidas com o mesmo token não recalculam a assinatura.
+ * </p>
+ *
  * <p>Métodos principais:</p>
  * <ul>
  *     <li>{@code generateToken(User user)} - Gera um token JWT para um usuário.</li>
  *     <li>{@code validateToken(String token)} - Valida o token JWT e retorna o e-mail do usuário associado.</li>
+ *     <li>{@code verify(String token)} - Valida o token JWT e retorna o token decodificado.</li>
  * </ul>
- * 
+ *
  * @see User
  * @see JWT
  * @see Algorithm
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "auth" })
 public class TokenService {
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private static final String ISSUER = "auth-api";
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<String, DecodedJWT> verifiedTokens;
+    private final boolean stateless;
+    private final Duration ttl;
+
+    public TokenService(@Value("${api.security.token.secret}") String secret,
+                        @Value("${api.security.token.cache-size:10000}") long cacheSize,
+                        @Value("${api.security.token.stateless:false}") boolean stateless,
+                        @Value("${api.security.token.ttl:2h}") Duration ttl,
+                        @Value("${api.security.token.stateless-ttl:15m}") Duration statelessTtl) {
+        this.stateless = stateless;
+        this.ttl = stateless ? statelessTtl : ttl;
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                            .withIssuer(ISSUER)
+                            .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<String, DecodedJWT>() {
+                    @Override
+                    public long expireAfterCreate(String token, DecodedJWT jwt, long currentTime) {
+                        return timeToExpiration(jwt).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, DecodedJWT jwt, long currentTime, long currentDuration) {
+                        return timeToExpiration(jwt).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, DecodedJWT jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     /**
      * Gera um token JWT para o usuário fornecido.
-     * O token contém informações do usuário, como ID e e-mail, e tem um tempo de expiração de 2 horas.
-     * 
+     * O token contém informações do usuário, como ID, e-mail, papel e versão de token.
+     *
      * @param user O usuário para o qual o token será gerado.
      * @return O token JWT gerado.
      * @throws RuntimeException Se ocorrer um erro durante a geração do token.
      */
     public String generateToken(User user){
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             Map<String, Object> claims = new HashMap<>();
             claims.put("id", user.getId());
+            claims.put("role", user.getRole().getName());
+            claims.put("ver", user.getTokenVersion());
             String token = JWT.create()
-                                .withIssuer("auth-api")
+                                .withIssuer(ISSUER)
+                                .withJWTId(UUID.randomUUID().toString())
                                 .withSubject(user.getEmail())
                                 .withPayload(claims)
                                 .withExpiresAt(generateExpirationDate())
@@ -64,29 +126,65 @@ public class TokenService {
      /**
      * Valida o token JWT fornecido e retorna o e-mail do usuário associado.
      * Se o token for inválido, retorna uma string vazia.
-     * 
+     *
      * @param token O token JWT a ser validado.
      * @return O e-mail do usuário associado ao token, ou uma string vazia se o token for inválido.
      */
     public String validateToken(String token){
+        DecodedJWT jwt = verify(token);
+        return jwt != null ? jwt.getSubject() : "";
+    }
+
+    /**
+     * Valida o token JWT fornecido e retorna o token decodificado, com todas as suas claims.
+     * Tokens já verificados são obtidos do cache enquanto não expirarem.
+     *
+     * @param token O token JWT a ser validado.
+     * @return O token decodificado, ou {@code null} se o token for inválido ou estiver expirado.
+     */
+    public DecodedJWT verify(String token){
+        DecodedJWT cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.getExpiresAtAsInstant().isAfter(Instant.now())) {
+                return cached;
+            }
+            verifiedTokens.invalidate(token);
+            return null;
+        }
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                        .withIssuer("auth-api")
-                        .build()
-                        .verify(token)
-                        .getSubject();
+            DecodedJWT jwt = verifier.verify(token);
+            if (jwt.getExpiresAtAsInstant() != null) {
+                verifiedTokens.put(token, jwt);
+            }
+            return jwt;
         } catch (JWTVerificationException e) {
-            return "";
+            return null;
         }
     }
 
     /**
-     * Gera a data de expiração do token, que é definida para 2 horas após a geração do token.
-     * 
+     * Indica se a autenticação deve ser feita apenas com as claims do token, sem consultar o banco.
+     *
+     * @return {@code true} se o modo sem estado estiver habilitado.
+     */
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    /**
+     * Gera a data de expiração do token, a partir do tempo de vida configurado.
+     *
      * @return A data e hora de expiração do token.
      */
     private Instant generateExpirationDate(){
-        return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
+        return Instant.now().plus(ttl);
+    }
+
+    /**
+     * Calcula por quanto tempo um token verificado pode permanecer no cache.
+     */
+    private static Duration timeToExpiration(DecodedJWT jwt) {
+        Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAtAsInstant());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
     }
 }
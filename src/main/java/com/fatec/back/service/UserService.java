@@ -5,25 +5,35 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.fatec.back.domain.Pagination.CursorPage;
+import com.fatec.back.domain.Pagination.PageQuery;
 import com.fatec.back.domain.Role.Role;
 import com.fatec.back.domain.User.User;
-import com.fatec.back.repository.RoleRepository;
+import com.fatec.back.domain.User.UserResponseDTO;
 import com.fatec.back.repository.UserRepository;
+import com.fatec.back.security.PasswordHashingExecutor;
+import com.fatec.back.security.PrincipalCache;
+import com.fatec.back.security.RoleCache;
+import com.fatec.back.security.TokenRevocationList;
+
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Serviço responsável pelas operações de negócio relacionadas aos usuários.
  * Esta classe contém métodos para manipular dados de usuários, como 
  * obtenção, atualização, troca de senha e alteração do status de acesso.
  * 
- * O serviço interage diretamente com os repositórios de {@link User} e {@link Role} 
- * para realizar as operações de persistência.
+ * O serviço interage diretamente com o repositório de {@link User} para realizar as operações
+ * de persistência; os papéis ({@link Role}) são obtidos do {@link RoleCache}. Toda alteração de usuário invalida a entrada
+ * correspondente no {@link PrincipalCache}. A troca de senha, a troca de papel e a alteração do status
+ * de acesso incrementam a versão de token do usuário, revogando os tokens já emitidos
+ * (ver {@link TokenRevocationList}).
  * 
  * <p>Métodos principais:</p>
  * <ul>
- *     <li>{@code getAllUsers()} - Recupera todos os usuários do sistema.</li>
+ *     <li>{@code getUserPage(PageQuery query)} - Recupera uma página de usuários, paginada por cursor.</li>
  *     <li>{@code getUserById(Long id)} - Recupera um usuário pelo seu ID.</li>
  *     <li>{@code updateUser(Long id, Map<String, Object> updates)} - Atualiza informações de um usuário com base nos dados fornecidos.</li>
  *     <li>{@code updatePassword(Long id, String newPassword, Long UserID)} - Atualiza a senha de um usuário.</li>
@@ -33,21 +43,37 @@ import com.fatec.back.repository.UserRepository;
  * @see User
  * @see Role
  * @see UserRepository
- * @see RoleRepository
+ * @see RoleCache
  */
 @Service
+@Timed(value = "app.service", extraTags = { "entity", "user" })
 public class UserService {
     @Autowired
     private UserRepository repository;
-    private RoleRepository roleRepository;
 
-     /**
-     * Recupera todos os usuários cadastrados no sistema.
+    @Autowired
+    private RoleCache roleCache;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashing;
+
+    /**
+     * Recupera uma página de usuários, paginada pelo ID (keyset) e filtrada
+     * conforme os parâmetros informados.
      * 
-     * @return Lista de todos os usuários.
+     * @param query Parâmetros de paginação e filtros.
+     * @return A página de usuários e o cursor para a próxima página.
      */
-    public List<User> getAllUsers() {
-        return repository.findAll();
+    public CursorPage<UserResponseDTO> getUserPage(PageQuery query) {
+        List<UserResponseDTO> rows = repository.findPage(query.afterId(), query.deleted(),
+                query.createdFrom(), query.createdTo(), query.fetchLimit());
+        return CursorPage.of(rows, query, UserResponseDTO::id);
     }
 
     /**
@@ -56,8 +82,8 @@ public class UserService {
      * @param id ID do usuário a ser recuperado.
      * @return Um {@link Optional} contendo o usuário encontrado.
      */
-    public Optional<User> getUserById(Long id) {
-        return repository.findById(id);
+    public Optional<UserResponseDTO> getUserById(Long id) {
+        return repository.findResponseById(id);
     }
 
     /**
@@ -71,6 +97,8 @@ public class UserService {
     public User updateUSer(Long id, Map<String, Object> updates) {
     User user = repository.findById(id)
         .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+    principalCache.invalidate(user.getEmail());
+    int tokenVersion = user.getTokenVersion();
 
     if (updates.containsKey("email")) {
         Object emailObj = updates.get("email");
@@ -93,7 +121,8 @@ public class UserService {
     if (updates.containsKey("password")) {
         Object passwordObj = updates.get("password");
         if (passwordObj instanceof String password && password.length() >= 6) {
-            user.setPassword(password);
+            user.setPassword(passwordHashing.encodeAndWait(password));
+            user.setTokenVersion(tokenVersion + 1);
         } else {
             throw new IllegalArgumentException("Senha inválida. Deve ter ao menos 6 caracteres.");
         }
@@ -102,15 +131,21 @@ public class UserService {
     if (updates.containsKey("role")) {
         try {
             Long roleId = Long.valueOf(updates.get("role").toString());
-            Role role = roleRepository.findById(roleId)
+            Role role = roleCache.findById(roleId)
                 .orElseThrow(() -> new RuntimeException("Role não encontrada"));
             user.setRole(role);
+            user.setTokenVersion(tokenVersion + 1);
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("ID de role inválido.");
         }
     }
 
-    return repository.save(user);
+    User saved = repository.save(user);
+    principalCache.invalidate(saved.getEmail());
+    if (saved.getTokenVersion() != tokenVersion) {
+        revocationList.revokeUser(saved.getId(), saved.getTokenVersion());
+    }
+    return saved;
 }
 
 
@@ -124,16 +159,21 @@ public class UserService {
      */
     public Optional<User> updatePassword(Long id, String newPassword, Long UserID) {
         return repository.findById(id).map(user -> {
-            user.setPassword(new BCryptPasswordEncoder().encode(newPassword));
+            user.setPassword(passwordHashing.encodeAndWait(newPassword));
             User updatedBy = repository.findById(UserID)
             .orElseThrow(() -> new RuntimeException("Usuário updated_by não encontrado"));
             user.setUpdatedBy(updatedBy);
-            return repository.save(user);
+            user.setTokenVersion(user.getTokenVersion() + 1);
+            User saved = repository.save(user);
+            principalCache.invalidate(saved.getEmail());
+            revocationList.revokeUser(saved.getId(), saved.getTokenVersion());
+            return saved;
         });
     }
 
     /**
      * Altera o status de acesso de um usuário, ativando ou desativando sua conta.
+     * Os tokens já emitidos para o usuário deixam de ser aceitos.
      * 
      * @param id ID do usuário.
      * @return {@code true} se a operação foi bem-sucedida, {@code false} caso o usuário não seja encontrado.
@@ -141,7 +181,10 @@ public class UserService {
     public boolean toggleUserAccess(Long id) {
         return repository.findById(id).map(user -> {
             user.setDeleted(!user.isDeleted());
+            user.setTokenVersion(user.getTokenVersion() + 1);
             repository.save(user);
+            principalCache.invalidate(user.getEmail());
+            revocationList.revokeUser(user.getId(), user.getTokenVersion());
             return true;
         }).orElse(false);
     }
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS dose_slot (
+    id_dose_slot BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_relation_mp INT NOT NULL,
+    id_patient INT NOT NULL,
+    id_medication INT NOT NULL,
+    dosage INT NOT NULL,
+    due_at DATETIME NOT NULL,
+
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+
+    CONSTRAINT uq_dose_slot_relation_mp_due_at UNIQUE (id_relation_mp, due_at),
+    CONSTRAINT fk_dose_slot_relation_mp FOREIGN KEY (id_relation_mp) REFERENCES relations_mp(id_relation_mp),
+    CONSTRAINT fk_dose_slot_patient FOREIGN KEY (id_patient) REFERENCES patient(id_patient),
+    CONSTRAINT fk_dose_slot_medication FOREIGN KEY (id_medication) REFERENCES medication(id_medication),
+    INDEX idx_dose_slot_patient_due_at (id_patient, due_at)
+);
@@ -0,0 +1,8 @@
+CREATE INDEX idx_user_email ON user (email);
+
+CREATE INDEX idx_relations_mp_patient_deleted_end_date ON relations_mp (id_patient, deleted, end_date);
+
+CREATE INDEX idx_history_relation_mp_taked_at ON history (id_relation_mp, taked_at);
+
+CREATE INDEX idx_have_patient_deleted ON have (id_patient, deleted);
+CREATE INDEX idx_have_caregiver_deleted ON have (id_caregiver, deleted);
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS adherence_daily (
+    id_adherence_daily BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_relation_mp INT NOT NULL,
+    id_patient INT NOT NULL,
+    rollup_day DATE NOT NULL,
+    expected INT NOT NULL DEFAULT 0,
+    taken INT NOT NULL DEFAULT 0,
+
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL,
+
+    CONSTRAINT uq_adherence_daily_relation_mp_day UNIQUE (id_relation_mp, rollup_day),
+    CONSTRAINT fk_adherence_daily_relation_mp FOREIGN KEY (id_relation_mp) REFERENCES relations_mp(id_relation_mp),
+    CONSTRAINT fk_adherence_daily_patient FOREIGN KEY (id_patient) REFERENCES patient(id_patient),
+    INDEX idx_adherence_daily_patient_day (id_patient, rollup_day)
+);
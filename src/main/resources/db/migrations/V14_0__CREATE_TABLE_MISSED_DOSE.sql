@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS missed_dose (
+    id_missed_dose BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_dose_slot BIGINT NOT NULL,
+    id_relation_mp INT NOT NULL,
+    id_patient INT NOT NULL,
+    id_medication INT NOT NULL,
+    dosage INT NOT NULL,
+    due_at DATETIME NOT NULL,
+
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+
+    CONSTRAINT uq_missed_dose_dose_slot UNIQUE (id_dose_slot),
+    CONSTRAINT fk_missed_dose_relation_mp FOREIGN KEY (id_relation_mp) REFERENCES relations_mp(id_relation_mp),
+    CONSTRAINT fk_missed_dose_patient FOREIGN KEY (id_patient) REFERENCES patient(id_patient),
+    CONSTRAINT fk_missed_dose_medication FOREIGN KEY (id_medication) REFERENCES medication(id_medication),
+    INDEX idx_missed_dose_patient_due_at (id_patient, due_at)
+);
+
+CREATE TABLE IF NOT EXISTS job_watermark (
+    name VARCHAR(64) PRIMARY KEY,
+    last_due_at DATETIME NOT NULL,
+    last_id BIGINT NOT NULL,
+
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_dose_slot_due_at ON dose_slot (due_at);
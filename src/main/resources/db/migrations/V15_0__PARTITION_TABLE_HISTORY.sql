@@ -0,0 +1,40 @@
+ALTER TABLE history DROP FOREIGN KEY fk_history_created_by;
+ALTER TABLE history DROP FOREIGN KEY fk_history_updated_by;
+ALTER TABLE history DROP FOREIGN KEY fk_history_relation_mp;
+
+UPDATE history SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+
+ALTER TABLE history
+    MODIFY created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id_history, created_at);
+
+CREATE INDEX idx_history_created_at ON history (created_at);
+
+SET @partition_history = CONCAT(
+    'ALTER TABLE history PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (',
+    'PARTITION p_initial VALUES LESS THAN (',
+    UNIX_TIMESTAMP(DATE_FORMAT(CURRENT_DATE + INTERVAL 1 MONTH, '%Y-%m-01')),
+    '), PARTITION p_future VALUES LESS THAN MAXVALUE)'
+);
+
+PREPARE partition_history FROM @partition_history;
+EXECUTE partition_history;
+DEALLOCATE PREPARE partition_history;
+
+CREATE TABLE IF NOT EXISTS history_archive (
+    id_history INT NOT NULL PRIMARY KEY,
+    id_relation_mp INT NOT NULL,
+    taked TINYINT(1) NOT NULL,
+    taked_at TIMESTAMP NULL DEFAULT NULL,
+
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NULL DEFAULT NULL,
+    created_by INT,
+    updated_by INT,
+    deleted TINYINT(1) NOT NULL,
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+
+    INDEX idx_history_archive_relation_mp_taked_at (id_relation_mp, taked_at),
+    INDEX idx_history_archive_created_at (created_at)
+) ROW_FORMAT=COMPRESSED;
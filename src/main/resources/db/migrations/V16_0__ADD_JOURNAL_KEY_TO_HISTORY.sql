@@ -0,0 +1,3 @@
+ALTER TABLE history ADD COLUMN journal_key CHAR(36) NULL DEFAULT NULL;
+
+CREATE INDEX idx_history_journal_key ON history (journal_key);
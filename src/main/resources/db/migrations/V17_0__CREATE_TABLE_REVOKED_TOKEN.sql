@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS revoked_token (
+    jti CHAR(36) PRIMARY KEY,
+    id_user INT,
+    expires_at DATETIME NOT NULL,
+
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+
+    INDEX idx_revoked_token_created_at (created_at),
+    INDEX idx_revoked_token_expires_at (expires_at)
+);
+
+CREATE INDEX idx_user_updated_at ON user (updated_at);
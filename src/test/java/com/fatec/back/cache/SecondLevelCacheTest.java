@@ -0,0 +1,129 @@
+package com.fatec.back.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fatec.back.PiBackApplication;
+import com.fatec.back.domain.Medication.Medication;
+import com.fatec.back.domain.Medication.MedicationDTO;
+import com.fatec.back.domain.Patient.Patient;
+import com.fatec.back.domain.Patient.PatientDTO;
+import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.Role.RoleDTO;
+import com.fatec.back.domain.Role.RoleResponseDTO;
+import com.fatec.back.domain.User.User;
+import com.fatec.back.repository.MedicationRepository;
+import com.fatec.back.repository.RoleRepository;
+import com.fatec.back.repository.UserRepository;
+import com.fatec.back.service.MedicationService;
+import com.fatec.back.service.PatientService;
+import com.fatec.back.service.RoleService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Garante que as entidades e consultas cacheadas sejam lidas do cache de segundo nível e que as alterações
+ * feitas pelos serviços sejam vistas nas leituras seguintes.
+ */
+@SpringBootTest(classes = PiBackApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MedicationRepository medicationRepository;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Autowired
+    private MedicationService medicationService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private <T> T find(Class<T> type, Long id) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.find(type, id);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private long hits(String region) {
+        return statistics.getDomainDataRegionStatistics(region).getHitCount();
+    }
+
+    @Test
+    void medicationUpdateThroughTheServiceReplacesTheCachedEntry() {
+        Long id = medicationRepository.save(new Medication("Dipirona", "Analgésico")).getId();
+        find(Medication.class, id);
+        statistics.clear();
+
+        assertThat(find(Medication.class, id).getName()).isEqualTo("Dipirona");
+        assertThat(hits(CacheRegions.MEDICATION)).isEqualTo(1);
+
+        medicationService.updateMedication(id, new MedicationDTO("Dipirona 1g", null, null));
+        long hitsBeforeRead = hits(CacheRegions.MEDICATION);
+
+        assertThat(find(Medication.class, id).getName()).isEqualTo("Dipirona 1g");
+        assertThat(hits(CacheRegions.MEDICATION)).isEqualTo(hitsBeforeRead + 1);
+    }
+
+    @Test
+    void patientSoftDeleteThroughTheServiceReplacesTheCachedEntry() {
+        Role role = roleRepository.save(new Role("cache-patient", "Paciente"));
+        User user = userRepository.save(new User("cache-patient@vital.com", "hash", "Paciente", role));
+        Long id = transactionTemplate.execute(status -> patientService
+                .createPatient(new PatientDTO(LocalDate.of(1950, 1, 1), "Condição", user.getId())).getId());
+        assertThat(find(Patient.class, id).isDeleted()).isFalse();
+
+        patientService.deletePatient(id, user.getId());
+
+        assertThat(find(Patient.class, id).isDeleted()).isTrue();
+    }
+
+    @Test
+    void roleLookupIsServedFromTheQueryCacheUntilTheRoleIsUpdated() {
+        Long id = roleRepository.save(new Role("cache-role", "Antes")).getId();
+        roleService.getRoleById(id);
+        statistics.clear();
+
+        assertThat(roleService.getRoleById(id)).map(RoleResponseDTO::description).contains("Antes");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        roleService.updateRole(id, new RoleDTO(null, "Depois"));
+
+        assertThat(roleService.getRoleById(id)).map(RoleResponseDTO::description).contains("Depois");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,47 @@
+package com.fatec.back.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+class SamplingTurboFilterTest {
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = new LoggerContext().getLogger("sampling");
+        logger.setLevel(Level.INFO);
+        filter.setRate(10);
+    }
+
+    @Test
+    void keepsOneOfEveryRateSampledEventsPerMessage() {
+        long kept = IntStream.range(0, 100)
+                .mapToObj(i -> filter.decide(SamplingTurboFilter.SAMPLED, logger, Level.INFO, "Login realizado: userId={}", null, null))
+                .filter(reply -> reply == FilterReply.NEUTRAL)
+                .count();
+
+        assertThat(kept).isEqualTo(10);
+        assertThat(filter.decide(SamplingTurboFilter.SAMPLED, logger, Level.INFO, "Histórico registrado: id={}", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void neverDropsWarningsOrUnmarkedEvents() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(filter.decide(SamplingTurboFilter.SAMPLED, logger, Level.WARN, "Falha", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(null, logger, Level.INFO, "Evento", null, null))
+                    .isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.fatec.back.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fatec.back.PiBackApplication;
+
+/**
+ * Garante que o endpoint de coleta do Prometheus publique as métricas dos endpoints, serviços, repositórios,
+ * comandos SQL, do pool de conexões e do cache de segundo nível, com a tag {@code entity}.
+ */
+@SpringBootTest(classes = PiBackApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability(tracing = false)
+class PrometheusEndpointTest {
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    void scrapeExposesRequestServiceRepositoryPoolAndCacheMetrics() {
+        assertThat(rest.getForEntity("/role", String.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> scrape = rest.getForEntity("/actuator/prometheus", String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*entity=\"role\"[^}]*uri=\"/role\"")
+                .containsPattern("app_service_seconds_count\\{[^}]*entity=\"role\"[^}]*method=\"getRolePage\"")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{[^}]*entity=\"role\"")
+                .containsPattern("jpa_statements_count\\{[^}]*entity=\"role\"[^}]*uri=\"/role\"")
+                .containsPattern("jpa_statements_executed_total\\{[^}]*type=\"select\"")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"lookup\"[^}]*result=\"miss\"\\} [1-9]")
+                .contains("hikaricp_connections_active");
+    }
+}
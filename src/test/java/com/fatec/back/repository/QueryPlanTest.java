@@ -0,0 +1,153 @@
+package com.fatec.back.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Verifica, com {@code EXPLAIN}, que as consultas mais frequentes usam um índice em vez de percorrer a tabela inteira.
+ * <p>
+ * O esquema é criado pelas próprias migrations ({@code db/migrations}), executadas em ordem de versão
+ * em um banco H2 em modo de compatibilidade com o MySQL. Se um índice for removido ou uma consulta deixar
+ * de usá-lo, o plano passa a conter {@code tableScan} e o teste falha.
+ * </p>
+ * <p>
+ * O H2 não aceita várias cláusulas ({@code ADD}, {@code DROP}, {@code MODIFY}) em um único {@code ALTER TABLE};
+ * esses comandos são separados antes da execução. O particionamento ({@code PARTITION BY}), montado em um comando
+ * preparado ({@code PREPARE}/{@code EXECUTE}), é exclusivo do MySQL e é ignorado.
+ * </p>
+ */
+class QueryPlanTest {
+    private static final String URL = "jdbc:h2:mem:query_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE";
+    private static final Pattern VERSION = Pattern.compile("V(\\d+)_(\\d+)__.*");
+    private static final Pattern MULTI_CLAUSE = Pattern.compile("(?is)^(ALTER\\s+TABLE\\s+\\S+)\\s+((?:ADD|DROP|MODIFY)\\s.*)$");
+    private static final Pattern PARTITION = Pattern.compile("(?is).*\\bPARTITION\\s+BY\\b.*");
+    private static final Pattern PREPARED = Pattern.compile("(?is)^(?:PREPARE|EXECUTE|DEALLOCATE)\\s.*");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException, IOException {
+        connection = DriverManager.getConnection(URL, "sa", "");
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migrations/V*.sql");
+        Arrays.sort(migrations, Comparator.comparingInt((Resource r) -> version(r, 1)).thenComparingInt(r -> version(r, 2)));
+        try (Statement statement = connection.createStatement()) {
+            for (Resource migration : migrations) {
+                for (String sql : migration.getContentAsString(StandardCharsets.UTF_8).split(";")) {
+                    for (String command : splitAlterTable(sql.strip())) {
+                        statement.execute(command);
+                    }
+                }
+            }
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void findByEmailUsesIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM user WHERE email = 'a@vital.com'", "idx_user_email");
+    }
+
+    @Test
+    void activePrescriptionsOfPatientUseIndex() throws SQLException {
+        assertUsesIndex("""
+                SELECT * FROM relations_mp
+                WHERE id_patient = 1 AND deleted = 0 AND end_date >= DATE '2025-01-01'
+                """, "idx_relations_mp_patient_deleted_end_date");
+    }
+
+    @Test
+    void historyOfPrescriptionByPeriodUsesIndex() throws SQLException {
+        assertUsesIndex("""
+                SELECT * FROM history
+                WHERE id_relation_mp = 1
+                  AND taked_at >= TIMESTAMP '2025-01-01 00:00:00' AND taked_at < TIMESTAMP '2025-02-01 00:00:00'
+                """, "idx_history_relation_mp_taked_at");
+    }
+
+    @Test
+    void historiesToArchiveUseIndex() throws SQLException {
+        assertUsesIndex("SELECT id_history FROM history WHERE created_at < TIMESTAMP '2025-01-01 00:00:00'",
+                "idx_history_created_at");
+    }
+
+    @Test
+    void activeLinksOfPatientAndCaregiverUseIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM have WHERE id_patient = 1 AND deleted = 0", "idx_have_patient_deleted");
+        assertUsesIndex("SELECT * FROM have WHERE id_caregiver = 1 AND deleted = 0", "idx_have_caregiver_deleted");
+    }
+
+    @Test
+    void upcomingDosesUseIndex() throws SQLException {
+        assertUsesIndex("""
+                SELECT * FROM dose_slot
+                WHERE id_patient = 1 AND due_at >= TIMESTAMP '2025-01-01 00:00:00'
+                ORDER BY due_at
+                """, "idx_dose_slot_patient_due_at");
+    }
+
+    @Test
+    void keysetPagesUsePrimaryKey() throws SQLException {
+        assertUsesIndex("SELECT * FROM history WHERE id_history > 100 ORDER BY id_history LIMIT 21", "primary_key");
+    }
+
+    private void assertUsesIndex(String sql, String index) throws SQLException {
+        String plan = explain(sql);
+        assertThat(plan)
+                .as("plano de %s", sql)
+                .doesNotContain("tableScan")
+                .containsIgnoringCase(index);
+    }
+
+    private static int version(Resource migration, int group) {
+        Matcher matcher = VERSION.matcher(migration.getFilename());
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Migration fora do padrão: " + migration.getFilename());
+        }
+        return Integer.parseInt(matcher.group(group));
+    }
+
+    private static String[] splitAlterTable(String sql) {
+        if (sql.isEmpty() || PARTITION.matcher(sql).matches() || PREPARED.matcher(sql).matches()) {
+            return new String[0];
+        }
+        Matcher matcher = MULTI_CLAUSE.matcher(sql);
+        if (!matcher.matches()) {
+            return new String[] { sql };
+        }
+        return Arrays.stream(matcher.group(2).split(",\\s*(?=(?:ADD|DROP|MODIFY)\\s)"))
+                .map(clause -> matcher.group(1) + " " + clause)
+                .toArray(String[]::new);
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.fatec.back.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fatec.back.domain.Caregiver.Caregiver;
+import com.fatec.back.domain.Have.Have;
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.Medication.Medication;
+import com.fatec.back.domain.Patient.Patient;
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.User.User;
+
+/**
+ * Garante que cada endpoint de listagem e de consulta por ID execute uma quantidade limitada de
+ * comandos SQL, incluindo a serialização da resposta em JSON (que acessa as associações).
+ * <p>
+ * A contagem é feita com as estatísticas do Hibernate. Um aumento indica que alguma associação
+ * voltou a ser carregada por consultas adicionais (N+1).
+ * </p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StatementCountTest {
+    private static final int ROWS = 5;
+
+    private final ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired private CaregiverRepository caregiverRepository;
+    @Autowired private HaveRepository haveRepository;
+    @Autowired private HistoryRepository historyRepository;
+    @Autowired private MedicationRepository medicationRepository;
+    @Autowired private PatientRepository patientRepository;
+    @Autowired private RelationMPRepository relationMPRepository;
+    @Autowired private RoleRepository roleRepository;
+    @Autowired private UserRepository userRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        Role role = em.persist(new Role("admin", "Administrador"));
+        User admin = em.persist(new User("admin@vital.com", "hash", "Admin", role));
+        for (int i = 0; i < ROWS; i++) {
+            User patientUser = audited(new User("patient" + i + "@vital.com", "hash", "Paciente " + i, role), admin);
+            em.persist(patientUser);
+            User caregiverUser = audited(new User("caregiver" + i + "@vital.com", "hash", "Cuidador " + i, role), patientUser);
+            em.persist(caregiverUser);
+
+            Patient patient = new Patient(LocalDate.of(1950, 1, 1), "Condição " + i);
+            patient.setUser(patientUser);
+            patient.setCreated_by(admin);
+            patient.setUpdated_by(caregiverUser);
+            em.persist(patient);
+
+            Caregiver caregiver = new Caregiver("Filho");
+            caregiver.setUser(caregiverUser);
+            caregiver.setCreated_by(admin);
+            caregiver.setUpdated_by(patientUser);
+            em.persist(caregiver);
+
+            Have have = new Have(LocalDate.now(), LocalDate.now().plusDays(30), patient, caregiver);
+            have.setCreatedBy(caregiverUser);
+            have.setUpdatedBy(patientUser);
+            em.persist(have);
+
+            Medication medication = new Medication("Medicamento " + i, "Função");
+            medication.setCreatedBy(caregiverUser);
+            medication.setUpdatedBy(admin);
+            em.persist(medication);
+
+            RelationMP relationMP = new RelationMP(1, 8, RelationMP.FrequencyUnit.HOURS, 30, medication, patient,
+                    LocalDate.now(), LocalDate.now().plusDays(10));
+            relationMP.setCreatedBy(caregiverUser);
+            relationMP.setUpdatedBy(patientUser);
+            em.persist(relationMP);
+
+            History history = new History(true, LocalDateTime.now());
+            history.setRelationMP(relationMP);
+            history.setCreatedBy(caregiverUser);
+            history.setUpdatedBy(patientUser);
+            em.persist(history);
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void listingEndpointsUseASingleStatement() {
+        assertStatements(1, () -> caregiverRepository.findPage(0, null, null, null, Limit.of(ROWS + 1)));
+        assertStatements(1, () -> haveRepository.findPage(0, null, null, null, Limit.of(ROWS + 1)));
+        assertStatements(1, () -> historyRepository.findPage(0, null, null, null, Limit.of(ROWS + 1)));
+        assertStatements(1, () -> medicationRepository.findPage(0, null, null, null, Limit.of(ROWS + 1)));
+        assertStatements(1, () -> patientRepository.findPage(0, null, null, null, Limit.of(ROWS + 1)));
+        assertStatements(1, () -> relationMPRepository.findPage(0, null, null, null, Limit.of(ROWS + 1)));
+        assertStatements(1, () -> roleRepository.findPage(0, null, null, null, Limit.of(ROWS + 1)));
+        assertStatements(1, () -> userRepository.findPage(0, null, null, null, Limit.of(ROWS * 2 + 2)));
+    }
+
+    @Test
+    void listingKeepsRowsWithoutAuditUsers() {
+        assertThat(userRepository.findPage(0, null, null, null, Limit.of(ROWS * 2 + 2)))
+                .hasSize(ROWS * 2 + 1)
+                .first()
+                .satisfies(admin -> assertThat(admin.createdBy()).isNull());
+    }
+
+    /**
+     * As consultas por ID com projeção atendem o {@code GET /{id}}; o {@code findById} com entity graph
+     * atende as operações de escrita, que respondem a partir da entidade salva.
+     */
+    @Test
+    void findByIdEndpointsUseASingleStatement() {
+        Long historyId = historyRepository.findAll().get(ROWS - 1).getId();
+        Long haveId = haveRepository.findAll().get(ROWS - 1).getId();
+        Long relationMPId = relationMPRepository.findAll().get(ROWS - 1).getId();
+        Long patientId = patientRepository.findAll().get(ROWS - 1).getId();
+        Long caregiverId = caregiverRepository.findAll().get(ROWS - 1).getId();
+        Long userId = userRepository.findAll().get(ROWS).getId();
+        Long medicationId = medicationRepository.findAll().get(ROWS - 1).getId();
+        em.clear();
+        statistics.clear();
+
+        assertStatements(1, () -> historyRepository.findResponseById(historyId));
+        assertStatements(1, () -> haveRepository.findResponseById(haveId));
+        assertStatements(1, () -> relationMPRepository.findResponseById(relationMPId));
+        assertStatements(1, () -> patientRepository.findResponseById(patientId));
+        assertStatements(1, () -> caregiverRepository.findResponseById(caregiverId));
+        assertStatements(1, () -> medicationRepository.findResponseById(medicationId));
+        assertStatements(1, () -> userRepository.findResponseById(userId));
+
+        assertStatements(1, () -> historyRepository.findById(historyId));
+        assertStatements(1, () -> haveRepository.findById(haveId));
+        assertStatements(1, () -> relationMPRepository.findById(relationMPId));
+        assertStatements(1, () -> patientRepository.findById(patientId));
+        assertStatements(1, () -> caregiverRepository.findById(caregiverId));
+        assertStatements(1, () -> userRepository.findById(userId));
+    }
+
+    /**
+     * O painel do cuidador é montado com uma consulta para os pacientes e prescrições e outra para os
+     * históricos mais recentes, independentemente da quantidade de pacientes.
+     */
+    @Test
+    void caregiverDashboardUsesOneStatementPerQuery() {
+        Long caregiverId = caregiverRepository.findAll().get(ROWS - 1).getId();
+        RelationMP active = relationMPRepository.findAll().get(ROWS - 1);
+        Long relationMPId = active.getId();
+        em.persist(new RelationMP(1, 8, RelationMP.FrequencyUnit.HOURS, 30, active.getMedication(), active.getPatient(),
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(10)));
+        em.flush();
+
+        assertStatements(1, () -> haveRepository.findDashboardRows(caregiverId, LocalDate.now()));
+        assertStatements(1, () -> historyRepository.findLatestByRelationMP(List.of(relationMPId)));
+
+        assertThat(haveRepository.findDashboardRows(caregiverId, LocalDate.now()))
+                .singleElement()
+                .satisfies(row -> assertThat(row.relationMPId()).isEqualTo(relationMPId));
+        assertThat(historyRepository.findLatestByRelationMP(List.of(relationMPId)))
+                .singleElement()
+                .satisfies(history -> assertThat(history.relationMPId()).isEqualTo(relationMPId));
+    }
+
+    /**
+     * Executa a consulta e serializa o resultado, como faz o controller, contando os comandos SQL executados.
+     */
+    private void assertStatements(long expected, Supplier<Object> endpoint) {
+        em.clear();
+        statistics.clear();
+        Object result = endpoint.get();
+        try {
+            mapper.writeValueAsString(result);
+        } catch (Exception e) {
+            throw new AssertionError("Falha ao serializar " + result, e);
+        }
+        assertThat(statistics.getPrepareStatementCount())
+                .as("comandos SQL para %s", result)
+                .isLessThanOrEqualTo(expected);
+    }
+
+    private static User audited(User user, User createdBy) {
+        user.setCreatedBy(createdBy);
+        user.setUpdatedBy(createdBy);
+        return user;
+    }
+}
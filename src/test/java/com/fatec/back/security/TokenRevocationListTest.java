@@ -0,0 +1,146 @@
+package com.fatec.back.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.User.User;
+import com.fatec.back.repository.RevokedTokenRepository;
+import com.fatec.back.repository.UserRepository;
+import com.fatec.back.service.TokenService;
+
+/**
+ * Cada {@link TokenRevocationList} criada no teste faz o papel de uma instância da aplicação: as revogações
+ * feitas por uma devem valer nas demais pelo banco.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TokenRevocationListTest {
+
+    private static final Duration TTL = Duration.ofHours(2);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final TokenService tokenService = new TokenService("test", 100, true, TTL, Duration.ofMinutes(15));
+
+    private User user;
+
+    @BeforeEach
+    void seedUser() {
+        Role role = em.persist(new Role("patient", "Paciente"));
+        user = em.persist(new User("patient@vital.com", "hash", "Paciente", role));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private TokenRevocationList instance() {
+        TokenRevocationList list = new TokenRevocationList(revokedTokenRepository, userRepository, TTL);
+        list.load();
+        return list;
+    }
+
+    @Test
+    void logoutIsSeenByAnInstanceStartedLater() {
+        var jwt = tokenService.verify(tokenService.generateToken(user));
+
+        instance().revoke(jwt);
+
+        assertThat(instance().isRevoked(jwt)).isTrue();
+        assertThat(revokedTokenRepository.findById(jwt.getId())).get()
+                .extracting(revoked -> revoked.getUserId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void logoutIsSeenByARunningInstanceAfterRefresh() {
+        var jwt = tokenService.verify(tokenService.generateToken(user));
+        TokenRevocationList other = instance();
+
+        instance().revoke(jwt);
+        assertThat(other.isRevoked(jwt)).isFalse();
+
+        other.refresh();
+        assertThat(other.isRevoked(jwt)).isTrue();
+    }
+
+    @Test
+    void versionBumpIsSeenByARunningInstanceAfterRefresh() {
+        var before = tokenService.verify(tokenService.generateToken(user));
+        TokenRevocationList other = instance();
+
+        user.setTokenVersion(1);
+        em.flush();
+        var after = tokenService.verify(tokenService.generateToken(user));
+
+        assertThat(other.isRevoked(before)).isFalse();
+        other.refresh();
+        assertThat(other.isRevoked(before)).isTrue();
+        assertThat(other.isRevoked(after)).isFalse();
+    }
+
+    @Test
+    void expiredRevocationsArePurged() {
+        var jwt = tokenService.verify(tokenService.generateToken(user));
+        TokenRevocationList list = instance();
+        list.revoke(jwt);
+
+        revokedTokenRepository.deleteExpired(
+                LocalDateTime.ofInstant(jwt.getExpiresAtAsInstant(), ZoneId.systemDefault()).plusSeconds(1));
+        em.clear();
+
+        assertThat(revokedTokenRepository.findById(jwt.getId())).isEmpty();
+    }
+
+    @Test
+    void statelessFilterIgnoresRevokedTokens() throws Exception {
+        String token = tokenService.generateToken(user);
+        TokenRevocationList list = instance();
+        SecurityFilter filter = new SecurityFilter();
+        filter.tokenService = tokenService;
+        filter.repository = userRepository;
+        filter.revocationList = list;
+
+        assertThat(authenticate(filter, token)).isNotNull()
+                .extracting(Authentication::getPrincipal).isInstanceOf(TokenPrincipal.class);
+
+        SecurityContextHolder.clearContext();
+        instance().revoke(tokenService.verify(token));
+        list.refresh();
+
+        assertThat(authenticate(filter, token)).isNull();
+    }
+
+    private Authentication authenticate(SecurityFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/history");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
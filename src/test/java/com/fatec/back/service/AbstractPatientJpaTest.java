@@ -0,0 +1,81 @@
+package com.fatec.back.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.Medication.Medication;
+import com.fatec.back.domain.Patient.Patient;
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.User.User;
+
+/**
+ * Base dos testes de serviço com JPA, no banco H2 do perfil {@code test}.
+ * <p>
+ * Antes de cada teste é criado um paciente, com o seu usuário (que também é o autor dos registros),
+ * e um medicamento. As subclasses declaram os serviços testados com {@code @Import} e criam as
+ * prescrições e os históricos com os métodos auxiliares.
+ * </p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+abstract class AbstractPatientJpaTest {
+
+    @Autowired
+    protected TestEntityManager em;
+
+    protected Role role;
+    protected User user;
+    protected Patient patient;
+    protected Medication medication;
+
+    @BeforeEach
+    void seedPatient() {
+        role = em.persist(new Role("patient", "Paciente"));
+        user = user("patient@vital.com", "Paciente");
+        patient = patient(user);
+        medication = em.persist(new Medication("Medicamento", "Função"));
+    }
+
+    protected User user(String email, String name) {
+        return em.persist(new User(email, "hash", name, role));
+    }
+
+    protected Patient patient(User owner) {
+        Patient created = new Patient(LocalDate.of(1950, 1, 1), "Condição");
+        created.setUser(owner);
+        return em.persist(created);
+    }
+
+    /**
+     * Cria uma prescrição de uma dose a cada {@code everyHours} horas para o paciente do cenário.
+     */
+    protected RelationMP relationMP(int everyHours, LocalDate startDate, LocalDate endDate) {
+        return relationMP(patient, everyHours, startDate, endDate);
+    }
+
+    protected RelationMP relationMP(Patient owner, int everyHours, LocalDate startDate, LocalDate endDate) {
+        return em.persist(new RelationMP(1, everyHours, RelationMP.FrequencyUnit.HOURS, 30, medication, owner,
+                startDate, endDate));
+    }
+
+    /**
+     * Cria um histórico da prescrição, registrado pelo usuário do cenário.
+     */
+    protected History history(RelationMP relationMP, boolean taked, LocalDateTime takedAt) {
+        History history = new History(taked, takedAt);
+        history.setRelationMP(relationMP);
+        history.setCreatedBy(user);
+        history.setUpdatedBy(user);
+        return em.persist(history);
+    }
+}
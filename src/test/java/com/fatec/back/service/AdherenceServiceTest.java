@@ -0,0 +1,107 @@
+package com.fatec.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import com.fatec.back.domain.Adherence.AdherenceDayDTO;
+import com.fatec.back.domain.Adherence.AdherenceReportDTO;
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.RelationMP.RelationMP;
+
+@Import(AdherenceService.class)
+class AdherenceServiceTest extends AbstractPatientJpaTest {
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private AdherenceService service;
+
+    private RelationMP relationMP;
+
+    @BeforeEach
+    void seed() {
+        relationMP = relationMP(8, DAY.minusDays(5), DAY.plusDays(5));
+    }
+
+    private History history(boolean taked, int hour) {
+        return history(relationMP, taked, DAY.atTime(hour, 0));
+    }
+
+    @Test
+    void refreshCountsOnlyTakenDosesOfTheAffectedDay() {
+        History deleted = history(true, 16);
+        deleted.setDeleted(true);
+        List<History> histories = List.of(history(true, 0), history(true, 8), history(false, 16), deleted);
+
+        service.refresh(histories);
+
+        AdherenceReportDTO report = service.getPatientAdherence(patient.getId(), DAY.minusDays(1), DAY.plusDays(1));
+        assertThat(report.days()).containsExactly(new AdherenceDayDTO(DAY, 3L, 2L));
+        assertThat(report.expected()).isEqualTo(3);
+        assertThat(report.taken()).isEqualTo(2);
+    }
+
+    @Test
+    void refreshMovesADoseBetweenDays() {
+        History moved = history(true, 8);
+        service.refresh(List.of(moved));
+
+        History previous = new History(moved.isTaked(), moved.getTakedAt());
+        previous.setRelationMP(relationMP);
+        moved.setTakedAt(DAY.plusDays(1).atTime(8, 0));
+        service.refresh(List.of(previous, moved));
+
+        assertThat(service.getRelationMPAdherence(relationMP.getId(), DAY, DAY.plusDays(1)).days())
+                .containsExactly(new AdherenceDayDTO(DAY, 3L, 0L), new AdherenceDayDTO(DAY.plusDays(1), 3L, 1L));
+    }
+
+    @Test
+    void rebuildIncludesDaysWithoutHistory() {
+        history(true, 8);
+
+        service.rebuild(DAY.minusDays(7), DAY);
+
+        AdherenceReportDTO report = service.getPatientAdherence(patient.getId(), DAY.minusDays(7), DAY);
+        assertThat(report.days()).hasSize(6).first().isEqualTo(new AdherenceDayDTO(DAY.minusDays(5), 3L, 0L));
+        assertThat(report.expected()).isEqualTo(18);
+        assertThat(report.taken()).isEqualTo(1);
+    }
+
+    @Test
+    void refreshRelationMPZeroesTheDaysLeftOutOfAShortenedPrescription() {
+        service.rebuild(DAY.minusDays(5), DAY.plusDays(5));
+
+        relationMP.setEndDate(DAY);
+        service.refreshRelationMP(relationMP);
+
+        assertThat(service.getRelationMPAdherence(relationMP.getId(), DAY, DAY.plusDays(2)).days())
+                .containsExactly(new AdherenceDayDTO(DAY, 3L, 0L), new AdherenceDayDTO(DAY.plusDays(1), 0L, 0L),
+                        new AdherenceDayDTO(DAY.plusDays(2), 0L, 0L));
+    }
+
+    @Test
+    void deletedPrescriptionsAreZeroedByRefreshAndRebuild() {
+        history(true, 8);
+        service.rebuild(DAY, DAY);
+
+        relationMP.setDeleted(true);
+        service.refreshRelationMP(relationMP);
+        assertThat(service.getRelationMPAdherence(relationMP.getId(), DAY, DAY).days())
+                .containsExactly(new AdherenceDayDTO(DAY, 0L, 1L));
+
+        RelationMP other = relationMP(8, DAY, DAY);
+        service.rebuild(DAY, DAY);
+        other.setDeleted(true);
+        em.flush();
+        service.rebuild(DAY, DAY);
+
+        assertThat(service.getRelationMPAdherence(other.getId(), DAY, DAY).days())
+                .containsExactly(new AdherenceDayDTO(DAY, 0L, 0L));
+    }
+}
@@ -0,0 +1,138 @@
+package com.fatec.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fatec.back.domain.DoseSlot.DoseReminderDTO;
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+import com.fatec.back.domain.DoseSlot.DoseSlotsChangedEvent;
+import com.fatec.back.domain.MissedDose.MissedDose;
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.repository.DoseSlotRepository;
+import com.fatec.back.repository.HaveRepository;
+import com.fatec.back.repository.MissedDoseRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DoseReminderServiceTest extends AbstractPatientJpaTest {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Autowired
+    private DoseSlotRepository doseSlotRepository;
+
+    @Autowired
+    private MissedDoseRepository missedDoseRepository;
+
+    @Autowired
+    private HaveRepository haveRepository;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private DoseReminderService reminders;
+    private RelationMP relationMP;
+
+    @BeforeEach
+    void seed() {
+        relationMP = relationMP(2, NOW.toLocalDate().minusDays(1), NOW.toLocalDate().plusDays(1));
+        MedicationCatalog catalog = new MedicationCatalog();
+        catalog.replaceAll(List.of());
+        reminders = new DoseReminderService(doseSlotRepository, missedDoseRepository, haveRepository, catalog,
+                registry, Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofMinutes(30));
+    }
+
+    private DoseSlot slot(RelationMP owner, LocalDateTime dueAt) {
+        return em.persist(new DoseSlot(owner, dueAt));
+    }
+
+    private void missed(RelationMP owner, LocalDateTime dueAt) {
+        em.persist(new MissedDose(slot(owner, dueAt)));
+    }
+
+    private double events(String type) {
+        return registry.counter("reminder.events", "type", type).count();
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    @Test
+    void sendsDueRemindersAndKeepsTheDosesAheadScheduled() {
+        LocalDateTime now = LocalDateTime.now();
+        slot(relationMP, now.minusSeconds(30));
+        slot(relationMP, now.plusMinutes(30));
+        slot(relationMP, now.plusHours(3));
+        reminders.subscribePatient(patient.getId());
+
+        reminders.tick();
+
+        assertThat(events(DoseReminderDTO.DUE)).isEqualTo(1);
+        assertThat(gauge("reminder.scheduled")).isEqualTo(1);
+    }
+
+    @Test
+    void reloadsTheDosesOfARecalculatedPrescription() {
+        LocalDateTime now = LocalDateTime.now();
+        DoseSlot replaced = slot(relationMP, now.plusMinutes(30));
+        reminders.subscribePatient(patient.getId());
+        reminders.tick();
+        assertThat(gauge("reminder.scheduled")).isEqualTo(1);
+
+        em.remove(replaced);
+        slot(relationMP, now.plusMinutes(20));
+        slot(relationMP, now.plusMinutes(40));
+        reminders.onDoseSlotsChanged(new DoseSlotsChangedEvent(relationMP.getId(), patient.getId()));
+        reminders.tick();
+
+        assertThat(gauge("reminder.scheduled")).isEqualTo(2);
+    }
+
+    @Test
+    void dropsClosedStreamsAndTheDosesOfTheirPatients() {
+        slot(relationMP, LocalDateTime.now().plusMinutes(30));
+        SseEmitter emitter = reminders.subscribePatient(patient.getId());
+        reminders.tick();
+        assertThat(gauge("reminder.subscribers")).isEqualTo(1);
+        assertThat(gauge("reminder.scheduled")).isEqualTo(1);
+
+        emitter.complete();
+        reminders.tick();
+        reminders.tick();
+
+        assertThat(gauge("reminder.subscribers")).isZero();
+        assertThat(gauge("reminder.scheduled")).isZero();
+    }
+
+    @Test
+    void closesEveryOpenStreamOnShutdown() {
+        reminders.subscribePatient(patient.getId());
+        reminders.subscribePatient(patient.getId());
+
+        reminders.closeStreams();
+
+        assertThat(gauge("reminder.subscribers")).isZero();
+    }
+
+    @Test
+    void sendsMissedDosesRecordedSinceThePreviousTickToTheStreamsOfThePatient() {
+        missed(relationMP, NOW.minusHours(4));
+        reminders.tick();
+        reminders.subscribePatient(patient.getId());
+        missed(relationMP, NOW.minusHours(2));
+        missed(relationMP(patient(user("other@vital.com", "Outro")), 2, NOW.toLocalDate(), NOW.toLocalDate()),
+                NOW.minusHours(2));
+
+        reminders.tick();
+        reminders.tick();
+
+        assertThat(events(DoseReminderDTO.MISSED)).isEqualTo(1);
+    }
+}
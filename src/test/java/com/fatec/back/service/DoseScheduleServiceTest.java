@@ -0,0 +1,56 @@
+package com.fatec.back.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.domain.RelationMP.RelationMP.FrequencyUnit;
+
+class DoseScheduleServiceTest {
+
+    private RelationMP relation(int frequencyValue, FrequencyUnit unit, LocalDate start, LocalDate end) {
+        RelationMP relationMP = new RelationMP();
+        relationMP.setDosage(1);
+        relationMP.setFrequencyValue(frequencyValue);
+        relationMP.setFrequencyUnit(unit);
+        relationMP.setStartDate(start);
+        relationMP.setEndDate(end);
+        return relationMP;
+    }
+
+    @Test
+    void expandsWholePrescriptionLikeTotalDosage() {
+        RelationMP relationMP = relation(8, FrequencyUnit.HOURS, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2));
+
+        List<LocalDateTime> slots = DoseScheduleService.expand(relationMP,
+                LocalDateTime.of(2024, 12, 31, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0));
+
+        assertEquals(6, slots.size());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), slots.get(0));
+        assertEquals(LocalDateTime.of(2025, 1, 2, 16, 0), slots.get(5));
+    }
+
+    @Test
+    void expandsOnlyTheRequestedWindowOnTheGrid() {
+        RelationMP relationMP = relation(6, FrequencyUnit.HOURS, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10));
+
+        List<LocalDateTime> slots = DoseScheduleService.expand(relationMP,
+                LocalDateTime.of(2025, 1, 3, 7, 30), LocalDateTime.of(2025, 1, 4, 0, 0));
+
+        assertEquals(List.of(LocalDateTime.of(2025, 1, 3, 12, 0), LocalDateTime.of(2025, 1, 3, 18, 0)), slots);
+    }
+
+    @Test
+    void invalidFrequencyProducesNoSlots() {
+        RelationMP relationMP = relation(0, FrequencyUnit.DAYS, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10));
+
+        assertTrue(DoseScheduleService.expand(relationMP,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0)).isEmpty());
+    }
+}
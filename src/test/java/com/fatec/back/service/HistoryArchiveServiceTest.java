@@ -0,0 +1,91 @@
+package com.fatec.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.History.HistoryResponseDTO;
+import com.fatec.back.domain.Pagination.PageQuery;
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.repository.HistoryRepository;
+
+@Import(HistoryArchiveService.class)
+class HistoryArchiveServiceTest extends AbstractPatientJpaTest {
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private HistoryArchiveService service;
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    private RelationMP relationMP;
+
+    @BeforeEach
+    void seed() {
+        relationMP = relationMP(2, LocalDate.of(2024, 1, 1), LocalDate.of(2026, 1, 1));
+    }
+
+    private Long history(LocalDateTime createdAt) {
+        History history = history(relationMP, true, createdAt);
+        em.flush();
+        em.getEntityManager().createNativeQuery("UPDATE history SET created_at = ?1 WHERE id_history = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, history.getId())
+                .executeUpdate();
+        em.clear();
+        return history.getId();
+    }
+
+    @Test
+    void movesHistoriesCreatedBeforeTheCutoffInChunks() {
+        Long first = history(CUTOFF.minusMonths(2));
+        Long second = history(CUTOFF.minusDays(1));
+        Long kept = history(CUTOFF);
+
+        assertThat(service.archiveBefore(CUTOFF, 1)).isEqualTo(1);
+        assertThat(service.archiveBefore(CUTOFF, 1)).isEqualTo(1);
+        assertThat(service.archiveBefore(CUTOFF, 1)).isZero();
+
+        assertThat(historyRepository.findAll()).extracting(History::getId).containsExactly(kept);
+        assertThat(service.getArchivedHistoryPage(new PageQuery(null, null, null, null, null)).items())
+                .extracting(HistoryResponseDTO::id, HistoryResponseDTO::createdBy)
+                .containsExactly(tuple(first, user.getId()), tuple(second, user.getId()));
+        assertThat(service.getArchivedHistoryById(second)).hasValueSatisfying(dto -> {
+            assertThat(dto.relationMPId()).isEqualTo(relationMP.getId());
+            assertThat(dto.takedAt()).isEqualTo(CUTOFF.minusDays(1));
+        });
+    }
+
+    @Test
+    void copyKeepsTheHistoryAndSkipsRowsAlreadyArchived() {
+        Long id = history(CUTOFF.minusDays(1));
+
+        assertThat(service.copyBefore(CUTOFF, 0L, 10)).containsExactly(id);
+        assertThat(service.copyBefore(CUTOFF, 0L, 10)).containsExactly(id);
+
+        assertThat(historyRepository.existsById(id)).isTrue();
+        assertThat(service.getArchivedHistoryPage(new PageQuery(null, null, null, null, null)).size()).isEqualTo(1);
+    }
+
+    @Test
+    void referenceCheckCountsDanglingHistoriesCreatedSinceThePreviousCheck() {
+        history(CUTOFF.minusDays(2));
+        Long dangling = history(CUTOFF.minusDays(1));
+        em.getEntityManager().createNativeQuery("UPDATE history SET id_relation_mp = 999 WHERE id_history = ?1")
+                .setParameter(1, dangling)
+                .executeUpdate();
+
+        assertThat(service.checkReferences(CUTOFF)).isEqualTo(1);
+        assertThat(service.checkReferences(CUTOFF)).isZero();
+        assertThat(service.checkReferences(CUTOFF.plusDays(1))).isZero();
+    }
+}
@@ -0,0 +1,84 @@
+package com.fatec.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.History.HistoryArchive;
+import com.fatec.back.domain.History.HistoryExportFormat;
+import com.fatec.back.domain.RelationMP.RelationMP;
+
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(HistoryExportService.class)
+class HistoryExportServiceTest extends AbstractPatientJpaTest {
+    private static final LocalDateTime TAKED_AT = LocalDateTime.of(2025, 3, 10, 8, 0);
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private HistoryExportService service;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private RelationMP relationMP;
+
+    @BeforeEach
+    void seed() {
+        medication.setName("Dipirona \"500\", gotas");
+        relationMP = relationMP(2, START, END);
+        history(relationMP(patient(user("other@vital.com", "Outro")), 2, START, END), true, TAKED_AT);
+    }
+
+    private String export(HistoryExportFormat format) throws IOException {
+        em.flush();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportPatientHistory(patient.getId(), format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void exportsArchivedAndActiveHistoriesOfThePatientAsNdjson() throws IOException {
+        em.persist(new HistoryArchive(1L, false, null, relationMP.getId(), TAKED_AT.minusYears(2), null,
+                user.getId(), user.getId(), false, TAKED_AT));
+        History active = history(relationMP, true, TAKED_AT);
+
+        String[] lines = export(HistoryExportFormat.NDJSON).split("\n");
+
+        assertThat(lines).hasSize(2);
+        JsonNode archived = objectMapper.readTree(lines[0]);
+        assertThat(archived.get("id").asLong()).isEqualTo(1L);
+        assertThat(archived.get("taked").asBoolean()).isFalse();
+        JsonNode last = objectMapper.readTree(lines[1]);
+        assertThat(last.get("id").asLong()).isEqualTo(active.getId());
+        assertThat(last.get("patientId").asLong()).isEqualTo(patient.getId());
+        assertThat(last.get("takedAt").asText()).isEqualTo("2025-03-10T08:00:00");
+    }
+
+    @Test
+    void exportsCsvWithHeaderAndQuotedText() throws IOException {
+        History active = history(relationMP, true, TAKED_AT);
+
+        String[] lines = export(HistoryExportFormat.CSV).split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo(HistoryExportService.CSV_HEADER);
+        assertThat(lines[1]).startsWith(active.getId() + ",true,2025-03-10T08:00," + relationMP.getId() + ",")
+                .contains(",\"Dipirona \"\"500\"\", gotas\"," + patient.getId() + ",")
+                .endsWith("," + user.getId() + "," + user.getId() + ",false");
+    }
+}
@@ -0,0 +1,140 @@
+package com.fatec.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import com.fatec.back.domain.History.History;
+import com.fatec.back.domain.History.HistoryBatchResultDTO;
+import com.fatec.back.domain.History.HistoryDTO;
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.repository.HistoryRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Import({ HistoryService.class, AdherenceService.class })
+class HistoryJournalTest extends AbstractPatientJpaTest {
+    private static final LocalDateTime TAKED_AT = LocalDateTime.of(2025, 3, 10, 8, 0);
+
+    @Autowired
+    private HistoryService historyService;
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    @TempDir
+    private Path directory;
+
+    private RelationMP relationMP;
+
+    @BeforeEach
+    void seed() {
+        relationMP = relationMP(8, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 30));
+    }
+
+    private HistoryJournal journal() {
+        return new HistoryJournal(historyService, historyRepository, new SimpleMeterRegistry(), true,
+                directory.toString(), 2);
+    }
+
+    private HistoryDTO confirmation(int hour) {
+        return new HistoryDTO(true, TAKED_AT.withHour(hour), relationMP.getId(), user.getId());
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    @Test
+    void flushStoresEveryConfirmationAndDeletesTheSealedSegment() throws IOException {
+        HistoryJournal journal = journal();
+        journal.append(confirmation(8));
+        journal.append(confirmation(8));
+        journal.append(new HistoryDTO(false, null, relationMP.getId(), user.getId()));
+        journal.append(new HistoryDTO(false, null, relationMP.getId(), user.getId()));
+        journal.append(new HistoryDTO(true, TAKED_AT, relationMP.getId(), -1L));
+
+        journal.flush();
+
+        assertThat(historyRepository.count()).isEqualTo(4);
+        assertThat(historyRepository.findAll()).extracting(History::getJournalKey).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(segments()).hasSize(1);
+        assertThat(Files.size(segments().get(0))).isZero();
+    }
+
+    @Test
+    void recoversUnflushedRecordsSkippingTornLinesAndRecordsAlreadyStored() throws IOException {
+        HistoryJournal crashed = journal();
+        crashed.append(new HistoryDTO(false, null, relationMP.getId(), user.getId()));
+        crashed.append(new HistoryDTO(false, null, relationMP.getId(), user.getId()));
+        Path segment = segments().get(0);
+        HistoryJournal.Entry stored = HistoryJournal.decode(Files.readAllLines(segment).get(0));
+        historyService.createHistories(List.of(stored.history()), List.of(stored.key()));
+        Files.writeString(segment, UUID.randomUUID() + ";true;2025-03-10T16:00;" + relationMP.getId(),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        HistoryJournal recovered = journal();
+        recovered.flush();
+
+        assertThat(historyRepository.count()).isEqualTo(2);
+        assertThat(segments()).hasSize(1).doesNotContain(segment);
+    }
+
+    @Test
+    void retriesABatchThatFailedAfterBeingStoredWithoutDuplicatingIt() throws IOException {
+        HistoryService failingOnce = new HistoryService() {
+            private boolean failed;
+
+            @Override
+            public List<HistoryBatchResultDTO> createHistories(List<HistoryDTO> dtos, List<String> journalKeys) {
+                List<HistoryBatchResultDTO> results = historyService.createHistories(dtos, journalKeys);
+                if (!failed) {
+                    failed = true;
+                    throw new IllegalStateException("Conexão perdida depois do commit");
+                }
+                return results;
+            }
+        };
+        HistoryJournal journal = new HistoryJournal(failingOnce, historyRepository, new SimpleMeterRegistry(), true,
+                directory.toString(), 2);
+        journal.append(confirmation(8));
+        journal.append(confirmation(9));
+        journal.append(confirmation(10));
+
+        journal.flush();
+        assertThat(historyRepository.count()).isEqualTo(2);
+
+        journal.flush();
+
+        assertThat(historyRepository.count()).isEqualTo(3);
+        assertThat(historyRepository.findAll()).extracting(History::getJournalKey).doesNotHaveDuplicates();
+        assertThat(segments()).hasSize(1);
+    }
+
+    @Test
+    void decodeRejectsCorruptedLines() {
+        HistoryJournal.Entry entry = new HistoryJournal.Entry(UUID.randomUUID().toString(), confirmation(8));
+        String line = new String(HistoryJournal.encode(entry), StandardCharsets.UTF_8).strip();
+
+        assertThat(HistoryJournal.decode(line)).isEqualTo(entry);
+        assertThat(HistoryJournal.decode(line.replace("T08", "T09"))).isNull();
+        assertThat(HistoryJournal.decode(line.substring(0, line.length() - 3))).isNull();
+    }
+}
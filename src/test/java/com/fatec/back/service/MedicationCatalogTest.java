@@ -0,0 +1,74 @@
+package com.fatec.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fatec.back.domain.Medication.MedicationResponseDTO;
+import com.fatec.back.domain.Pagination.PageQuery;
+
+class MedicationCatalogTest {
+    private final MedicationCatalog catalog = new MedicationCatalog();
+
+    private static MedicationResponseDTO medication(long id, String name, String function, boolean deleted) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(id);
+        return new MedicationResponseDTO(id, name, function, createdAt, createdAt, null, null, deleted);
+    }
+
+    @BeforeEach
+    void load() {
+        catalog.replaceAll(List.of(
+                medication(1, "Paracetamol", "Analgésico e antitérmico", false),
+                medication(2, "Dipirona Sódica", "Analgésico", false),
+                medication(3, "Amoxicilina", "Antibiótico", false),
+                medication(4, "Ácido Acetilsalicílico", "Antiagregante plaquetário", false),
+                medication(5, "Losartana", "Anti-hipertensivo", true)));
+    }
+
+    private List<Long> search(String term) {
+        return catalog.search(term, null).stream().map(MedicationResponseDTO::id).toList();
+    }
+
+    @Test
+    void searchesByTrigramsIgnoringCaseAndAccents() {
+        assertThat(search("ACIDO")).containsExactly(4L);
+        assertThat(search("sodica")).containsExactly(2L);
+        assertThat(search("cetamo")).containsExactly(1L);
+    }
+
+    @Test
+    void ranksWordPrefixBeforeInnerAndFunctionMatches() {
+        assertThat(search("ace")).containsExactly(4L, 1L);
+        assertThat(search("anti")).containsExactly(4L, 3L, 1L);
+        assertThat(search("analg")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shortTermsMatchWordPrefixes() {
+        assertThat(search("a")).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(search("so")).containsExactly(2L);
+        assertThat(search("ol")).isEmpty();
+    }
+
+    @Test
+    void deletedMedicationsAreOnlyHiddenFromSearch() {
+        assertThat(search("losartana")).isEmpty();
+        assertThat(catalog.findById(5L)).isPresent();
+    }
+
+    @Test
+    void putReplacesTheIndexedEntry() {
+        catalog.put(medication(5, "Losartana Potássica", "Anti-hipertensivo", false));
+        catalog.put(medication(6, "Omeprazol", "Antiácido", false));
+
+        assertThat(search("potass")).containsExactly(5L);
+        assertThat(search("omepra")).containsExactly(6L);
+        assertThat(catalog.findPage(new PageQuery(null, 2, false, null, null)))
+                .extracting(MedicationResponseDTO::id)
+                .containsExactly(1L, 2L, 3L);
+    }
+}
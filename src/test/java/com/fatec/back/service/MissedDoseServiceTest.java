@@ -0,0 +1,94 @@
+package com.fatec.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import com.fatec.back.domain.Caregiver.Caregiver;
+import com.fatec.back.domain.DoseSlot.DoseSlot;
+import com.fatec.back.domain.Have.Have;
+import com.fatec.back.domain.JobWatermark.JobWatermark;
+import com.fatec.back.domain.MissedDose.MissedDose;
+import com.fatec.back.domain.MissedDose.MissedDoseResponseDTO;
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.User.User;
+import com.fatec.back.repository.MissedDoseRepository;
+
+@Import(MissedDoseService.class)
+class MissedDoseServiceTest extends AbstractPatientJpaTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    @Autowired
+    private MissedDoseService service;
+
+    @Autowired
+    private MissedDoseRepository missedDoseRepository;
+
+    private RelationMP relationMP;
+
+    @BeforeEach
+    void seed() {
+        relationMP = relationMP(2, NOW.toLocalDate().minusDays(5), NOW.toLocalDate().plusDays(5));
+    }
+
+    private DoseSlot slot(int hour) {
+        return em.persist(new DoseSlot(relationMP, NOW.toLocalDate().atTime(hour, 0)));
+    }
+
+    private void taken(LocalDateTime takedAt) {
+        history(relationMP, true, takedAt);
+    }
+
+    @Test
+    void detectsOnlySlotsWithoutTakenHistoryInChunksAndAdvancesTheWatermark() {
+        slot(6);
+        DoseSlot missed = slot(8);
+        slot(10);
+        slot(12);
+        taken(NOW.toLocalDate().atTime(6, 10));
+        taken(NOW.toLocalDate().atTime(9, 45));
+
+        assertThat(service.detectNext(NOW, 2)).isEqualTo(2);
+        assertThat(service.detectNext(NOW, 2)).isEqualTo(1);
+        assertThat(service.detectNext(NOW, 2)).isZero();
+
+        assertThat(missedDoseRepository.findAll()).extracting(MissedDose::getDoseSlotId).containsExactly(missed.getId());
+        JobWatermark watermark = em.find(JobWatermark.class, MissedDoseService.WATERMARK);
+        assertThat(watermark.getLastDueAt()).isEqualTo(NOW.toLocalDate().atTime(10, 0));
+    }
+
+    @Test
+    void nextRunExaminesOnlySlotsDueSinceTheWatermark() {
+        slot(8);
+        service.detectNext(NOW, 10);
+        slot(9);
+        slot(12);
+
+        assertThat(service.detectNext(NOW.plusHours(1), 10)).isEqualTo(2);
+        assertThat(missedDoseRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void caregiversSeeMissedDosesOfActivelyLinkedPatients() {
+        Role caregiverRole = em.persist(new Role("caregiver", "Cuidador"));
+        Caregiver caregiver = new Caregiver("Filho");
+        caregiver.setUser(em.persist(new User("caregiver@vital.com", "hash", "Cuidador", caregiverRole)));
+        em.persist(caregiver);
+        em.persist(new Have(LocalDate.now().minusDays(1), null, patient, caregiver));
+        slot(8);
+        service.detectNext(NOW, 10);
+
+        assertThat(service.getByCaregiver(caregiver.getId(), NOW.minusDays(1), null))
+                .extracting(MissedDoseResponseDTO::patientName, MissedDoseResponseDTO::medicationName, MissedDoseResponseDTO::dueAt)
+                .containsExactly(tuple("Paciente", "Medicamento", NOW.toLocalDate().atTime(8, 0)));
+        assertThat(service.getByPatient(patient.getId(), NOW, null)).isEmpty();
+    }
+}
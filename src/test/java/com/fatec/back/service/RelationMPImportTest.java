@@ -0,0 +1,95 @@
+package com.fatec.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import com.fatec.back.domain.RelationMP.RelationMP;
+import com.fatec.back.domain.RelationMP.RelationMP.FrequencyUnit;
+import com.fatec.back.domain.RelationMP.RelationMPDTO;
+import com.fatec.back.domain.RelationMP.RelationMPImportResultDTO;
+import com.fatec.back.repository.DoseSlotRepository;
+import com.fatec.back.repository.RelationMPRepository;
+
+@Import({ RelationMPService.class, DoseScheduleService.class, AdherenceService.class })
+class RelationMPImportTest extends AbstractPatientJpaTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private RelationMPService service;
+
+    @Autowired
+    private RelationMPRepository relationMPRepository;
+
+    @Autowired
+    private DoseSlotRepository doseSlotRepository;
+
+    @BeforeEach
+    void seed() {
+        em.flush();
+    }
+
+    private RelationMPDTO dto(Long medicationId, LocalDate endDate) {
+        return new RelationMPDTO(2, 12, FrequencyUnit.HOURS, medicationId, patient.getId(), TODAY, endDate, user.getId());
+    }
+
+    @Test
+    void importsAllItemsWithTotalDosageAndDoseSlots() {
+        List<RelationMPImportResultDTO> results = service.importRelationMPs(List.of(
+                dto(medication.getId(), TODAY.plusDays(1)),
+                new RelationMPDTO(1, 1, FrequencyUnit.DAYS, medication.getId(), patient.getId(), TODAY, TODAY.plusDays(9), user.getId())));
+
+        assertThat(results).allSatisfy(result -> assertThat(result.error()).isNull());
+        em.clear();
+        List<RelationMP> saved = relationMPRepository.findAllById(results.stream().map(RelationMPImportResultDTO::id).toList());
+        assertThat(saved).extracting(RelationMP::getTotalDosage).containsExactlyInAnyOrder(8, 10);
+        assertThat(doseSlotRepository.findLastDueAtByRelationMP(saved.stream().map(RelationMP::getId).toList())).hasSize(2);
+    }
+
+    @Test
+    void rejectsTheWholeImportWhenAnyItemIsInvalid() {
+        List<RelationMPImportResultDTO> results = service.importRelationMPs(List.of(
+                dto(medication.getId(), TODAY.plusDays(1)),
+                dto(999L, TODAY.plusDays(1)),
+                dto(medication.getId(), TODAY.minusDays(1))));
+
+        assertThat(results).extracting(RelationMPImportResultDTO::index, RelationMPImportResultDTO::id, RelationMPImportResultDTO::error)
+                .containsExactly(
+                        tuple(0, null, null),
+                        tuple(1, null, "Medicamento não encontrado"),
+                        tuple(2, null, "Campo endDate anterior a startDate"));
+        assertThat(relationMPRepository.count()).isZero();
+    }
+
+    @Test
+    void readsCsvColumnsByHeaderAndReportsUnreadableRows() throws IOException {
+        String csv = "userId,patient,medication,dosage,frequencyValue,frequencyUnit,startDate,endDate\n"
+                + user.getId() + "," + patient.getId() + "," + medication.getId() + ",1,8,hours," + TODAY + "," + TODAY + "\n"
+                + "\n"
+                + user.getId() + "," + patient.getId() + "," + medication.getId() + ",um,8,HOURS," + TODAY + "," + TODAY + "\n";
+
+        List<RelationMPImportResultDTO> results = service.importRelationMPsCsv(new StringReader(csv));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).error()).isNull();
+        assertThat(results.get(1).error()).startsWith("Valor inválido");
+        assertThat(relationMPRepository.count()).isZero();
+
+        assertThat(service.importRelationMPsCsv(new StringReader(csv.substring(0, csv.indexOf("\n\n") + 1))))
+                .extracting(RelationMPImportResultDTO::error)
+                .containsExactly((String) null);
+        assertThat(relationMPRepository.count()).isEqualTo(1);
+        assertThatThrownBy(() -> service.importRelationMPsCsv(new StringReader("dosage,patient\n1,1\n")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fatec.back.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    private TimerWheel<String> wheel() {
+        return new TimerWheel<>(ORIGIN, Duration.ofMinutes(1), 10);
+    }
+
+    @Test
+    void firesItemsOnTheFirstTickAtOrAfterTheirDeadline() {
+        TimerWheel<String> wheel = wheel();
+        wheel.schedule("exact", ORIGIN.plusMinutes(2));
+        wheel.schedule("between", ORIGIN.plusMinutes(2).plusSeconds(30));
+
+        assertTrue(wheel.advance(ORIGIN.plusMinutes(1).plusSeconds(59)).isEmpty());
+        assertEquals(List.of("exact"), wheel.advance(ORIGIN.plusMinutes(2)));
+        assertEquals(List.of("between"), wheel.advance(ORIGIN.plusMinutes(3)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void keepsItemsBeyondOneRevolutionUntilTheirTick() {
+        TimerWheel<String> wheel = wheel();
+        wheel.schedule("near", ORIGIN.plusMinutes(3));
+        wheel.schedule("far", ORIGIN.plusMinutes(13));
+
+        assertEquals(List.of("near"), wheel.advance(ORIGIN.plusMinutes(3)));
+        assertTrue(wheel.advance(ORIGIN.plusMinutes(12)).isEmpty());
+        assertEquals(List.of("far"), wheel.advance(ORIGIN.plusMinutes(13)));
+    }
+
+    @Test
+    void firesOverdueItemsAfterAPauseAndSkipsRemovedOnes() {
+        TimerWheel<String> wheel = wheel();
+        wheel.schedule("a", ORIGIN.plusMinutes(2));
+        wheel.schedule("b", ORIGIN.plusMinutes(5));
+        wheel.schedule("c", ORIGIN.plusMinutes(40));
+        wheel.removeIf("b"::equals);
+
+        assertEquals(List.of("a"), wheel.advance(ORIGIN.plusMinutes(30)));
+        wheel.schedule("late", ORIGIN.plusMinutes(20));
+        assertEquals(List.of("late"), wheel.advance(ORIGIN.plusMinutes(31)));
+        assertEquals(List.of("c"), wheel.advance(ORIGIN.plusMinutes(45)));
+    }
+}
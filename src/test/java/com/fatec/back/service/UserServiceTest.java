@@ -0,0 +1,86 @@
+package com.fatec.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fatec.back.domain.Role.Role;
+import com.fatec.back.domain.User.User;
+import com.fatec.back.security.PasswordHashingExecutor;
+import com.fatec.back.security.PrincipalCache;
+import com.fatec.back.security.RoleCache;
+import com.fatec.back.security.TokenRevocationList;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Import({ UserService.class, RoleCache.class, PrincipalCache.class, TokenRevocationList.class,
+        PasswordHashingExecutor.class, UserServiceTest.Infrastructure.class })
+class UserServiceTest extends AbstractPatientJpaTest {
+
+    @TestConfiguration
+    static class Infrastructure {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private UserService service;
+
+    @Autowired
+    private RoleCache roleCache;
+
+    @Test
+    void changingTheRoleRevokesTheTokensOfTheUser() {
+        Role caregiver = em.persist(new Role("caregiver", "Cuidador"));
+        roleCache.invalidate();
+
+        User updated = service.updateUSer(user.getId(), Map.of("role", caregiver.getId().toString()));
+
+        assertThat(updated.getRole().getId()).isEqualTo(caregiver.getId());
+        assertThat(updated.getTokenVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void changingThePasswordRevokesTheTokensOfTheUser() {
+        User updated = service.updateUSer(user.getId(), Map.of("password", "nova-senha"));
+
+        assertThat(updated.getPassword()).isNotEqualTo("nova-senha");
+        assertThat(updated.getTokenVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void changingOnlyTheNameKeepsTheIssuedTokens() {
+        User updated = service.updateUSer(user.getId(), Map.of("name", "Outro Nome"));
+
+        assertThat(updated.getName()).isEqualTo("Outro Nome");
+        assertThat(updated.getTokenVersion()).isZero();
+    }
+
+    @Test
+    void unknownRolesAreAnsweredFromTheLoadedRoles() {
+        roleCache.invalidate();
+        Role admin = em.persist(new Role("admin", "Administrador"));
+
+        assertThat(roleCache.findById(role.getId())).isPresent();
+        assertThat(roleCache.findById(admin.getId())).isEmpty();
+        assertThatThrownBy(() -> service.updateUSer(user.getId(), Map.of("role", admin.getId())))
+                .hasMessage("Role não encontrada");
+    }
+}